@@ -25,6 +25,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api")
@@ -94,7 +95,10 @@ public class AuthController {
     }
 
     private JwtResponseDTO generateResponse(AppUser appUser) {
-        String token = this.tokenService.generateToken(new HashMap<>(), appUser.getId().toString());
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(JwtTokenService.USERNAME_CLAIM, appUser.getUsername());
+
+        String token = this.tokenService.generateToken(claims, appUser.getId().toString());
         Date expiresAt = this.tokenService.getTokenExpirationDate(token);
 
         return new JwtResponseDTO(token, appUser.getUsername(), expiresAt);
@@ -17,7 +17,7 @@ public class AppUser {
     }
 
     @Id
-    @SequenceGenerator(name = "appuser_id_sequence", sequenceName = "appuser_id_sequence")
+    @SequenceGenerator(name = "appuser_id_sequence", sequenceName = "appuser_id_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appuser_id_sequence")
     private Long id;
 
@@ -6,11 +6,14 @@ import org.springframework.stereotype.Component;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 public class JwtTokenService {
 
+    public static final String USERNAME_CLAIM = "username";
+
     private static final Long JWT_TOKEN_DURATION = 5L * 60L * 60L;
 
     private static final String SECRET_KEY = "test";
@@ -23,6 +26,7 @@ public class JwtTokenService {
         return Jwts
                 .builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + JWT_TOKEN_DURATION * 1000))
@@ -34,6 +34,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @WebMvcTest(AuthController.class)
 @AutoConfigureMockMvc(addFilters = false)
@@ -94,6 +95,10 @@ class AuthControllerTest {
                         jsonPath("$.token", equalTo("jwttokentest"))
                 );
 
+        Mockito
+                .verify(this.tokenService)
+                .generateToken(Map.of(JwtTokenService.USERNAME_CLAIM, appUser.getUsername()), "1");
+
     }
 
     @Test
@@ -1,5 +1,6 @@
 package com.medialistmaker.appuser.utils;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +10,7 @@ import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -53,4 +55,24 @@ class JwtTokenServiceTest {
         assertNotNull(this.tokenService.getTokenExpirationDate(token));
 
     }
+
+    @Test
+    void givenIdentityClaimsWhenGenerateTokenShouldEmbedThemWithSubjectAndTokenId() {
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(JwtTokenService.USERNAME_CLAIM, "username");
+
+        String token = this.tokenService.generateToken(claims, "1");
+
+        Claims tokenClaims = Jwts
+                .parser()
+                .setSigningKey(SECRET_KEY.getBytes(StandardCharsets.UTF_8))
+                .parseClaimsJws(token)
+                .getBody();
+
+        assertEquals("1", tokenClaims.getSubject());
+        assertEquals("username", tokenClaims.get(JwtTokenService.USERNAME_CLAIM, String.class));
+        assertNotNull(tokenClaims.getId());
+        assertNotNull(tokenClaims.getIssuedAt());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.medialistmaker.gateway.filter;
+
+import com.medialistmaker.gateway.utils.IdentityHeaderSigner;
+import com.medialistmaker.gateway.utils.JwtTokenService;
+import com.medialistmaker.gateway.utils.TokenClaims;
+import com.medialistmaker.gateway.utils.VerifiedTokenCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+
+@Component
+public class JwtAuthenticationGlobalFilter implements GlobalFilter, Ordered {
+
+    public static final String USER_ID_HEADER = "X-User-Id";
+
+    public static final String USER_EXPIRES_AT_HEADER = "X-User-Expires-At";
+
+    public static final String USER_SIGNATURE_HEADER = "X-User-Signature";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenService tokenService;
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final IdentityHeaderSigner identityHeaderSigner;
+
+    private final Set<String> securedRouteIds;
+
+    private final Set<String> authenticationRequiredRouteIds;
+
+    public JwtAuthenticationGlobalFilter(
+            JwtTokenService tokenService,
+            VerifiedTokenCache verifiedTokenCache,
+            IdentityHeaderSigner identityHeaderSigner,
+            @Value("${gateway.auth.route-ids:list,movie,music,movie-catalog,music-catalog}") String[] securedRouteIds,
+            @Value("${gateway.auth.required-route-ids:list}") String[] authenticationRequiredRouteIds
+    ) {
+        this.tokenService = tokenService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.identityHeaderSigner = identityHeaderSigner;
+        this.securedRouteIds = new HashSet<>(Arrays.asList(securedRouteIds));
+        this.authenticationRequiredRouteIds = new HashSet<>(Arrays.asList(authenticationRequiredRouteIds));
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+
+        if(isNull(route) || Boolean.FALSE.equals(this.securedRouteIds.contains(route.getId()))) {
+            return chain.filter(exchange);
+        }
+
+        //Identity headers are only trusted downstream when they come from this filter
+        ServerHttpRequest.Builder request = exchange
+                .getRequest()
+                .mutate()
+                .headers(headers -> {
+                    headers.remove(USER_ID_HEADER);
+                    headers.remove(USER_EXPIRES_AT_HEADER);
+                    headers.remove(USER_SIGNATURE_HEADER);
+                });
+
+        String authorizationHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        if(isNull(authorizationHeader) || Boolean.FALSE.equals(authorizationHeader.startsWith(BEARER_PREFIX))) {
+            return chain.filter(exchange.mutate().request(request.build()).build());
+        }
+
+        TokenClaims tokenClaims = this.authenticate(authorizationHeader.substring(BEARER_PREFIX.length()));
+
+        if(isNull(tokenClaims) && this.authenticationRequiredRouteIds.contains(route.getId())) {
+            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+            return exchange.getResponse().setComplete();
+        }
+
+        if(isNull(tokenClaims)) {
+            return chain.filter(exchange.mutate().request(request.build()).build());
+        }
+
+        Long expiresAt = tokenClaims.expiresAt().getEpochSecond();
+
+        request.headers(headers -> {
+            headers.set(USER_ID_HEADER, tokenClaims.subject());
+            headers.set(USER_EXPIRES_AT_HEADER, expiresAt.toString());
+            headers.set(USER_SIGNATURE_HEADER, this.identityHeaderSigner.sign(tokenClaims.subject(), expiresAt));
+        });
+
+        return chain.filter(exchange.mutate().request(request.build()).build());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private TokenClaims authenticate(String token) {
+
+        TokenClaims tokenClaims = this.verifiedTokenCache.getIfPresent(token);
+
+        if(isNull(tokenClaims)) {
+            tokenClaims = this.tokenService.verify(token);
+
+            if(isNull(tokenClaims)) {
+                return null;
+            }
+
+            this.verifiedTokenCache.put(token, tokenClaims);
+        }
+
+        return tokenClaims;
+    }
+}
@@ -0,0 +1,271 @@
+package com.medialistmaker.gateway.filter;
+
+import com.medialistmaker.gateway.utils.CachedResponse;
+import com.medialistmaker.gateway.utils.ResponseCache;
+import lombok.Getter;
+import lombok.Setter;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@Component
+public class ResponseCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+
+    private static final Pattern MAX_AGE_PATTERN = Pattern.compile("max-age=(\\d+)");
+
+    private static final List<String> UNCACHEABLE_RESPONSE_DIRECTIVES = List.of("no-store", "no-cache", "private");
+
+    private static final List<String> UNCACHED_HEADERS = List.of(
+            HttpHeaders.CACHE_CONTROL,
+            HttpHeaders.CONNECTION,
+            HttpHeaders.CONTENT_LENGTH,
+            HttpHeaders.DATE,
+            HttpHeaders.ETAG,
+            HttpHeaders.TRANSFER_ENCODING,
+            HttpHeaders.VARY
+    );
+
+    //CORS headers are set per request origin before this filter runs, they must never be replayed from the cache
+    private static final String UNCACHED_HEADER_PREFIX = "Access-Control-";
+
+    private final ResponseCache responseCache;
+
+    public ResponseCacheGatewayFilterFactory(ResponseCache responseCache) {
+        super(Config.class);
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("timeToLive");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        //Must decorate the response before NettyWriteResponseFilter writes the backend body
+        return new OrderedGatewayFilter(
+                (exchange, chain) -> this.filter(exchange, chain, config.getTimeToLive()),
+                NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1
+        );
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain, Duration timeToLive) {
+
+        ServerHttpRequest request = exchange.getRequest();
+
+        if(Boolean.FALSE.equals(HttpMethod.GET.equals(request.getMethod()))
+                || Boolean.TRUE.equals(this.hasDirective(request.getHeaders(), List.of("no-store")))) {
+            return chain.filter(exchange);
+        }
+
+        String key = this.getKey(request);
+
+        if(Boolean.FALSE.equals(this.hasDirective(request.getHeaders(), List.of("no-cache")))) {
+
+            CachedResponse cachedResponse = this.responseCache.getIfPresent(key);
+
+            if(nonNull(cachedResponse)) {
+                return this.writeCachedResponse(exchange, cachedResponse);
+            }
+        }
+
+        return chain.filter(
+                exchange
+                        .mutate()
+                        .response(new CachingResponseDecorator(exchange, key, timeToLive))
+                        .build()
+        );
+    }
+
+    private Mono<Void> writeCachedResponse(ServerWebExchange exchange, CachedResponse cachedResponse) {
+
+        ServerHttpResponse response = exchange.getResponse();
+        cachedResponse.headers().forEach(response.getHeaders()::putIfAbsent);
+        this.setValidators(response.getHeaders(), cachedResponse);
+
+        if(Boolean.TRUE.equals(this.isNotModified(exchange.getRequest(), cachedResponse))) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(cachedResponse.statusCode());
+        response.getHeaders().setContentLength(cachedResponse.body().length);
+
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cachedResponse.body())));
+    }
+
+    private String getKey(ServerHttpRequest request) {
+
+        String query = request.getURI().getRawQuery();
+
+        return isNull(query) ? request.getURI().getRawPath() : request.getURI().getRawPath() + "?" + query;
+    }
+
+    private void setValidators(HttpHeaders headers, CachedResponse cachedResponse) {
+        headers.setETag(cachedResponse.eTag());
+        headers.setCacheControl(CacheControl.maxAge(cachedResponse.getRemainingSeconds(), TimeUnit.SECONDS));
+    }
+
+    private Boolean isNotModified(ServerHttpRequest request, CachedResponse cachedResponse) {
+
+        List<String> ifNoneMatch = request.getHeaders().getIfNoneMatch();
+
+        return ifNoneMatch.contains("*") || ifNoneMatch.contains(cachedResponse.eTag());
+    }
+
+    private Boolean hasDirective(HttpHeaders headers, List<String> directives) {
+
+        String cacheControl = headers.getCacheControl();
+
+        if(isNull(cacheControl)) {
+            return false;
+        }
+
+        return directives.stream().anyMatch(cacheControl::contains);
+    }
+
+    private Duration getTimeToLive(HttpHeaders headers, Duration timeToLive) {
+
+        String cacheControl = headers.getCacheControl();
+
+        if(isNull(cacheControl)) {
+            return timeToLive;
+        }
+
+        Matcher matcher = MAX_AGE_PATTERN.matcher(cacheControl);
+
+        if(Boolean.FALSE.equals(matcher.find())) {
+            return timeToLive;
+        }
+
+        Duration maxAge = Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+
+        return maxAge.compareTo(timeToLive) < 0 ? maxAge : timeToLive;
+    }
+
+    private Boolean isCachedHeader(String name) {
+        return UNCACHED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)
+                && Boolean.FALSE.equals(name.regionMatches(true, 0, UNCACHED_HEADER_PREFIX, 0, UNCACHED_HEADER_PREFIX.length()));
+    }
+
+    private String generateETag(byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return "\"" + HexFormat.of().formatHex(digest.digest(body)).substring(0, 32) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private class CachingResponseDecorator extends ServerHttpResponseDecorator {
+
+        private final ServerHttpRequest request;
+
+        private final String key;
+
+        private final Duration timeToLive;
+
+        CachingResponseDecorator(ServerWebExchange exchange, String key, Duration timeToLive) {
+            super(exchange.getResponse());
+            this.request = exchange.getRequest();
+            this.key = key;
+            this.timeToLive = timeToLive;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+
+            if(Boolean.FALSE.equals(this.isCacheable())) {
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils
+                    .join(Flux.from(body))
+                    .flatMap(dataBuffer -> {
+
+                        byte[] content = new byte[dataBuffer.readableByteCount()];
+                        dataBuffer.read(content);
+                        DataBufferUtils.release(dataBuffer);
+
+                        CachedResponse cachedResponse = this.cache(content);
+
+                        if(Boolean.TRUE.equals(isNotModified(this.request, cachedResponse))) {
+                            this.setStatusCode(HttpStatus.NOT_MODIFIED);
+                            this.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                            return this.getDelegate().setComplete();
+                        }
+
+                        return super.writeWith(Mono.just(this.bufferFactory().wrap(content)));
+                    })
+                    .switchIfEmpty(Mono.defer(() -> super.writeWith(Flux.empty())));
+        }
+
+        private CachedResponse cache(byte[] content) {
+
+            HttpHeaders headers = new HttpHeaders();
+            this.getHeaders().forEach((name, values) -> {
+                if(Boolean.TRUE.equals(isCachedHeader(name))) {
+                    headers.addAll(name, values);
+                }
+            });
+
+            String eTag = this.getHeaders().getETag();
+
+            CachedResponse cachedResponse = new CachedResponse(
+                    this.getStatusCode(),
+                    headers,
+                    content,
+                    isNull(eTag) ? generateETag(content) : eTag,
+                    Instant.now().plus(getTimeToLive(this.getHeaders(), this.timeToLive))
+            );
+
+            responseCache.put(this.key, cachedResponse);
+            setValidators(this.getHeaders(), cachedResponse);
+
+            return cachedResponse;
+        }
+
+        private Boolean isCacheable() {
+            return nonNull(this.getStatusCode())
+                    && this.getStatusCode().value() == HttpStatus.OK.value()
+                    && Boolean.FALSE.equals(this.getHeaders().containsKey(HttpHeaders.SET_COOKIE))
+                    && Boolean.FALSE.equals(hasDirective(this.getHeaders(), UNCACHEABLE_RESPONSE_DIRECTIVES));
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        private Duration timeToLive = Duration.ofMinutes(5);
+    }
+}
@@ -0,0 +1,92 @@
+package com.medialistmaker.gateway.filter;
+
+import com.medialistmaker.gateway.utils.TokenBucketLimit;
+import com.medialistmaker.gateway.utils.TokenBucketProbe;
+import com.medialistmaker.gateway.utils.TokenBucketStore;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNullElse;
+
+@Component
+public class TokenBucketRateLimiter extends AbstractRateLimiter<TokenBucketRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "token-bucket-rate-limiter";
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    public static final String CAPACITY_HEADER = "X-RateLimit-Capacity";
+
+    private final TokenBucketStore tokenBucketStore;
+
+    private final Config defaultConfig;
+
+    public TokenBucketRateLimiter(
+            TokenBucketStore tokenBucketStore,
+            ConfigurationService configurationService,
+            @Value("${gateway.rate-limiter.default.capacity:20}") Long capacity,
+            @Value("${gateway.rate-limiter.default.refill-tokens:10}") Long refillTokens,
+            @Value("${gateway.rate-limiter.default.refill-period:1s}") Duration refillPeriod
+    ) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.tokenBucketStore = tokenBucketStore;
+        this.defaultConfig = new Config();
+        this.defaultConfig.setCapacity(capacity);
+        this.defaultConfig.setRefillTokens(refillTokens);
+        this.defaultConfig.setRefillPeriod(refillPeriod);
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+
+        Config config = this.getConfig().getOrDefault(routeId, this.defaultConfig).withDefaults(this.defaultConfig);
+
+        //Buckets are scoped by route so each upstream quota is shared separately
+        TokenBucketProbe probe = this.tokenBucketStore.tryConsume(routeId + ":" + id, config.toLimit());
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put(REMAINING_HEADER, probe.remainingTokens().toString());
+        headers.put(CAPACITY_HEADER, config.getCapacity().toString());
+
+        if(Boolean.FALSE.equals(probe.consumed())) {
+            headers.put(HttpHeaders.RETRY_AFTER, probe.retryAfterSeconds().toString());
+        }
+
+        return Mono.just(new Response(probe.consumed(), headers));
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        private Long capacity;
+
+        private Long refillTokens;
+
+        private Duration refillPeriod;
+
+        Config withDefaults(Config defaultConfig) {
+
+            Config config = new Config();
+            config.setCapacity(requireNonNullElse(this.capacity, defaultConfig.getCapacity()));
+            config.setRefillTokens(requireNonNullElse(this.refillTokens, defaultConfig.getRefillTokens()));
+            config.setRefillPeriod(requireNonNullElse(this.refillPeriod, defaultConfig.getRefillPeriod()));
+
+            return config;
+        }
+
+        TokenBucketLimit toLimit() {
+            return new TokenBucketLimit(this.capacity, this.refillTokens, this.refillPeriod);
+        }
+    }
+}
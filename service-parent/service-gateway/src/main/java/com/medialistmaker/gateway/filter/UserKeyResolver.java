@@ -0,0 +1,36 @@
+package com.medialistmaker.gateway.filter;
+
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@Component
+public class UserKeyResolver implements KeyResolver {
+
+    private static final String ANONYMOUS_KEY = "anonymous";
+
+    @Override
+    public Mono<String> resolve(ServerWebExchange exchange) {
+
+        //Only trusted because JwtAuthenticationGlobalFilter strips client supplied identity headers
+        String userId = exchange.getRequest().getHeaders().getFirst(JwtAuthenticationGlobalFilter.USER_ID_HEADER);
+
+        if(nonNull(userId)) {
+            return Mono.just("user:" + userId);
+        }
+
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+
+        if(isNull(remoteAddress) || isNull(remoteAddress.getAddress())) {
+            return Mono.just(ANONYMOUS_KEY);
+        }
+
+        return Mono.just("ip:" + remoteAddress.getAddress().getHostAddress());
+    }
+}
@@ -0,0 +1,17 @@
+package com.medialistmaker.gateway.utils;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+import java.time.Instant;
+
+public record CachedResponse(HttpStatusCode statusCode, HttpHeaders headers, byte[] body, String eTag, Instant expiresAt) {
+
+    public Boolean isExpired() {
+        return Boolean.FALSE.equals(this.expiresAt.isAfter(Instant.now()));
+    }
+
+    public Long getRemainingSeconds() {
+        return Math.max(0, this.expiresAt.getEpochSecond() - Instant.now().getEpochSecond());
+    }
+}
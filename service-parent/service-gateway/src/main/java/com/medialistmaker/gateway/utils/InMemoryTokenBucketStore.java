@@ -0,0 +1,66 @@
+package com.medialistmaker.gateway.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class InMemoryTokenBucketStore implements TokenBucketStore {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public InMemoryTokenBucketStore(
+            @Value("${gateway.rate-limiter.store.maximum-size:100000}") Long maximumSize,
+            @Value("${gateway.rate-limiter.store.expire-after-access:1h}") Duration expireAfterAccess
+    ) {
+        this.buckets = Caffeine
+                .newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    @Override
+    public TokenBucketProbe tryConsume(String key, TokenBucketLimit limit) {
+
+        long now = System.nanoTime();
+
+        return this.buckets
+                .get(key, bucketKey -> new TokenBucket(limit.capacity(), now))
+                .tryConsume(limit, now);
+    }
+
+    private static class TokenBucket {
+
+        private double tokens;
+
+        private long lastRefillNanos;
+
+        TokenBucket(long capacity, long now) {
+            this.tokens = capacity;
+            this.lastRefillNanos = now;
+        }
+
+        synchronized TokenBucketProbe tryConsume(TokenBucketLimit limit, long now) {
+
+            double refillTokensPerNano = limit.getRefillTokensPerNano();
+
+            this.tokens = Math.min(limit.capacity(), this.tokens + (now - this.lastRefillNanos) * refillTokensPerNano);
+            this.lastRefillNanos = now;
+
+            if(this.tokens >= 1) {
+                this.tokens -= 1;
+                return new TokenBucketProbe(true, (long) this.tokens, 0L);
+            }
+
+            double nanosToWait = (1 - this.tokens) / refillTokensPerNano;
+            long retryAfterSeconds = (long) Math.ceil(nanosToWait / TimeUnit.SECONDS.toNanos(1));
+
+            return new TokenBucketProbe(false, 0L, Math.max(1, retryAfterSeconds));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.medialistmaker.gateway.utils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+import static java.util.Objects.isNull;
+
+@Component
+public class JwtTokenService {
+
+    private static final String SECRET_KEY = "test";
+
+    public TokenClaims verify(String token) {
+
+        Claims claims;
+
+        try {
+            claims = Jwts
+                    .parser()
+                    .setSigningKey(SECRET_KEY.getBytes(StandardCharsets.UTF_8))
+                    .parseClaimsJws(token)
+                    .getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+
+        if(isNull(claims.getSubject()) || isNull(claims.getExpiration())) {
+            return null;
+        }
+
+        TokenClaims tokenClaims = new TokenClaims(claims.getSubject(), claims.getExpiration().toInstant());
+
+        return Boolean.TRUE.equals(tokenClaims.isExpired()) ? null : tokenClaims;
+    }
+}
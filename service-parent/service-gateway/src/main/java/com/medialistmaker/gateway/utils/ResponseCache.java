@@ -0,0 +1,69 @@
+package com.medialistmaker.gateway.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ResponseCache {
+
+    public static final String CACHE_NAME = "gatewayResponses";
+
+    private final Cache<String, CachedResponse> responses;
+
+    public ResponseCache(
+            @Value("${gateway.response-cache.maximum-size:50MB}") DataSize maximumSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.responses = Caffeine
+                .newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .weigher((String key, CachedResponse cachedResponse) -> key.length() + cachedResponse.body().length)
+                .expireAfter(new ResponseExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.responses, CACHE_NAME);
+    }
+
+    public CachedResponse getIfPresent(String key) {
+        return this.responses.getIfPresent(key);
+    }
+
+    public void put(String key, CachedResponse cachedResponse) {
+
+        if(Boolean.TRUE.equals(cachedResponse.isExpired())) {
+            return;
+        }
+
+        this.responses.put(key, cachedResponse);
+    }
+
+    private static class ResponseExpiry implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse cachedResponse, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(
+                    Math.max(0, cachedResponse.expiresAt().toEpochMilli() - Instant.now().toEpochMilli())
+            );
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse cachedResponse, long currentTime, long currentDuration) {
+            return this.expireAfterCreate(key, cachedResponse, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse cachedResponse, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.medialistmaker.gateway.utils;
+
+import java.time.Duration;
+
+public record TokenBucketLimit(Long capacity, Long refillTokens, Duration refillPeriod) {
+
+    public Double getRefillTokensPerNano() {
+        return (double) this.refillTokens / this.refillPeriod.toNanos();
+    }
+}
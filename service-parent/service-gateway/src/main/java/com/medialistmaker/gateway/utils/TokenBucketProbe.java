@@ -0,0 +1,4 @@
+package com.medialistmaker.gateway.utils;
+
+public record TokenBucketProbe(Boolean consumed, Long remainingTokens, Long retryAfterSeconds) {
+}
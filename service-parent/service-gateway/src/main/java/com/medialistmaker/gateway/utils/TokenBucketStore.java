@@ -0,0 +1,6 @@
+package com.medialistmaker.gateway.utils;
+
+public interface TokenBucketStore {
+
+    TokenBucketProbe tryConsume(String key, TokenBucketLimit limit);
+}
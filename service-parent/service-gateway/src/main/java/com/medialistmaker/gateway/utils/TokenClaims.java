@@ -0,0 +1,10 @@
+package com.medialistmaker.gateway.utils;
+
+import java.time.Instant;
+
+public record TokenClaims(String subject, Instant expiresAt) {
+
+    public Boolean isExpired() {
+        return Boolean.FALSE.equals(this.expiresAt.isAfter(Instant.now()));
+    }
+}
@@ -0,0 +1,183 @@
+package com.medialistmaker.gateway.filter;
+
+import com.medialistmaker.gateway.utils.IdentityHeaderSigner;
+import com.medialistmaker.gateway.utils.JwtTokenService;
+import com.medialistmaker.gateway.utils.VerifiedTokenCache;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtAuthenticationGlobalFilterTest {
+
+    private JwtAuthenticationGlobalFilter filter;
+
+    private IdentityHeaderSigner identityHeaderSigner;
+
+    private AtomicReference<ServerWebExchange> forwardedExchange;
+
+    private GatewayFilterChain chain;
+
+    @BeforeEach
+    void beforeAllTests() {
+        this.identityHeaderSigner = new IdentityHeaderSigner("secret");
+        this.filter = new JwtAuthenticationGlobalFilter(
+                new JwtTokenService(),
+                new VerifiedTokenCache(100L),
+                this.identityHeaderSigner,
+                new String[]{"list", "movie", "music"},
+                new String[]{"list"}
+        );
+        this.forwardedExchange = new AtomicReference<>();
+        this.chain = exchange -> {
+            this.forwardedExchange.set(exchange);
+            return Mono.empty();
+        };
+    }
+
+    @Test
+    void givenValidTokenWhenFilterShouldForwardSignedIdentityHeaders() {
+
+        Date expirationDate = new Date(System.currentTimeMillis() + 60000);
+
+        MockServerWebExchange exchange = this.getExchange(
+                "list",
+                MockServerHttpRequest
+                        .get("/api/lists/movies")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + this.generateToken("1", expirationDate, "test"))
+        );
+
+        this.filter.filter(exchange, this.chain).block();
+
+        HttpHeaders forwardedHeaders = this.forwardedExchange.get().getRequest().getHeaders();
+        Long expiresAt = expirationDate.getTime() / 1000;
+
+        assertEquals("1", forwardedHeaders.getFirst(JwtAuthenticationGlobalFilter.USER_ID_HEADER));
+        assertEquals(expiresAt.toString(), forwardedHeaders.getFirst(JwtAuthenticationGlobalFilter.USER_EXPIRES_AT_HEADER));
+        assertEquals(
+                this.identityHeaderSigner.sign("1", expiresAt),
+                forwardedHeaders.getFirst(JwtAuthenticationGlobalFilter.USER_SIGNATURE_HEADER)
+        );
+    }
+
+    @Test
+    void givenInvalidTokenWhenFilterShouldReturnUnauthorized() {
+
+        MockServerWebExchange exchange = this.getExchange(
+                "list",
+                MockServerHttpRequest
+                        .get("/api/lists/movies")
+                        .header(
+                                HttpHeaders.AUTHORIZATION,
+                                "Bearer " + this.generateToken("1", new Date(System.currentTimeMillis() + 60000), "other")
+                        )
+        );
+
+        this.filter.filter(exchange, this.chain).block();
+
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        assertNull(this.forwardedExchange.get());
+    }
+
+    @Test
+    void givenInvalidTokenOnPublicRouteWhenFilterShouldForwardRequestWithoutIdentityHeaders() {
+
+        MockServerWebExchange exchange = this.getExchange(
+                "movie",
+                MockServerHttpRequest
+                        .get("/api/movies/1")
+                        .header(
+                                HttpHeaders.AUTHORIZATION,
+                                "Bearer " + this.generateToken("1", new Date(System.currentTimeMillis() - 60000), "test")
+                        )
+                        .header(JwtAuthenticationGlobalFilter.USER_ID_HEADER, "1")
+                        .header(JwtAuthenticationGlobalFilter.USER_SIGNATURE_HEADER, "forged")
+        );
+
+        this.filter.filter(exchange, this.chain).block();
+
+        assertNotNull(this.forwardedExchange.get());
+        assertNull(exchange.getResponse().getStatusCode());
+
+        HttpHeaders forwardedHeaders = this.forwardedExchange.get().getRequest().getHeaders();
+
+        assertFalse(forwardedHeaders.containsKey(JwtAuthenticationGlobalFilter.USER_ID_HEADER));
+        assertFalse(forwardedHeaders.containsKey(JwtAuthenticationGlobalFilter.USER_EXPIRES_AT_HEADER));
+        assertFalse(forwardedHeaders.containsKey(JwtAuthenticationGlobalFilter.USER_SIGNATURE_HEADER));
+    }
+
+    @Test
+    void givenClientIdentityHeadersWithoutTokenWhenFilterShouldStripThem() {
+
+        MockServerWebExchange exchange = this.getExchange(
+                "movie",
+                MockServerHttpRequest
+                        .get("/api/movies/1")
+                        .header(JwtAuthenticationGlobalFilter.USER_ID_HEADER, "1")
+                        .header(JwtAuthenticationGlobalFilter.USER_EXPIRES_AT_HEADER, "4102444800")
+                        .header(JwtAuthenticationGlobalFilter.USER_SIGNATURE_HEADER, "forged")
+        );
+
+        this.filter.filter(exchange, this.chain).block();
+
+        HttpHeaders forwardedHeaders = this.forwardedExchange.get().getRequest().getHeaders();
+
+        assertFalse(forwardedHeaders.containsKey(JwtAuthenticationGlobalFilter.USER_ID_HEADER));
+        assertFalse(forwardedHeaders.containsKey(JwtAuthenticationGlobalFilter.USER_EXPIRES_AT_HEADER));
+        assertFalse(forwardedHeaders.containsKey(JwtAuthenticationGlobalFilter.USER_SIGNATURE_HEADER));
+    }
+
+    @Test
+    void givenUnsecuredRouteWhenFilterShouldForwardRequestUntouched() {
+
+        MockServerWebExchange exchange = this.getExchange(
+                "appuser",
+                MockServerHttpRequest.post("/api/login").header(HttpHeaders.AUTHORIZATION, "Bearer invalid")
+        );
+
+        this.filter.filter(exchange, this.chain).block();
+
+        assertSame(exchange, this.forwardedExchange.get());
+    }
+
+    private MockServerWebExchange getExchange(String routeId, MockServerHttpRequest.BaseBuilder<?> request) {
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+        Route route = Route
+                .async()
+                .id(routeId)
+                .uri("lb://" + routeId.toUpperCase())
+                .predicate(serverWebExchange -> true)
+                .build();
+
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route);
+
+        return exchange;
+    }
+
+    private String generateToken(String subject, Date expirationDate, String secretKey) {
+        return Jwts
+                .builder()
+                .setSubject(subject)
+                .setIssuedAt(new Date())
+                .setExpiration(expirationDate)
+                .signWith(SignatureAlgorithm.HS512, secretKey.getBytes(StandardCharsets.UTF_8))
+                .compact();
+    }
+}
@@ -0,0 +1,161 @@
+package com.medialistmaker.gateway.filter;
+
+import com.medialistmaker.gateway.utils.ResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheGatewayFilterFactoryTest {
+
+    private GatewayFilter filter;
+
+    private AtomicInteger backendCalls;
+
+    private HttpHeaders backendHeaders;
+
+    private GatewayFilterChain chain;
+
+    @BeforeEach
+    void beforeAllTests() {
+        ResponseCacheGatewayFilterFactory factory = new ResponseCacheGatewayFilterFactory(
+                new ResponseCache(DataSize.ofMegabytes(1), new SimpleMeterRegistry())
+        );
+        this.filter = factory.apply(new ResponseCacheGatewayFilterFactory.Config());
+        this.backendCalls = new AtomicInteger();
+        this.backendHeaders = new HttpHeaders();
+        this.chain = exchange -> {
+            this.backendCalls.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            exchange.getResponse().getHeaders().addAll(this.backendHeaders);
+            byte[] body = ("{\"call\":" + this.backendCalls.get() + "}").getBytes(StandardCharsets.UTF_8);
+            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+        };
+    }
+
+    @Test
+    void givenSameRequestTwiceWhenFilterShouldServeSecondFromCache() {
+
+        MockServerWebExchange firstExchange = this.getExchange(MockServerHttpRequest.get("/api/movies/omdbapi?title=test"));
+        MockServerWebExchange secondExchange = this.getExchange(MockServerHttpRequest.get("/api/movies/omdbapi?title=test"));
+
+        this.filter.filter(firstExchange, this.chain).block();
+        this.filter.filter(secondExchange, this.chain).block();
+
+        assertEquals(1, this.backendCalls.get());
+        assertEquals("{\"call\":1}", secondExchange.getResponse().getBodyAsString().block());
+        assertEquals(
+                firstExchange.getResponse().getHeaders().getETag(),
+                secondExchange.getResponse().getHeaders().getETag()
+        );
+        assertNotNull(secondExchange.getResponse().getHeaders().getCacheControl());
+    }
+
+    @Test
+    void givenDifferentQueriesWhenFilterShouldCallBackendForEach() {
+
+        this.filter.filter(this.getExchange(MockServerHttpRequest.get("/api/movies/omdbapi?title=test")), this.chain).block();
+        this.filter.filter(this.getExchange(MockServerHttpRequest.get("/api/movies/omdbapi?title=other")), this.chain).block();
+
+        assertEquals(2, this.backendCalls.get());
+    }
+
+    @Test
+    void givenMatchingIfNoneMatchWhenFilterShouldReturnNotModified() {
+
+        MockServerWebExchange firstExchange = this.getExchange(MockServerHttpRequest.get("/api/musics/deezerapi/albums/apicodes/1"));
+        this.filter.filter(firstExchange, this.chain).block();
+
+        MockServerWebExchange secondExchange = this.getExchange(
+                MockServerHttpRequest
+                        .get("/api/musics/deezerapi/albums/apicodes/1")
+                        .ifNoneMatch(firstExchange.getResponse().getHeaders().getETag())
+        );
+        this.filter.filter(secondExchange, this.chain).block();
+
+        assertEquals(1, this.backendCalls.get());
+        assertEquals(HttpStatus.NOT_MODIFIED, secondExchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void givenNoStoreResponseWhenFilterShouldNotCache() {
+
+        this.backendHeaders.setCacheControl("no-store");
+
+        this.filter.filter(this.getExchange(MockServerHttpRequest.get("/api/movies/omdbapi?title=test")), this.chain).block();
+        this.filter.filter(this.getExchange(MockServerHttpRequest.get("/api/movies/omdbapi?title=test")), this.chain).block();
+
+        assertEquals(2, this.backendCalls.get());
+    }
+
+    @Test
+    void givenNoCacheRequestWhenFilterShouldBypassCache() {
+
+        this.filter.filter(this.getExchange(MockServerHttpRequest.get("/api/movies/omdbapi?title=test")), this.chain).block();
+        this.filter.filter(
+                this.getExchange(MockServerHttpRequest.get("/api/movies/omdbapi?title=test").header(HttpHeaders.CACHE_CONTROL, "no-cache")),
+                this.chain
+        ).block();
+
+        assertEquals(2, this.backendCalls.get());
+    }
+
+    @Test
+    void givenPostRequestWhenFilterShouldNotCache() {
+
+        this.filter.filter(this.getExchange(MockServerHttpRequest.post("/api/movies/omdbapi")), this.chain).block();
+        this.filter.filter(this.getExchange(MockServerHttpRequest.post("/api/movies/omdbapi")), this.chain).block();
+
+        assertEquals(2, this.backendCalls.get());
+    }
+
+    @Test
+    void givenRequestsFromDifferentOriginsWhenFilterShouldNotReplayCachedCorsHeaders() {
+
+        this.backendHeaders.setContentType(MediaType.APPLICATION_JSON);
+
+        MockServerWebExchange firstExchange = this.getCorsExchange("http://first.example");
+        MockServerWebExchange secondExchange = this.getCorsExchange("http://second.example");
+
+        this.filter.filter(firstExchange, this.chain).block();
+        this.filter.filter(secondExchange, this.chain).block();
+
+        HttpHeaders secondHeaders = secondExchange.getResponse().getHeaders();
+
+        assertEquals(1, this.backendCalls.get());
+        assertEquals(List.of("http://second.example"), secondHeaders.get(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN));
+        assertEquals(List.of(HttpHeaders.ORIGIN), secondHeaders.get(HttpHeaders.VARY));
+        assertEquals(MediaType.APPLICATION_JSON, secondHeaders.getContentType());
+    }
+
+    private MockServerWebExchange getCorsExchange(String origin) {
+
+        MockServerWebExchange exchange = this.getExchange(
+                MockServerHttpRequest.get("/api/movies/omdbapi?title=test").header(HttpHeaders.ORIGIN, origin)
+        );
+
+        //Mimics the gateway CORS handling, which sets these headers before the route filters run
+        exchange.getResponse().getHeaders().setAccessControlAllowOrigin(origin);
+        exchange.getResponse().getHeaders().setVary(List.of(HttpHeaders.ORIGIN));
+
+        return exchange;
+    }
+
+    private MockServerWebExchange getExchange(MockServerHttpRequest.BaseBuilder<?> request) {
+        return MockServerWebExchange.from(request);
+    }
+}
@@ -0,0 +1,113 @@
+package com.medialistmaker.gateway.filter;
+
+import com.medialistmaker.gateway.utils.InMemoryTokenBucketStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    private TokenBucketRateLimiter rateLimiter;
+
+    @BeforeEach
+    void beforeAllTests() {
+        this.rateLimiter = new TokenBucketRateLimiter(
+                new InMemoryTokenBucketStore(100L, Duration.ofHours(1)),
+                null,
+                2L,
+                1L,
+                Duration.ofMinutes(1)
+        );
+    }
+
+    @Test
+    void givenEmptyBucketWhenIsAllowedShouldDenyWithRetryAfter() {
+
+        assertTrue(this.rateLimiter.isAllowed("movie-catalog", "user:1").block().isAllowed());
+        assertTrue(this.rateLimiter.isAllowed("movie-catalog", "user:1").block().isAllowed());
+
+        RateLimiter.Response response = this.rateLimiter.isAllowed("movie-catalog", "user:1").block();
+
+        assertFalse(response.isAllowed());
+        assertEquals("0", response.getHeaders().get(TokenBucketRateLimiter.REMAINING_HEADER));
+        assertEquals("60", response.getHeaders().get(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void givenDifferentKeysWhenIsAllowedShouldUseSeparateBuckets() {
+
+        this.rateLimiter.isAllowed("movie-catalog", "user:1").block();
+        this.rateLimiter.isAllowed("movie-catalog", "user:1").block();
+
+        assertTrue(this.rateLimiter.isAllowed("movie-catalog", "user:2").block().isAllowed());
+        assertTrue(this.rateLimiter.isAllowed("music-catalog", "user:1").block().isAllowed());
+    }
+
+    @Test
+    void givenRouteConfigWhenIsAllowedShouldUseRouteCapacity() {
+
+        TokenBucketRateLimiter.Config config = new TokenBucketRateLimiter.Config();
+        config.setCapacity(1L);
+        config.setRefillTokens(1L);
+        config.setRefillPeriod(Duration.ofSeconds(10));
+        this.rateLimiter.getConfig().put("movie-catalog", config);
+
+        assertTrue(this.rateLimiter.isAllowed("movie-catalog", "user:1").block().isAllowed());
+
+        RateLimiter.Response response = this.rateLimiter.isAllowed("movie-catalog", "user:1").block();
+
+        assertFalse(response.isAllowed());
+        assertEquals("10", response.getHeaders().get(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void givenPartialRouteConfigWhenIsAllowedShouldFillMissingFieldsFromDefaults() {
+
+        TokenBucketRateLimiter.Config config = new TokenBucketRateLimiter.Config();
+        config.setCapacity(1L);
+        this.rateLimiter.getConfig().put("movie-catalog", config);
+
+        RateLimiter.Response allowedResponse = this.rateLimiter.isAllowed("movie-catalog", "user:1").block();
+
+        assertTrue(allowedResponse.isAllowed());
+        assertEquals("1", allowedResponse.getHeaders().get(TokenBucketRateLimiter.CAPACITY_HEADER));
+
+        RateLimiter.Response response = this.rateLimiter.isAllowed("movie-catalog", "user:1").block();
+
+        assertFalse(response.isAllowed());
+        assertEquals("60", response.getHeaders().get(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void givenUserIdHeaderWhenResolveShouldReturnUserKey() {
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest
+                        .get("/api/movies/omdbapi")
+                        .header(JwtAuthenticationGlobalFilter.USER_ID_HEADER, "1")
+                        .remoteAddress(new InetSocketAddress("127.0.0.1", 8080))
+        );
+
+        assertEquals("user:1", new UserKeyResolver().resolve(exchange).block());
+    }
+
+    @Test
+    void givenNoUserIdHeaderWhenResolveShouldReturnIpKey() {
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest
+                        .get("/api/movies/omdbapi")
+                        .remoteAddress(new InetSocketAddress("127.0.0.1", 8080))
+        );
+
+        assertEquals("ip:127.0.0.1", new UserKeyResolver().resolve(exchange).block());
+    }
+}
@@ -0,0 +1,14 @@
+package com.medialistmaker.list.configuration.cache;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    public static final String MOVIE_CACHE = "movies";
+
+    public static final String MUSIC_CACHE = "musics";
+
+}
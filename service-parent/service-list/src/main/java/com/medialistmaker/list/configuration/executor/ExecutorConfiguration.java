@@ -0,0 +1,34 @@
+package com.medialistmaker.list.configuration.executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class ExecutorConfiguration {
+
+    public static final String IMPORT_EXECUTOR = "importExecutor";
+
+    @Value("${list.import.parallelism:2}")
+    private Integer importParallelism;
+
+    @Bean(name = IMPORT_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService importExecutor() {
+        //No waiting queue: an import is fed by its upload, so extra imports are rejected instead of holding requests open
+        return new ThreadPoolExecutor(
+                this.importParallelism,
+                this.importParallelism,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(),
+                new CustomizableThreadFactory("list-import-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
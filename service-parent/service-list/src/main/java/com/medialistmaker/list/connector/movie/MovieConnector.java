@@ -8,15 +8,23 @@ import com.medialistmaker.list.exception.servicenotavailableexception.ServiceNot
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @FeignClient(name = "movie", path = "/api/movies")
 public interface MovieConnector {
 
+    @PostMapping("/browse")
+    List<MovieDTO> browseByIds(@RequestBody List<Long> movieIds) throws ServiceNotAvailableException;
+
     @GetMapping("/apicodes/{apicode}")
     MovieDTO getByApiCode(@PathVariable("apicode") String apiCode) throws CustomNotFoundException, ServiceNotAvailableException;
 
     @PostMapping
     MovieDTO saveByApiCode(@RequestBody MovieAddDTO movieAddDTO) throws CustomBadRequestException, ServiceNotAvailableException;
 
+    @PostMapping("/batch")
+    List<MovieDTO> saveByApiCodes(@RequestBody List<String> apiCodes) throws CustomBadRequestException, ServiceNotAvailableException;
+
     @DeleteMapping("/{id}")
     MovieDTO deleteById(@PathVariable("id") Long id) throws CustomNotFoundException, ServiceNotAvailableException;
 }
@@ -1,32 +1,90 @@
 package com.medialistmaker.list.connector.movie;
 
+import com.medialistmaker.list.configuration.cache.CacheConfiguration;
 import com.medialistmaker.list.dto.movie.MovieAddDTO;
 import com.medialistmaker.list.dto.movie.MovieDTO;
 import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.list.exception.notfoundexception.CustomNotFoundException;
 import com.medialistmaker.list.exception.servicenotavailableexception.ServiceNotAvailableException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
+import java.util.*;
+
+import static java.util.Objects.nonNull;
+
 @Component
 public class MovieConnectorProxy {
 
     private final MovieConnector movieConnector;
 
+    private final CacheManager cacheManager;
+
     public MovieConnectorProxy(
-            MovieConnector movieConnector
+            MovieConnector movieConnector,
+            CacheManager cacheManager
     ) {
         this.movieConnector = movieConnector;
+        this.cacheManager = cacheManager;
+    }
+
+    public List<MovieDTO> browseByIds(List<Long> movieIds) throws ServiceNotAvailableException {
+
+        Cache movieCache = this.getMovieCache();
+
+        Map<Long, MovieDTO> moviesById = new HashMap<>();
+        List<Long> missingMovieIds = new ArrayList<>();
+
+        for (Long movieId : movieIds) {
+            MovieDTO cachedMovie = movieCache.get(movieId, MovieDTO.class);
+
+            if (nonNull(cachedMovie)) {
+                moviesById.put(movieId, cachedMovie);
+            } else {
+                missingMovieIds.add(movieId);
+            }
+        }
+
+        if (Boolean.FALSE.equals(missingMovieIds.isEmpty())) {
+            for (MovieDTO movie : this.movieConnector.browseByIds(missingMovieIds)) {
+                movieCache.put(movie.getId(), movie);
+                moviesById.put(movie.getId(), movie);
+            }
+        }
+
+        return movieIds
+                .stream()
+                .map(moviesById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     public MovieDTO saveByApiCode(MovieAddDTO movieAddDTO) throws CustomBadRequestException, ServiceNotAvailableException {
         return this.movieConnector.saveByApiCode(movieAddDTO);
     }
 
+    public List<MovieDTO> saveByApiCodes(List<String> apiCodes) throws CustomBadRequestException, ServiceNotAvailableException {
+
+        List<MovieDTO> savedMovies = this.movieConnector.saveByApiCodes(apiCodes);
+
+        Cache movieCache = this.getMovieCache();
+        savedMovies.forEach(movie -> movieCache.put(movie.getId(), movie));
+
+        return savedMovies;
+    }
+
     public MovieDTO getByApiCode(String apiCode) throws CustomNotFoundException, ServiceNotAvailableException {
         return this.movieConnector.getByApiCode(apiCode);
     }
 
     public MovieDTO deleteById(Long id) throws CustomNotFoundException, ServiceNotAvailableException {
-        return this.movieConnector.deleteById(id);
+        MovieDTO deletedMovie = this.movieConnector.deleteById(id);
+        this.getMovieCache().evict(id);
+        return deletedMovie;
+    }
+
+    private Cache getMovieCache() {
+        return Objects.requireNonNull(this.cacheManager.getCache(CacheConfiguration.MOVIE_CACHE));
     }
 }
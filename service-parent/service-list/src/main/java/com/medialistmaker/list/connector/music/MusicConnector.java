@@ -1,6 +1,7 @@
 package com.medialistmaker.list.connector.music;
 
 import com.medialistmaker.list.dto.music.MusicAddDTO;
+import com.medialistmaker.list.dto.music.MusicBatchDTO;
 import com.medialistmaker.list.dto.music.MusicDTO;
 import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.list.exception.notfoundexception.CustomNotFoundException;
@@ -8,9 +9,14 @@ import com.medialistmaker.list.exception.servicenotavailableexception.ServiceNot
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @FeignClient(name = "music", path = "/api/musics")
 public interface MusicConnector {
 
+    @PostMapping("/browse")
+    List<MusicDTO> browseByIds(@RequestBody List<Long> musicIds) throws ServiceNotAvailableException;
+
     @GetMapping("/apicode/{apicode}")
     MusicDTO getMusicByApiCodeAndType(@PathVariable("apicode") String apiCode, @RequestParam("type") Integer type)
             throws CustomNotFoundException, ServiceNotAvailableException;
@@ -19,6 +25,10 @@ public interface MusicConnector {
     MusicDTO saveByApiCode(@RequestBody MusicAddDTO musicAddDTO)
             throws CustomBadRequestException, ServiceNotAvailableException;
 
+    @PostMapping("/batch")
+    MusicBatchDTO saveByApiCodes(@RequestBody List<MusicAddDTO> musicAddDTOs)
+            throws CustomBadRequestException, ServiceNotAvailableException;
+
     @DeleteMapping("/{musicId}")
     MusicDTO deleteById(@PathVariable("musicId") Long id) throws CustomNotFoundException, ServiceNotAvailableException;
 }
@@ -1,21 +1,64 @@
 package com.medialistmaker.list.connector.music;
 
+import com.medialistmaker.list.configuration.cache.CacheConfiguration;
 import com.medialistmaker.list.dto.music.MusicAddDTO;
+import com.medialistmaker.list.dto.music.MusicBatchDTO;
 import com.medialistmaker.list.dto.music.MusicDTO;
 import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.list.exception.notfoundexception.CustomNotFoundException;
 import com.medialistmaker.list.exception.servicenotavailableexception.ServiceNotAvailableException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
+import java.util.*;
+
+import static java.util.Objects.nonNull;
+
 @Component
 public class MusicConnectorProxy {
 
     private final MusicConnector musicConnector;
 
+    private final CacheManager cacheManager;
+
     public MusicConnectorProxy(
-            MusicConnector musicConnector
+            MusicConnector musicConnector,
+            CacheManager cacheManager
     ) {
         this.musicConnector = musicConnector;
+        this.cacheManager = cacheManager;
+    }
+
+    public List<MusicDTO> browseByIds(List<Long> musicIds) throws ServiceNotAvailableException {
+
+        Cache musicCache = this.getMusicCache();
+
+        Map<Long, MusicDTO> musicsById = new HashMap<>();
+        List<Long> missingMusicIds = new ArrayList<>();
+
+        for (Long musicId : musicIds) {
+            MusicDTO cachedMusic = musicCache.get(musicId, MusicDTO.class);
+
+            if (nonNull(cachedMusic)) {
+                musicsById.put(musicId, cachedMusic);
+            } else {
+                missingMusicIds.add(musicId);
+            }
+        }
+
+        if (Boolean.FALSE.equals(missingMusicIds.isEmpty())) {
+            for (MusicDTO music : this.musicConnector.browseByIds(missingMusicIds)) {
+                musicCache.put(music.getId(), music);
+                musicsById.put(music.getId(), music);
+            }
+        }
+
+        return musicIds
+                .stream()
+                .map(musicsById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     public MusicDTO getMusicByApiCodeAndType(String apiCode, Integer type)
@@ -27,7 +70,24 @@ public class MusicConnectorProxy {
         return this.musicConnector.saveByApiCode(musicAddDTO);
     }
 
+    public MusicBatchDTO saveByApiCodes(List<MusicAddDTO> musicAddDTOs)
+            throws CustomBadRequestException, ServiceNotAvailableException {
+
+        MusicBatchDTO musicBatch = this.musicConnector.saveByApiCodes(musicAddDTOs);
+
+        Cache musicCache = this.getMusicCache();
+        musicBatch.getMusics().forEach(music -> musicCache.put(music.getId(), music));
+
+        return musicBatch;
+    }
+
     public MusicDTO deleteById(Long id) throws CustomNotFoundException, ServiceNotAvailableException {
-        return this.musicConnector.deleteById(id);
+        MusicDTO deletedMusic = this.musicConnector.deleteById(id);
+        this.getMusicCache().evict(id);
+        return deletedMusic;
+    }
+
+    private Cache getMusicCache() {
+        return Objects.requireNonNull(this.cacheManager.getCache(CacheConfiguration.MUSIC_CACHE));
     }
 }
@@ -1,18 +1,28 @@
 package com.medialistmaker.list.controller;
 
 import com.medialistmaker.list.domain.MovieListItem;
+import com.medialistmaker.list.dto.ListImportJobDTO;
 import com.medialistmaker.list.dto.movie.MovieListItemAddDTO;
+import com.medialistmaker.list.dto.movie.MovieListItemBatchAddDTO;
 import com.medialistmaker.list.dto.movie.MovieListItemDTO;
+import com.medialistmaker.list.dto.movie.MovieListItemHydratedDTO;
+import com.medialistmaker.list.dto.movie.MovieListItemPageDTO;
 import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.list.exception.entityduplicationexception.CustomEntityDuplicationException;
 import com.medialistmaker.list.exception.notfoundexception.CustomNotFoundException;
 import com.medialistmaker.list.exception.servicenotavailableexception.ServiceNotAvailableException;
+import com.medialistmaker.list.exception.toomanyrequestsexception.TooManyRequestsException;
 import com.medialistmaker.list.service.movielistitem.MovieListItemServiceImpl;
 import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 import static java.util.Objects.isNull;
@@ -46,6 +56,40 @@ public class MovieListItemController extends AbstractController {
         );
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<MovieListItemPageDTO> getPageByAppUserId(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "limit", defaultValue = "50") Integer limit) throws CustomBadRequestException {
+
+        return new ResponseEntity<>(
+                this.movieListService.getPageByAppUserId(this.getCurrentLoggedAppUserId(), after, limit),
+                HttpStatus.OK
+        );
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportByAppUserId() {
+
+        Long appUserId = this.getCurrentLoggedAppUserId();
+
+        StreamingResponseBody movieListItems = outputStream -> this.movieListService.exportByAppUserId(appUserId, outputStream);
+
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"movies.jsonl\"")
+                .body(movieListItems);
+    }
+
+    @GetMapping("/hydrated")
+    public ResponseEntity<List<MovieListItemHydratedDTO>> getHydratedByAppUserId() throws ServiceNotAvailableException {
+
+        return new ResponseEntity<>(
+                this.movieListService.getHydratedByAppUserId(this.getCurrentLoggedAppUserId()),
+                HttpStatus.OK
+        );
+    }
+
     @GetMapping("/random")
     public ResponseEntity<MovieListItemDTO> getRandomInAppUserList() {
 
@@ -113,6 +157,41 @@ public class MovieListItemController extends AbstractController {
         );
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<MovieListItemDTO>> addAll(@RequestBody MovieListItemBatchAddDTO listItemBatchAddDTO)
+            throws CustomBadRequestException, CustomEntityDuplicationException, ServiceNotAvailableException {
+
+        listItemBatchAddDTO.setAppUserId(this.getCurrentLoggedAppUserId());
+
+        return new ResponseEntity<>(
+                this.movieListService
+                        .addAll(listItemBatchAddDTO)
+                        .stream()
+                        .map(listItem -> this.modelMapper.map(listItem, MovieListItemDTO.class))
+                        .toList(),
+                HttpStatus.CREATED
+        );
+    }
+
+    @PostMapping("/import")
+    public ResponseEntity<ListImportJobDTO> importByAppUserId(InputStream inputStream)
+            throws CustomBadRequestException, TooManyRequestsException, IOException {
+
+        return new ResponseEntity<>(
+                this.movieListService.importByAppUserId(this.getCurrentLoggedAppUserId(), inputStream),
+                HttpStatus.ACCEPTED
+        );
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ListImportJobDTO> getImportJob(@PathVariable("jobId") String jobId) throws CustomNotFoundException {
+
+        return new ResponseEntity<>(
+                this.movieListService.getImportJob(this.getCurrentLoggedAppUserId(), jobId),
+                HttpStatus.OK
+        );
+    }
+
     @DeleteMapping("/{listItemId}")
     public ResponseEntity<MovieListItemDTO> deleteById(@PathVariable("listItemId") Long listItemId)
             throws CustomNotFoundException, ServiceNotAvailableException {
@@ -1,18 +1,28 @@
 package com.medialistmaker.list.controller;
 
 import com.medialistmaker.list.domain.MusicListItem;
+import com.medialistmaker.list.dto.ListImportJobDTO;
 import com.medialistmaker.list.dto.music.MusicListItemAddDTO;
+import com.medialistmaker.list.dto.music.MusicListItemBatchAddDTO;
 import com.medialistmaker.list.dto.music.MusicListItemDTO;
+import com.medialistmaker.list.dto.music.MusicListItemHydratedDTO;
+import com.medialistmaker.list.dto.music.MusicListItemPageDTO;
 import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.list.exception.entityduplicationexception.CustomEntityDuplicationException;
 import com.medialistmaker.list.exception.notfoundexception.CustomNotFoundException;
 import com.medialistmaker.list.exception.servicenotavailableexception.ServiceNotAvailableException;
+import com.medialistmaker.list.exception.toomanyrequestsexception.TooManyRequestsException;
 import com.medialistmaker.list.service.musiclistitem.MusicListItemServiceImpl;
 import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 import static java.util.Objects.isNull;
@@ -46,6 +56,40 @@ public class MusicListItemController extends AbstractController {
         );
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<MusicListItemPageDTO> getPageByAppUserId(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "limit", defaultValue = "50") Integer limit) throws CustomBadRequestException {
+
+        return new ResponseEntity<>(
+                this.musicListService.getPageByAppUserId(this.getCurrentLoggedAppUserId(), after, limit),
+                HttpStatus.OK
+        );
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportByAppUserId() {
+
+        Long appUserId = this.getCurrentLoggedAppUserId();
+
+        StreamingResponseBody musicListItems = outputStream -> this.musicListService.exportByAppUserId(appUserId, outputStream);
+
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"musics.jsonl\"")
+                .body(musicListItems);
+    }
+
+    @GetMapping("/hydrated")
+    public ResponseEntity<List<MusicListItemHydratedDTO>> getHydratedByAppUserId() throws ServiceNotAvailableException {
+
+        return new ResponseEntity<>(
+                this.musicListService.getHydratedByAppUserId(this.getCurrentLoggedAppUserId()),
+                HttpStatus.OK
+        );
+    }
+
     @GetMapping("/random")
     public ResponseEntity<MusicListItemDTO> getRandomInAppUserList() {
 
@@ -112,6 +156,41 @@ public class MusicListItemController extends AbstractController {
         );
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<MusicListItemDTO>> addAll(@RequestBody MusicListItemBatchAddDTO listItemBatchAddDTO)
+            throws CustomBadRequestException, CustomEntityDuplicationException, ServiceNotAvailableException {
+
+        listItemBatchAddDTO.setAppUserId(this.getCurrentLoggedAppUserId());
+
+        return new ResponseEntity<>(
+                this.musicListService
+                        .addAll(listItemBatchAddDTO)
+                        .stream()
+                        .map(listItem -> this.modelMapper.map(listItem, MusicListItemDTO.class))
+                        .toList(),
+                HttpStatus.CREATED
+        );
+    }
+
+    @PostMapping("/import")
+    public ResponseEntity<ListImportJobDTO> importByAppUserId(InputStream inputStream)
+            throws CustomBadRequestException, TooManyRequestsException, IOException {
+
+        return new ResponseEntity<>(
+                this.musicListService.importByAppUserId(this.getCurrentLoggedAppUserId(), inputStream),
+                HttpStatus.ACCEPTED
+        );
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ListImportJobDTO> getImportJob(@PathVariable("jobId") String jobId) throws CustomNotFoundException {
+
+        return new ResponseEntity<>(
+                this.musicListService.getImportJob(this.getCurrentLoggedAppUserId(), jobId),
+                HttpStatus.OK
+        );
+    }
+
     @DeleteMapping("/{listItemId}")
     public ResponseEntity<MusicListItemDTO> deleteById(@PathVariable("listItemId") Long listItemId)
             throws CustomNotFoundException, ServiceNotAvailableException {
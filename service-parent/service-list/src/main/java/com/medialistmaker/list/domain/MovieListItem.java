@@ -25,7 +25,7 @@ public class MovieListItem extends ListItem {
     }
 
     @Id
-    @SequenceGenerator(name = "movie_list_id_sequence", sequenceName = "movie_list_id_sequence")
+    @SequenceGenerator(name = "movie_list_id_sequence", sequenceName = "movie_list_id_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "movie_list_id_sequence")
     private Long id;
 
@@ -25,7 +25,7 @@ public class MusicListItem extends ListItem {
     }
 
     @Id
-    @SequenceGenerator(name = "music_list_id_sequence", sequenceName = "music_list_id_sequence")
+    @SequenceGenerator(name = "music_list_id_sequence", sequenceName = "music_list_id_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "music_list_id_sequence")
     private Long id;
 
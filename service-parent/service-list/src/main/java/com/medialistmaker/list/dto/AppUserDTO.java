@@ -1,14 +0,0 @@
-package com.medialistmaker.list.dto;
-
-import lombok.Data;
-
-@Data
-public class AppUserDTO {
-
-    private Long id;
-
-    private String username;
-
-    private String password;
-
-}
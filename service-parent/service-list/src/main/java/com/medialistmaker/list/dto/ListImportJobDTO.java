@@ -0,0 +1,35 @@
+package com.medialistmaker.list.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder(toBuilder = true)
+@AllArgsConstructor
+public class ListImportJobDTO {
+
+    public ListImportJobDTO() {
+        //Private constructor
+    }
+
+    private String jobId;
+
+    @JsonIgnore
+    private Long appUserId;
+
+    private ListImportJobStatus status;
+
+    private Integer total;
+
+    private Integer processed;
+
+    private Integer imported;
+
+    private Integer skipped;
+
+    private Integer failed;
+
+    private String message;
+}
@@ -0,0 +1,13 @@
+package com.medialistmaker.list.dto;
+
+public enum ListImportJobStatus {
+
+    PENDING,
+
+    RUNNING,
+
+    COMPLETED,
+
+    FAILED
+
+}
@@ -6,4 +6,12 @@ import lombok.Data;
 public class MovieDTO {
 
     private Long id;
+
+    private String title;
+
+    private String apiCode;
+
+    private String pictureUrl;
+
+    private Integer releasedAt;
 }
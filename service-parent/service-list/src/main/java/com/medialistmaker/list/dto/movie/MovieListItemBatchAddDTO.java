@@ -0,0 +1,14 @@
+package com.medialistmaker.list.dto.movie;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class MovieListItemBatchAddDTO {
+
+    private List<String> apiCodes;
+
+    private Long appUserId;
+
+}
@@ -0,0 +1,27 @@
+package com.medialistmaker.list.dto.movie;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Date;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class MovieListItemHydratedDTO {
+
+    public MovieListItemHydratedDTO() {
+        //Private constructor
+    }
+
+    private Long id;
+
+    private Long appUserId;
+
+    private Integer sortingOrder;
+
+    private Date addedAt;
+
+    private MovieDTO movie;
+}
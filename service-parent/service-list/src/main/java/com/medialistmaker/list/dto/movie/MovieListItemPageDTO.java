@@ -0,0 +1,21 @@
+package com.medialistmaker.list.dto.movie;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class MovieListItemPageDTO {
+
+    public MovieListItemPageDTO() {
+        //Private constructor
+    }
+
+    private List<MovieListItemDTO> items;
+
+    private String nextCursor;
+}
@@ -0,0 +1,15 @@
+package com.medialistmaker.list.dto.music;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class MusicBatchDTO {
+
+    private List<MusicDTO> musics = new ArrayList<>();
+
+    private List<MusicBatchErrorDTO> errors = new ArrayList<>();
+
+}
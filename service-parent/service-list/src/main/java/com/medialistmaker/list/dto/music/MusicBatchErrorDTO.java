@@ -0,0 +1,18 @@
+package com.medialistmaker.list.dto.music;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class MusicBatchErrorDTO {
+
+    private String apiCode;
+
+    private Integer type;
+
+    private String message;
+
+    private List<String> errorList;
+
+}
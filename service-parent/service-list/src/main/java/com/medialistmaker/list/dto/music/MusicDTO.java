@@ -7,4 +7,16 @@ public class MusicDTO {
 
     private Long id;
 
+    private String title;
+
+    private String artistName;
+
+    private Integer releasedAt;
+
+    private String pictureUrl;
+
+    private String apiCode;
+
+    private Integer type;
+
 }
@@ -0,0 +1,14 @@
+package com.medialistmaker.list.dto.music;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class MusicListItemBatchAddDTO {
+
+    private List<MusicAddDTO> musics;
+
+    private Long appUserId;
+
+}
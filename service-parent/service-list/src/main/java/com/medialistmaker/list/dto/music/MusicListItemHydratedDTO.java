@@ -0,0 +1,28 @@
+package com.medialistmaker.list.dto.music;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Date;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class MusicListItemHydratedDTO {
+
+    public MusicListItemHydratedDTO() {
+        //Private constructor
+    }
+
+    private Long id;
+
+    private Long appUserId;
+
+    private Integer sortingOrder;
+
+    private Date addedAt;
+
+    private MusicDTO music;
+
+}
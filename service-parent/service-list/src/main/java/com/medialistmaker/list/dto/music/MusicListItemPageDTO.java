@@ -0,0 +1,21 @@
+package com.medialistmaker.list.dto.music;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class MusicListItemPageDTO {
+
+    public MusicListItemPageDTO() {
+        //Private constructor
+    }
+
+    private List<MusicListItemDTO> items;
+
+    private String nextCursor;
+}
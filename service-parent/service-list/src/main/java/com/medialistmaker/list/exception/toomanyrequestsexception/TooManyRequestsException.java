@@ -0,0 +1,13 @@
+package com.medialistmaker.list.exception.toomanyrequestsexception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends Exception {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+
+}
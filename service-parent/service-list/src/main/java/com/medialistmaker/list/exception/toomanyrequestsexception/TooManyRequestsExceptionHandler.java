@@ -0,0 +1,22 @@
+package com.medialistmaker.list.exception.toomanyrequestsexception;
+
+import com.medialistmaker.list.dto.ErrorDTO;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+@ControllerAdvice
+public class TooManyRequestsExceptionHandler {
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorDTO> generateTooManyRequestsException(TooManyRequestsException e) {
+        ErrorDTO errorDTO = ErrorDTO
+                .builder()
+                .message(e.getMessage())
+                .build();
+
+        return new ResponseEntity<>(errorDTO, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+}
@@ -1,10 +1,14 @@
 package com.medialistmaker.list.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.medialistmaker.list.connector.appuser.AppUserConnectorProxy;
-import com.medialistmaker.list.dto.AppUserDTO;
 import com.medialistmaker.list.dto.ErrorDTO;
+import com.medialistmaker.list.utils.IdentityHeaderVerifier;
 import com.medialistmaker.list.utils.JwtTokenService;
+import com.medialistmaker.list.utils.TokenClaims;
+import com.medialistmaker.list.utils.TokenDenyList;
+import com.medialistmaker.list.utils.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -27,13 +31,31 @@ import static java.util.Objects.isNull;
 @Component
 public class JwtAuthenticationFilter extends GenericFilterBean {
 
-    private final AppUserConnectorProxy userConnectorProxy;
-
     private final JwtTokenService service;
 
-    public JwtAuthenticationFilter(AppUserConnectorProxy userConnectorProxy, JwtTokenService service) {
-        this.userConnectorProxy = userConnectorProxy;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final TokenDenyList tokenDenyList;
+
+    private final IdentityHeaderVerifier identityHeaderVerifier;
+
+    private final Timer authenticationTimer;
+
+    public JwtAuthenticationFilter(
+            JwtTokenService service,
+            VerifiedTokenCache verifiedTokenCache,
+            TokenDenyList tokenDenyList,
+            IdentityHeaderVerifier identityHeaderVerifier,
+            MeterRegistry meterRegistry
+    ) {
         this.service = service;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenDenyList = tokenDenyList;
+        this.identityHeaderVerifier = identityHeaderVerifier;
+        this.authenticationTimer = Timer
+                .builder("list.auth.filter")
+                .description("Time spent authenticating the bearer token of a request")
+                .register(meterRegistry);
     }
 
     @Override
@@ -42,40 +64,57 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         HttpServletRequest request = (HttpServletRequest) servletRequest;
         HttpServletResponse response = (HttpServletResponse) servletResponse;
 
-        String authorizationHeader = request.getHeader("Authorization");
-        String token;
-        String username;
+        TokenClaims tokenClaims = this.authenticationTimer.record(() -> this.authenticate(request));
 
-        if(isNull(authorizationHeader)) {
-                this.manageAuthenticationFailure(response);
-                return;
+        if(isNull(tokenClaims)) {
+            this.manageAuthenticationFailure(response);
+            return;
         }
 
-        token = authorizationHeader.substring(7);
+        this.manageAuthenticationSuccessful(this.getUserDetailsByTokenClaims(tokenClaims), request);
 
-        username = this.service.getUsername(token);
+        filterChain.doFilter(request, response);
 
-        if(isNull(username)) {
-            this.manageAuthenticationFailure(response);
-            return;
-        }
+    }
 
-        AppUserDTO userDTO = this.userConnectorProxy.getById(Long.valueOf(username));
+    private TokenClaims authenticate(HttpServletRequest request) {
 
-        UserDetails userDetails = this.getUserDetailsByUserDTO(userDTO);
+        TokenClaims tokenClaims = this.identityHeaderVerifier.verify(
+                request.getHeader(IdentityHeaderVerifier.USER_ID_HEADER),
+                request.getHeader(IdentityHeaderVerifier.USER_EXPIRES_AT_HEADER),
+                request.getHeader(IdentityHeaderVerifier.USER_SIGNATURE_HEADER)
+        );
 
-        Boolean isTokenValid = this.service.isTokenValid(token, userDetails);
+        if(isNull(tokenClaims)) {
+            String authorizationHeader = request.getHeader("Authorization");
 
-        if(Boolean.FALSE.equals(isTokenValid)) {
-            this.manageAuthenticationFailure(response);
-            return;
+            if(isNull(authorizationHeader)) {
+                return null;
+            }
+
+            tokenClaims = this.authenticateToken(authorizationHeader.substring(7));
         }
 
-        this.manageAuthenticationSuccessful(userDetails, request);
+        return isNull(tokenClaims) || Boolean.TRUE.equals(this.tokenDenyList.isDenied(tokenClaims)) ? null : tokenClaims;
+    }
 
-        filterChain.doFilter(request, response);
+    private TokenClaims authenticateToken(String token) {
+
+        TokenClaims tokenClaims = this.verifiedTokenCache.getIfPresent(token);
 
+        if(isNull(tokenClaims)) {
+            tokenClaims = this.service.verify(token);
+
+            if(isNull(tokenClaims)) {
+                return null;
+            }
+
+            this.verifiedTokenCache.put(token, tokenClaims);
+        }
+
+        return tokenClaims;
     }
+
     private void manageAuthenticationSuccessful(UserDetails userDetails, HttpServletRequest request) {
 
         UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
@@ -99,8 +138,8 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
     }
 
-    private UserDetails getUserDetailsByUserDTO(AppUserDTO userDTO) {
-        return new User(userDTO.getId().toString(), userDTO.getPassword(), new ArrayList<>());
+    private UserDetails getUserDetailsByTokenClaims(TokenClaims tokenClaims) {
+        return new User(tokenClaims.subject(), "", new ArrayList<>());
     }
 
 }
@@ -1,7 +1,13 @@
 package com.medialistmaker.list.repository;
 
 import com.medialistmaker.list.domain.ListItem;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -10,9 +16,51 @@ public interface ListItemBaseRepository<A extends ListItem> {
 
     List<A> getByAppUserIdOrderBySortingOrderAsc(Long appUserId);
 
+    List<A> getByAppUserIdOrderBySortingOrderAscIdAsc(Long appUserId, Pageable pageable);
+
+    @Query("SELECT i FROM #{#entityName} i WHERE i.appUserId = :appUserId " +
+            "AND (i.sortingOrder, i.id) > (:sortingOrder, :id) ORDER BY i.sortingOrder ASC, i.id ASC")
+    List<A> getByAppUserIdAfterPosition(
+            @Param("appUserId") Long appUserId,
+            @Param("sortingOrder") Integer sortingOrder,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    @Query("SELECT i.sortingOrder FROM #{#entityName} i WHERE i.appUserId = :appUserId AND i.id = :id")
+    Integer getSortingOrderByAppUserIdAndId(@Param("appUserId") Long appUserId, @Param("id") Long id);
+
     A getByAppUserIdAndSortingOrder(Long appUserId, Integer order);
 
+    Long countByAppUserId(Long appUserId);
+
+    @Query("SELECT COUNT(DISTINCT i.sortingOrder) FROM #{#entityName} i " +
+            "WHERE i.appUserId = :appUserId AND i.sortingOrder BETWEEN 1 AND :maxSortingOrder")
+    Long countDistinctSortingOrdersByAppUserIdUpTo(
+            @Param("appUserId") Long appUserId,
+            @Param("maxSortingOrder") Integer maxSortingOrder
+    );
+
+    A getFirstByAppUserIdAndSortingOrderOrderByIdAsc(Long appUserId, Integer sortingOrder);
+
     A getFirstByAppUserIdOrderBySortingOrderDesc(Long appUserId);
 
+    Integer lockSortingOrdersByAppUserId(Long appUserId);
+
+    int compactSortingOrder(Long appUserId);
+
     List<A> getTop3ByAppUserIdOrderByAddedAtDesc(Long appUserId);
+
+    Boolean existsByAppUserIdAndSortingOrderGreaterThan(Long appUserId, Integer sortingOrder);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE #{#entityName} i SET i.sortingOrder = i.sortingOrder + :offset " +
+            "WHERE i.appUserId = :appUserId AND i.sortingOrder BETWEEN :from AND :to")
+    int shiftSortingOrderBetween(
+            @Param("appUserId") Long appUserId,
+            @Param("from") Integer from,
+            @Param("to") Integer to,
+            @Param("offset") Integer offset
+    );
 }
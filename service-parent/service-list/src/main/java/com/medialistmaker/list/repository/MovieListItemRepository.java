@@ -1,10 +1,19 @@
 package com.medialistmaker.list.repository;
 
 import com.medialistmaker.list.domain.MovieListItem;
+import com.medialistmaker.list.dto.movie.MovieListItemDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface MovieListItemRepository extends JpaRepository<MovieListItem, Long>, ListItemBaseRepository<MovieListItem> {
@@ -12,4 +21,26 @@ public interface MovieListItemRepository extends JpaRepository<MovieListItem, Lo
     MovieListItem getByAppUserIdAndMovieId(Long appUserId, Long movieId);
 
     List<MovieListItem> getByMovieId(Long id);
+
+    @Query("SELECT i.movieId FROM MovieListItem i WHERE i.appUserId = :appUserId")
+    List<Long> getMovieIdsByAppUserId(@Param("appUserId") Long appUserId);
+
+    @Query("SELECT i.movieId FROM MovieListItem i WHERE i.appUserId = :appUserId AND i.movieId IN(:movieIds)")
+    List<Long> getMovieIdsByAppUserIdAndMovieIdIn(@Param("appUserId") Long appUserId, @Param("movieIds") List<Long> movieIds);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.medialistmaker.list.dto.movie.MovieListItemDTO(i.id, i.movieId, i.appUserId, i.sortingOrder, i.addedAt) " +
+            "FROM MovieListItem i WHERE i.appUserId = :appUserId ORDER BY i.sortingOrder")
+    Stream<MovieListItemDTO> streamByAppUserId(@Param("appUserId") Long appUserId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE movie_list_item i SET sorting_order = ranked.position " +
+            "FROM (SELECT id, row_number() OVER (ORDER BY sorting_order, id) AS position " +
+            "FROM movie_list_item WHERE app_user_id = :appUserId) ranked " +
+            "WHERE i.id = ranked.id AND i.sorting_order <> ranked.position", nativeQuery = true)
+    int compactSortingOrder(@Param("appUserId") Long appUserId);
+
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtextextended('movie_list_item:' || :appUserId, 0))", nativeQuery = true)
+    Integer lockSortingOrdersByAppUserId(@Param("appUserId") Long appUserId);
 }
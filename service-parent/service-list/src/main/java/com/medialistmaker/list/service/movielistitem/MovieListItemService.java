@@ -1,25 +1,46 @@
 package com.medialistmaker.list.service.movielistitem;
 
 import com.medialistmaker.list.domain.MovieListItem;
+import com.medialistmaker.list.dto.ListImportJobDTO;
 import com.medialistmaker.list.dto.movie.MovieListItemAddDTO;
+import com.medialistmaker.list.dto.movie.MovieListItemBatchAddDTO;
+import com.medialistmaker.list.dto.movie.MovieListItemHydratedDTO;
+import com.medialistmaker.list.dto.movie.MovieListItemPageDTO;
 import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.list.exception.entityduplicationexception.CustomEntityDuplicationException;
 import com.medialistmaker.list.exception.notfoundexception.CustomNotFoundException;
 import com.medialistmaker.list.exception.servicenotavailableexception.ServiceNotAvailableException;
+import com.medialistmaker.list.exception.toomanyrequestsexception.TooManyRequestsException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface MovieListItemService {
 
     List<MovieListItem> getByAppUserId(Long appUserId);
 
+    MovieListItemPageDTO getPageByAppUserId(Long appUserId, String after, Integer limit) throws CustomBadRequestException;
+
+    void exportByAppUserId(Long appUserId, OutputStream outputStream) throws IOException;
+
     List<MovieListItem> getLatestAddedByAppUserId(Long appUserId);
 
+    List<MovieListItemHydratedDTO> getHydratedByAppUserId(Long appUserId) throws ServiceNotAvailableException;
+
     List<MovieListItem> editSortingOrder(Long appUserId, Long musicListItemId, Integer newSortingNumber) throws CustomNotFoundException;
 
     MovieListItem add(MovieListItemAddDTO movieListItemAdd)
             throws CustomBadRequestException, CustomEntityDuplicationException, ServiceNotAvailableException;
 
+    List<MovieListItem> addAll(MovieListItemBatchAddDTO movieListItemBatchAdd)
+            throws CustomBadRequestException, CustomEntityDuplicationException, ServiceNotAvailableException;
+
+    ListImportJobDTO importByAppUserId(Long appUserId, InputStream inputStream) throws CustomBadRequestException, TooManyRequestsException, IOException;
+
+    ListImportJobDTO getImportJob(Long appUserId, String jobId) throws CustomNotFoundException;
+
     MovieListItem deleteById(Long appUserId, Long movieListId) throws CustomNotFoundException, ServiceNotAvailableException;
 
     Boolean isMovieIdAlreadyUsedInOtherList(Long movieId);
@@ -1,38 +1,102 @@
 package com.medialistmaker.list.service.movielistitem;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.medialistmaker.list.connector.movie.MovieConnectorProxy;
 import com.medialistmaker.list.domain.MovieListItem;
+import com.medialistmaker.list.dto.ListImportJobDTO;
 import com.medialistmaker.list.dto.movie.MovieAddDTO;
 import com.medialistmaker.list.dto.movie.MovieDTO;
+import com.medialistmaker.list.dto.movie.MovieListItemHydratedDTO;
 import com.medialistmaker.list.dto.movie.MovieListItemAddDTO;
+import com.medialistmaker.list.dto.movie.MovieListItemBatchAddDTO;
+import com.medialistmaker.list.dto.movie.MovieListItemDTO;
+import com.medialistmaker.list.dto.movie.MovieListItemPageDTO;
 import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.list.exception.entityduplicationexception.CustomEntityDuplicationException;
 import com.medialistmaker.list.exception.notfoundexception.CustomNotFoundException;
 import com.medialistmaker.list.exception.servicenotavailableexception.ServiceNotAvailableException;
+import com.medialistmaker.list.exception.toomanyrequestsexception.TooManyRequestsException;
 import com.medialistmaker.list.repository.MovieListItemRepository;
+import com.medialistmaker.list.utils.ListImportHandler;
+import com.medialistmaker.list.utils.ListImporter;
+import com.medialistmaker.list.utils.ListItemAppender;
+import com.medialistmaker.list.utils.ListItemCursor;
+import com.medialistmaker.list.utils.ListItemRemover;
+import com.medialistmaker.list.utils.ListItemPosition;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 @Service
 @Slf4j
 public class MovieListItemServiceImpl implements MovieListItemService {
 
+    private static final Integer MAX_BATCH_SIZE = 500;
+
+    private static final Integer MAX_PAGE_SIZE = 200;
+
+    private static final String IMPORT_HEADER = "apiCode";
+
     private final MovieConnectorProxy movieConnectorProxy;
 
     private final MovieListItemRepository movieListItemRepository;
 
+    private final ListItemCursor listItemCursor;
+
+    private final ObjectMapper objectMapper;
+
+    private final ListImporter listImporter;
+
+    private final ListItemAppender listItemAppender;
+
+    private final ListItemRemover listItemRemover;
+
+    private final DistributionSummary compactedItemsSummary;
+
     private final Random random = new Random();
 
+    private final MovieListImportHandler movieListImportHandler = new MovieListImportHandler();
+
     public MovieListItemServiceImpl(
             MovieConnectorProxy movieConnectorProxy,
-            MovieListItemRepository movieListItemRepository
+            MovieListItemRepository movieListItemRepository,
+            ListItemCursor listItemCursor,
+            ObjectMapper objectMapper,
+            ListImporter listImporter,
+            ListItemAppender listItemAppender,
+            ListItemRemover listItemRemover,
+            MeterRegistry meterRegistry
     ) {
         this.movieConnectorProxy = movieConnectorProxy;
         this.movieListItemRepository = movieListItemRepository;
+        this.listItemCursor = listItemCursor;
+        this.objectMapper = objectMapper;
+        this.listImporter = listImporter;
+        this.listItemAppender = listItemAppender;
+        this.listItemRemover = listItemRemover;
+        this.compactedItemsSummary = DistributionSummary
+                .builder("list.items.compacted")
+                .description("Number of list items whose sorting order was rewritten after a delete")
+                .tag("list", "movie")
+                .register(meterRegistry);
     }
 
     @Override
@@ -40,52 +104,116 @@ public class MovieListItemServiceImpl implements MovieListItemService {
         return this.movieListItemRepository.getByAppUserIdOrderBySortingOrderAsc(appUserId);
     }
 
+    @Override
+    public MovieListItemPageDTO getPageByAppUserId(Long appUserId, String after, Integer limit)
+            throws CustomBadRequestException {
+
+        if (isNull(limit) || limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new CustomBadRequestException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        ListItemPosition pageStart = this.listItemCursor.resolve(after, appUserId, this.movieListItemRepository);
+
+        List<MovieListItem> movieListItems = this.movieListItemRepository.getByAppUserIdAfterPosition(
+                appUserId, pageStart.sortingOrder(), pageStart.id(), Limit.of(limit + 1)
+        );
+
+        Boolean hasNextPage = movieListItems.size() > limit;
+        List<MovieListItem> pageItems = Boolean.TRUE.equals(hasNextPage) ? movieListItems.subList(0, limit) : movieListItems;
+        MovieListItem lastMovieListItem = pageItems.isEmpty() ? null : pageItems.get(pageItems.size() - 1);
+
+        return MovieListItemPageDTO
+                .builder()
+                .items(pageItems
+                        .stream()
+                        .map(movieListItem -> MovieListItemDTO
+                                .builder()
+                                .id(movieListItem.getId())
+                                .movieId(movieListItem.getMovieId())
+                                .appUserId(movieListItem.getAppUserId())
+                                .sortingOrder(movieListItem.getSortingOrder())
+                                .addedAt(movieListItem.getAddedAt())
+                                .build())
+                        .toList())
+                .nextCursor(Boolean.TRUE.equals(hasNextPage) ?
+                        this.listItemCursor.encode(lastMovieListItem.getSortingOrder(), lastMovieListItem.getId()) :
+                        null)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportByAppUserId(Long appUserId, OutputStream outputStream) throws IOException {
+
+        try (
+                Stream<MovieListItemDTO> movieListItems = this.movieListItemRepository.streamByAppUserId(appUserId);
+                JsonGenerator jsonGenerator = this.objectMapper.getFactory().createGenerator(outputStream)
+        ) {
+            jsonGenerator.setRootValueSeparator(null);
+
+            Iterator<MovieListItemDTO> iterator = movieListItems.iterator();
+
+            while (iterator.hasNext()) {
+                jsonGenerator.writeObject(iterator.next());
+                jsonGenerator.writeRaw('\n');
+            }
+        }
+    }
+
     @Override
     public List<MovieListItem> getLatestAddedByAppUserId(Long appUserId) {
         return this.movieListItemRepository.getTop3ByAppUserIdOrderByAddedAtDesc(appUserId);
     }
 
     @Override
-    public List<MovieListItem> editSortingOrder(Long appUserId, Long musicListItemId, Integer newSortingNumber)
-            throws CustomNotFoundException {
+    public List<MovieListItemHydratedDTO> getHydratedByAppUserId(Long appUserId) throws ServiceNotAvailableException {
 
         List<MovieListItem> movieListItems = this.movieListItemRepository.getByAppUserIdOrderBySortingOrderAsc(appUserId);
 
-        Optional<MovieListItem> movieListItem = this.movieListItemRepository.findById(musicListItemId);
-
-        if (movieListItem.isEmpty()) {
-            throw new CustomNotFoundException("Music item not found");
+        if (movieListItems.isEmpty()) {
+            return Collections.emptyList();
         }
 
-        MovieListItem movieListItemToChange = movieListItem.get();
+        Map<Long, MovieDTO> moviesById = this.movieConnectorProxy
+                .browseByIds(movieListItems.stream().map(MovieListItem::getMovieId).toList())
+                .stream()
+                .collect(Collectors.toMap(MovieDTO::getId, Function.identity()));
+
+        return movieListItems
+                .stream()
+                .map(movieListItem -> MovieListItemHydratedDTO
+                        .builder()
+                        .id(movieListItem.getId())
+                        .appUserId(movieListItem.getAppUserId())
+                        .sortingOrder(movieListItem.getSortingOrder())
+                        .addedAt(movieListItem.getAddedAt())
+                        .movie(moviesById.get(movieListItem.getMovieId()))
+                        .build())
+                .toList();
+    }
 
-        Integer oldSortingNumber = movieListItemToChange.getSortingOrder();
+    @Override
+    @Transactional
+    public List<MovieListItem> editSortingOrder(Long appUserId, Long movieListItemId, Integer newSortingNumber)
+            throws CustomNotFoundException {
 
-        if (oldSortingNumber < newSortingNumber) {
-            for (MovieListItem item : movieListItems) {
-                if (item.getSortingOrder() > oldSortingNumber && item.getSortingOrder() <= newSortingNumber) {
-                    item.setSortingOrder(item.getSortingOrder() - 1);
-                }
-            }
-        }
+        Optional<MovieListItem> movieListItem = this.movieListItemRepository.findById(movieListItemId);
 
-        if (oldSortingNumber > newSortingNumber) {
-            for (MovieListItem item : movieListItems) {
-                if (item.getSortingOrder() < oldSortingNumber && item.getSortingOrder() >= newSortingNumber) {
-                    item.setSortingOrder(item.getSortingOrder() + 1);
-                }
-            }
+        if (movieListItem.isEmpty()) {
+            throw new CustomNotFoundException("Movie item not found");
         }
 
-        movieListItemToChange.setSortingOrder(newSortingNumber);
-
-        this.movieListItemRepository.save(movieListItemToChange);
+        MovieListItem movieListItemToChange = movieListItem.get();
 
-        List<MovieListItem> newMovieListItem = new ArrayList<>(movieListItems);
+        Integer oldSortingNumber = movieListItemToChange.getSortingOrder();
 
-        newMovieListItem.sort(Comparator.comparingInt(MovieListItem::getSortingOrder));
+        if (Boolean.FALSE.equals(oldSortingNumber.equals(newSortingNumber))) {
+            this.shiftItemsBetween(appUserId, oldSortingNumber, newSortingNumber);
+            movieListItemToChange.setSortingOrder(newSortingNumber);
+            this.movieListItemRepository.save(movieListItemToChange);
+        }
 
-        return this.movieListItemRepository.saveAll(newMovieListItem);
+        return this.movieListItemRepository.getByAppUserIdOrderBySortingOrderAsc(appUserId);
 
     }
 
@@ -111,12 +239,79 @@ public class MovieListItemServiceImpl implements MovieListItemService {
             movieAddDTO.setApiCode(movieListItem.getApiCode());
             MovieDTO movieDTO = this.movieConnectorProxy.saveByApiCode(movieAddDTO);
             movieListItemToAdd.setMovieId(movieDTO.getId());
-            return this.movieListItemRepository.save(movieListItemToAdd);
+            return this.listItemAppender.append(movieListItem.getAppUserId(), List.of(movieListItemToAdd), this.movieListItemRepository).get(0);
         } catch (CustomBadRequestException e) {
             throw new CustomBadRequestException(e.getMessage());
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomEntityDuplicationException("This movie is already in your list");
         }
     }
 
+    @Override
+    public List<MovieListItem> addAll(MovieListItemBatchAddDTO movieListItemBatchAdd)
+            throws CustomBadRequestException, CustomEntityDuplicationException, ServiceNotAvailableException {
+
+        if (isNull(movieListItemBatchAdd.getApiCodes()) || movieListItemBatchAdd.getApiCodes().isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> apiCodes = movieListItemBatchAdd.getApiCodes().stream().distinct().toList();
+
+        if (apiCodes.size() > MAX_BATCH_SIZE) {
+            throw new CustomBadRequestException("Cannot add more than " + MAX_BATCH_SIZE + " movies at once");
+        }
+
+        List<MovieDTO> moviesToAdd = this.movieConnectorProxy.saveByApiCodes(apiCodes);
+
+        if (moviesToAdd.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Long appUserId = movieListItemBatchAdd.getAppUserId();
+
+        Set<Long> movieIdsInList = new HashSet<>(
+                this.movieListItemRepository.getMovieIdsByAppUserIdAndMovieIdIn(
+                        appUserId,
+                        moviesToAdd.stream().map(MovieDTO::getId).toList()
+                )
+        );
+
+        Date addedAt = new Date();
+
+        List<MovieListItem> movieListItemsToAdd = new ArrayList<>();
+
+        for (MovieDTO movie : moviesToAdd) {
+
+            if (Boolean.FALSE.equals(movieIdsInList.add(movie.getId()))) {
+                continue;
+            }
+
+            movieListItemsToAdd.add(MovieListItem
+                    .builder()
+                    .appUserId(appUserId)
+                    .movieId(movie.getId())
+                    .addedAt(addedAt)
+                    .build());
+        }
+
+        try {
+            return this.listItemAppender.append(appUserId, movieListItemsToAdd, this.movieListItemRepository);
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomEntityDuplicationException("Some of these movies are already in your list");
+        }
+    }
+
+    @Override
+    public ListImportJobDTO importByAppUserId(Long appUserId, InputStream inputStream)
+            throws CustomBadRequestException, TooManyRequestsException, IOException {
+        return this.listImporter.start(appUserId, inputStream, this.movieListImportHandler);
+    }
+
+    @Override
+    public ListImportJobDTO getImportJob(Long appUserId, String jobId) throws CustomNotFoundException {
+        return this.listImporter.getJob(appUserId, jobId);
+    }
+
     @Override
     public MovieListItem deleteById(Long appUserId, Long movieListId) throws CustomNotFoundException, ServiceNotAvailableException {
 
@@ -128,10 +323,9 @@ public class MovieListItemServiceImpl implements MovieListItemService {
 
         MovieListItem itemToDelete = movieListItem.get();
 
-        this.movieListItemRepository.delete(itemToDelete);
-
-        this.updateOrder(appUserId);
+        this.compactedItemsSummary.record(this.listItemRemover.remove(appUserId, itemToDelete, this.movieListItemRepository));
 
+        //The catalog is only called once the local delete is committed
         Boolean isMovieUsedInAnotherList = this.isMovieIdAlreadyUsedInOtherList(itemToDelete.getMovieId());
 
         if(Boolean.FALSE.equals(isMovieUsedInAnotherList)) {
@@ -168,50 +362,46 @@ public class MovieListItemServiceImpl implements MovieListItemService {
         return isMovieApiCodeAlreadyInAppUserMovieList;
     }
 
-    private Integer getNextSortingOrder(Long appUserId) {
-
-        MovieListItem appUserLastItem = this.movieListItemRepository.getFirstByAppUserIdOrderBySortingOrderDesc(appUserId);
-
-        if(nonNull(appUserLastItem)) {
-            return appUserLastItem.getSortingOrder() + 1;
-        }
-
-        return 1;
-    }
-
     private void deleteMovie(Long movieId) throws CustomNotFoundException, ServiceNotAvailableException{
         this.movieConnectorProxy.deleteById(movieId);
     }
 
     @Override
     public void updateOrder(Long appUserId) {
-
-        List<MovieListItem> movieListItems = this.movieListItemRepository.getByAppUserIdOrderBySortingOrderAsc(appUserId);
-
-        Integer i = 1;
-
-        for (MovieListItem movieListItem : movieListItems) {
-            movieListItem.setSortingOrder(i);
-            i++;
-        }
-
-        this.movieListItemRepository.saveAll(movieListItems);
-
+        this.movieListItemRepository.compactSortingOrder(appUserId);
     }
 
     @Override
     public MovieListItem getRandomInAppUserList(Long appUserId) {
 
-        List<MovieListItem> movieListItems = this.movieListItemRepository.getByAppUserIdOrderBySortingOrderAsc(appUserId);
+        Long movieListItemCount = this.movieListItemRepository.countByAppUserId(appUserId);
 
-        if(movieListItems.isEmpty()) {
+        if(movieListItemCount == 0) {
             return null;
         }
 
-        int randomIndex = this.random.nextInt(movieListItems.size());
+        int randomIndex = this.random.nextInt(movieListItemCount.intValue());
 
-        return movieListItems.get(randomIndex);
+        Long distinctSortingOrderCount = this.movieListItemRepository
+                .countDistinctSortingOrdersByAppUserIdUpTo(appUserId, movieListItemCount.intValue());
 
+        //Sorting orders are exactly 1..count only when every one of them is distinct, otherwise only the offset pick is uniform
+        if(movieListItemCount.equals(distinctSortingOrderCount)) {
+
+            MovieListItem randomMovieListItem = this.movieListItemRepository
+                    .getFirstByAppUserIdAndSortingOrderOrderByIdAsc(appUserId, randomIndex + 1);
+
+            //Only missing when the list changed since it was counted
+            if(nonNull(randomMovieListItem)) {
+                return randomMovieListItem;
+            }
+        }
+
+        return this.movieListItemRepository
+                .getByAppUserIdOrderBySortingOrderAscIdAsc(appUserId, PageRequest.of(randomIndex, 1))
+                .stream()
+                .findFirst()
+                .orElse(null);
     }
 
     private Boolean isMovieAlreadyInAppUserList(Long appUserId, Long movieId) {
@@ -221,14 +411,77 @@ public class MovieListItemServiceImpl implements MovieListItemService {
         return nonNull(movieListItem);
     }
 
+    private void shiftItemsBetween(Long appUserId, Integer oldSortingNumber, Integer newSortingNumber) {
+
+        if (oldSortingNumber < newSortingNumber) {
+            this.movieListItemRepository.shiftSortingOrderBetween(appUserId, oldSortingNumber + 1, newSortingNumber, -1);
+        } else {
+            this.movieListItemRepository.shiftSortingOrderBetween(appUserId, newSortingNumber, oldSortingNumber - 1, 1);
+        }
+    }
+
     private MovieListItem createMovieListItem(Long appUserId) {
 
         return MovieListItem
                 .builder()
                 .appUserId(appUserId)
-                .sortingOrder(this.getNextSortingOrder(appUserId))
                 .addedAt(new Date())
                 .build();
 
     }
+
+    private class MovieListImportHandler implements ListImportHandler<String, MovieListItem> {
+
+        @Override
+        public String getMediaName() {
+            return "movie";
+        }
+
+        @Override
+        public String parseLine(String line, Integer lineNumber) throws CustomBadRequestException {
+
+            String apiCode;
+
+            if (line.startsWith("{")) {
+                try {
+                    apiCode = objectMapper.readValue(line, MovieAddDTO.class).getApiCode();
+                } catch (JsonProcessingException e) {
+                    throw new CustomBadRequestException("Invalid import line " + lineNumber);
+                }
+            } else {
+                apiCode = line.split(",", 2)[0].replace("\"", "").strip();
+            }
+
+            if (isNull(apiCode) || apiCode.isBlank() || IMPORT_HEADER.equalsIgnoreCase(apiCode)) {
+                return null;
+            }
+
+            return apiCode;
+        }
+
+        @Override
+        public List<Long> getMediaIdsInList(Long appUserId) {
+            return movieListItemRepository.getMovieIdsByAppUserId(appUserId);
+        }
+
+        @Override
+        public List<Long> saveMedias(List<String> apiCodes) throws CustomBadRequestException, ServiceNotAvailableException {
+            return movieConnectorProxy.saveByApiCodes(apiCodes).stream().map(MovieDTO::getId).toList();
+        }
+
+        @Override
+        public MovieListItem createListItem(Long appUserId, Long movieId, Date addedAt) {
+            return MovieListItem
+                    .builder()
+                    .appUserId(appUserId)
+                    .movieId(movieId)
+                    .addedAt(addedAt)
+                    .build();
+        }
+
+        @Override
+        public List<MovieListItem> append(Long appUserId, List<MovieListItem> movieListItems) {
+            return listItemAppender.append(appUserId, movieListItems, movieListItemRepository);
+        }
+    }
 }
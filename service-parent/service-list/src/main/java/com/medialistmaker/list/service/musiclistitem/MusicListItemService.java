@@ -1,25 +1,46 @@
 package com.medialistmaker.list.service.musiclistitem;
 
 import com.medialistmaker.list.domain.MusicListItem;
+import com.medialistmaker.list.dto.ListImportJobDTO;
 import com.medialistmaker.list.dto.music.MusicListItemAddDTO;
+import com.medialistmaker.list.dto.music.MusicListItemBatchAddDTO;
+import com.medialistmaker.list.dto.music.MusicListItemHydratedDTO;
+import com.medialistmaker.list.dto.music.MusicListItemPageDTO;
 import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.list.exception.entityduplicationexception.CustomEntityDuplicationException;
 import com.medialistmaker.list.exception.notfoundexception.CustomNotFoundException;
 import com.medialistmaker.list.exception.servicenotavailableexception.ServiceNotAvailableException;
+import com.medialistmaker.list.exception.toomanyrequestsexception.TooManyRequestsException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface MusicListItemService {
 
     List<MusicListItem> getByAppUserId(Long appUserId);
 
+    MusicListItemPageDTO getPageByAppUserId(Long appUserId, String after, Integer limit) throws CustomBadRequestException;
+
+    void exportByAppUserId(Long appUserId, OutputStream outputStream) throws IOException;
+
     List<MusicListItem> getLatestAddedByAppUserId(Long appUserId);
 
+    List<MusicListItemHydratedDTO> getHydratedByAppUserId(Long appUserId) throws ServiceNotAvailableException;
+
     List<MusicListItem> editSortingOrder(Long appUserId, Long musicListItemId, Integer newSortingNumber) throws CustomNotFoundException;
 
     MusicListItem add(MusicListItemAddDTO listItemAddDTO)
             throws CustomBadRequestException, CustomEntityDuplicationException, ServiceNotAvailableException;
 
+    List<MusicListItem> addAll(MusicListItemBatchAddDTO listItemBatchAddDTO)
+            throws CustomBadRequestException, CustomEntityDuplicationException, ServiceNotAvailableException;
+
+    ListImportJobDTO importByAppUserId(Long appUserId, InputStream inputStream) throws CustomBadRequestException, TooManyRequestsException, IOException;
+
+    ListImportJobDTO getImportJob(Long appUserId, String jobId) throws CustomNotFoundException;
+
     MusicListItem deleteById(Long appUserId, Long musicListId) throws CustomNotFoundException, ServiceNotAvailableException;
 
     Boolean isMusicApiCodeAndTypeAlreadyInAppUserMovieList(Long appUserId, String apiCode, Integer type)
@@ -1,38 +1,103 @@
 package com.medialistmaker.list.service.musiclistitem;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.medialistmaker.list.connector.music.MusicConnectorProxy;
 import com.medialistmaker.list.domain.MusicListItem;
+import com.medialistmaker.list.dto.ListImportJobDTO;
 import com.medialistmaker.list.dto.music.MusicAddDTO;
+import com.medialistmaker.list.dto.music.MusicBatchDTO;
 import com.medialistmaker.list.dto.music.MusicDTO;
+import com.medialistmaker.list.dto.music.MusicListItemHydratedDTO;
 import com.medialistmaker.list.dto.music.MusicListItemAddDTO;
+import com.medialistmaker.list.dto.music.MusicListItemBatchAddDTO;
+import com.medialistmaker.list.dto.music.MusicListItemDTO;
+import com.medialistmaker.list.dto.music.MusicListItemPageDTO;
 import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.list.exception.entityduplicationexception.CustomEntityDuplicationException;
 import com.medialistmaker.list.exception.notfoundexception.CustomNotFoundException;
 import com.medialistmaker.list.exception.servicenotavailableexception.ServiceNotAvailableException;
+import com.medialistmaker.list.exception.toomanyrequestsexception.TooManyRequestsException;
 import com.medialistmaker.list.repository.MusicListItemRepository;
+import com.medialistmaker.list.utils.ListImportHandler;
+import com.medialistmaker.list.utils.ListImporter;
+import com.medialistmaker.list.utils.ListItemAppender;
+import com.medialistmaker.list.utils.ListItemCursor;
+import com.medialistmaker.list.utils.ListItemRemover;
+import com.medialistmaker.list.utils.ListItemPosition;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 @Service
 @Slf4j
 public class MusicListItemServiceImpl implements MusicListItemService {
 
+    private static final Integer MAX_BATCH_SIZE = 500;
+
+    private static final Integer MAX_PAGE_SIZE = 200;
+
+    private static final String IMPORT_HEADER = "apiCode";
+
     private final MusicListItemRepository musicListItemRepository;
 
     private final MusicConnectorProxy musicConnectorProxy;
 
+    private final ListItemCursor listItemCursor;
+
+    private final ObjectMapper objectMapper;
+
+    private final ListImporter listImporter;
+
+    private final ListItemAppender listItemAppender;
+
+    private final ListItemRemover listItemRemover;
+
+    private final DistributionSummary compactedItemsSummary;
+
     private final Random random = new Random();
 
+    private final MusicListImportHandler musicListImportHandler = new MusicListImportHandler();
+
     public MusicListItemServiceImpl(
             MusicListItemRepository musicListItemRepository,
-            MusicConnectorProxy musicConnectorProxy
+            MusicConnectorProxy musicConnectorProxy,
+            ListItemCursor listItemCursor,
+            ObjectMapper objectMapper,
+            ListImporter listImporter,
+            ListItemAppender listItemAppender,
+            ListItemRemover listItemRemover,
+            MeterRegistry meterRegistry
     ) {
         this.musicListItemRepository = musicListItemRepository;
         this.musicConnectorProxy = musicConnectorProxy;
+        this.listItemCursor = listItemCursor;
+        this.objectMapper = objectMapper;
+        this.listImporter = listImporter;
+        this.listItemAppender = listItemAppender;
+        this.listItemRemover = listItemRemover;
+        this.compactedItemsSummary = DistributionSummary
+                .builder("list.items.compacted")
+                .description("Number of list items whose sorting order was rewritten after a delete")
+                .tag("list", "music")
+                .register(meterRegistry);
     }
 
     @Override
@@ -40,52 +105,116 @@ public class MusicListItemServiceImpl implements MusicListItemService {
         return this.musicListItemRepository.getByAppUserIdOrderBySortingOrderAsc(appUserId);
     }
 
+    @Override
+    public MusicListItemPageDTO getPageByAppUserId(Long appUserId, String after, Integer limit)
+            throws CustomBadRequestException {
+
+        if (isNull(limit) || limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new CustomBadRequestException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        ListItemPosition pageStart = this.listItemCursor.resolve(after, appUserId, this.musicListItemRepository);
+
+        List<MusicListItem> musicListItems = this.musicListItemRepository.getByAppUserIdAfterPosition(
+                appUserId, pageStart.sortingOrder(), pageStart.id(), Limit.of(limit + 1)
+        );
+
+        Boolean hasNextPage = musicListItems.size() > limit;
+        List<MusicListItem> pageItems = Boolean.TRUE.equals(hasNextPage) ? musicListItems.subList(0, limit) : musicListItems;
+        MusicListItem lastMusicListItem = pageItems.isEmpty() ? null : pageItems.get(pageItems.size() - 1);
+
+        return MusicListItemPageDTO
+                .builder()
+                .items(pageItems
+                        .stream()
+                        .map(musicListItem -> MusicListItemDTO
+                                .builder()
+                                .id(musicListItem.getId())
+                                .musicId(musicListItem.getMusicId())
+                                .appUserId(musicListItem.getAppUserId())
+                                .sortingOrder(musicListItem.getSortingOrder())
+                                .addedAt(musicListItem.getAddedAt())
+                                .build())
+                        .toList())
+                .nextCursor(Boolean.TRUE.equals(hasNextPage) ?
+                        this.listItemCursor.encode(lastMusicListItem.getSortingOrder(), lastMusicListItem.getId()) :
+                        null)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportByAppUserId(Long appUserId, OutputStream outputStream) throws IOException {
+
+        try (
+                Stream<MusicListItemDTO> musicListItems = this.musicListItemRepository.streamByAppUserId(appUserId);
+                JsonGenerator jsonGenerator = this.objectMapper.getFactory().createGenerator(outputStream)
+        ) {
+            jsonGenerator.setRootValueSeparator(null);
+
+            Iterator<MusicListItemDTO> iterator = musicListItems.iterator();
+
+            while (iterator.hasNext()) {
+                jsonGenerator.writeObject(iterator.next());
+                jsonGenerator.writeRaw('\n');
+            }
+        }
+    }
+
     @Override
     public List<MusicListItem> getLatestAddedByAppUserId(Long appUserId) {
         return this.musicListItemRepository.getTop3ByAppUserIdOrderByAddedAtDesc(appUserId);
     }
 
     @Override
-    public List<MusicListItem> editSortingOrder(Long appUserId, Long musicListItemId, Integer newSortingNumber)
-            throws CustomNotFoundException {
+    public List<MusicListItemHydratedDTO> getHydratedByAppUserId(Long appUserId) throws ServiceNotAvailableException {
 
         List<MusicListItem> musicListItems = this.musicListItemRepository.getByAppUserIdOrderBySortingOrderAsc(appUserId);
 
+        if (musicListItems.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, MusicDTO> musicsById = this.musicConnectorProxy
+                .browseByIds(musicListItems.stream().map(MusicListItem::getMusicId).toList())
+                .stream()
+                .collect(Collectors.toMap(MusicDTO::getId, Function.identity()));
+
+        return musicListItems
+                .stream()
+                .map(musicListItem -> MusicListItemHydratedDTO
+                        .builder()
+                        .id(musicListItem.getId())
+                        .appUserId(musicListItem.getAppUserId())
+                        .sortingOrder(musicListItem.getSortingOrder())
+                        .addedAt(musicListItem.getAddedAt())
+                        .music(musicsById.get(musicListItem.getMusicId()))
+                        .build())
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public List<MusicListItem> editSortingOrder(Long appUserId, Long musicListItemId, Integer newSortingNumber)
+            throws CustomNotFoundException {
+
         Optional<MusicListItem> musicListItem = this.musicListItemRepository.findById(musicListItemId);
 
-        if(musicListItem.isEmpty()) {
+        if (musicListItem.isEmpty()) {
             throw new CustomNotFoundException("Music item not found");
         }
 
         MusicListItem musicListItemToChange = musicListItem.get();
 
-
         Integer oldSortingNumber = musicListItemToChange.getSortingOrder();
 
-        if(oldSortingNumber < newSortingNumber) {
-            for (MusicListItem item : musicListItems) {
-                if(item.getSortingOrder() > oldSortingNumber && item.getSortingOrder() <= newSortingNumber) {
-                    item.setSortingOrder(item.getSortingOrder() -1);
-                }
-            }
-        }
-
-        if(oldSortingNumber > newSortingNumber ) {
-            for (MusicListItem item : musicListItems) {
-                if(item.getSortingOrder() < oldSortingNumber && item.getSortingOrder() >= newSortingNumber) {
-                    item.setSortingOrder(item.getSortingOrder() +1);
-                }
-            }
+        if (Boolean.FALSE.equals(oldSortingNumber.equals(newSortingNumber))) {
+            this.shiftItemsBetween(appUserId, oldSortingNumber, newSortingNumber);
+            musicListItemToChange.setSortingOrder(newSortingNumber);
+            this.musicListItemRepository.save(musicListItemToChange);
         }
 
-        musicListItemToChange.setSortingOrder(newSortingNumber);
-
-        this.musicListItemRepository.save(musicListItemToChange);
-
-        List<MusicListItem> newMusicListItem = new ArrayList<>(musicListItems);
-
-        newMusicListItem.sort(Comparator.comparingInt(MusicListItem::getSortingOrder));
-        return this.musicListItemRepository.saveAll(newMusicListItem);
+        return this.musicListItemRepository.getByAppUserIdOrderBySortingOrderAsc(appUserId);
 
     }
 
@@ -115,12 +244,85 @@ public class MusicListItemServiceImpl implements MusicListItemService {
             musicAddDTO.setType(listItemAddDTO.getType());
             MusicDTO musicDTO = this.musicConnectorProxy.saveByApiCode(musicAddDTO);
             musicListItemToAdd.setMusicId(musicDTO.getId());
-            return this.musicListItemRepository.save(musicListItemToAdd);
+            return this.listItemAppender.append(listItemAddDTO.getAppUserId(), List.of(musicListItemToAdd), this.musicListItemRepository).get(0);
         } catch (CustomBadRequestException e) {
             throw new CustomBadRequestException(e.getMessage());
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomEntityDuplicationException("This music is already in your list");
         }
     }
 
+    @Override
+    public List<MusicListItem> addAll(MusicListItemBatchAddDTO listItemBatchAddDTO)
+            throws CustomBadRequestException, CustomEntityDuplicationException, ServiceNotAvailableException {
+
+        if (isNull(listItemBatchAddDTO.getMusics()) || listItemBatchAddDTO.getMusics().isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<MusicAddDTO> musicAddDTOs = listItemBatchAddDTO.getMusics().stream().distinct().toList();
+
+        if (musicAddDTOs.size() > MAX_BATCH_SIZE) {
+            throw new CustomBadRequestException("Cannot add more than " + MAX_BATCH_SIZE + " musics at once");
+        }
+
+        MusicBatchDTO musicBatch = this.musicConnectorProxy.saveByApiCodes(musicAddDTOs);
+
+        musicBatch.getErrors().forEach(error ->
+                log.info("Music with api code {} not added: {}", error.getApiCode(), error.getMessage())
+        );
+
+        List<MusicDTO> musicsToAdd = musicBatch.getMusics();
+
+        if (musicsToAdd.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Long appUserId = listItemBatchAddDTO.getAppUserId();
+
+        Set<Long> musicIdsInList = new HashSet<>(
+                this.musicListItemRepository.getMusicIdsByAppUserIdAndMusicIdIn(
+                        appUserId,
+                        musicsToAdd.stream().map(MusicDTO::getId).toList()
+                )
+        );
+
+        Date addedAt = new Date();
+
+        List<MusicListItem> musicListItemsToAdd = new ArrayList<>();
+
+        for (MusicDTO music : musicsToAdd) {
+
+            if (Boolean.FALSE.equals(musicIdsInList.add(music.getId()))) {
+                continue;
+            }
+
+            musicListItemsToAdd.add(MusicListItem
+                    .builder()
+                    .appUserId(appUserId)
+                    .musicId(music.getId())
+                    .addedAt(addedAt)
+                    .build());
+        }
+
+        try {
+            return this.listItemAppender.append(appUserId, musicListItemsToAdd, this.musicListItemRepository);
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomEntityDuplicationException("Some of these musics are already in your list");
+        }
+    }
+
+    @Override
+    public ListImportJobDTO importByAppUserId(Long appUserId, InputStream inputStream)
+            throws CustomBadRequestException, TooManyRequestsException, IOException {
+        return this.listImporter.start(appUserId, inputStream, this.musicListImportHandler);
+    }
+
+    @Override
+    public ListImportJobDTO getImportJob(Long appUserId, String jobId) throws CustomNotFoundException {
+        return this.listImporter.getJob(appUserId, jobId);
+    }
+
     @Override
     public MusicListItem deleteById(Long appUserId, Long musicListId) throws CustomNotFoundException, ServiceNotAvailableException {
 
@@ -132,10 +334,9 @@ public class MusicListItemServiceImpl implements MusicListItemService {
 
         MusicListItem itemToDelete = musicListItem.get();
 
-        this.musicListItemRepository.delete(itemToDelete);
-
-        this.updateAllMusicListItemSortingOrder(appUserId);
+        this.compactedItemsSummary.record(this.listItemRemover.remove(appUserId, itemToDelete, this.musicListItemRepository));
 
+        //The catalog is only called once the local delete is committed
         Boolean isMovieUsedInAnotherList = this.isMusicUsedInOtherList(itemToDelete.getMusicId());
 
         if(Boolean.FALSE.equals(isMovieUsedInAnotherList)) {
@@ -176,42 +377,40 @@ public class MusicListItemServiceImpl implements MusicListItemService {
 
     @Override
     public void updateAllMusicListItemSortingOrder(Long appUserId) {
-        List<MusicListItem> musicListItems = this.musicListItemRepository.getByAppUserIdOrderBySortingOrderAsc(appUserId);
-
-        Integer i = 1;
-
-        for (MusicListItem musicListItem : musicListItems) {
-            musicListItem.setSortingOrder(i);
-            i++;
-        }
-
-        this.musicListItemRepository.saveAll(musicListItems);
-
+        this.musicListItemRepository.compactSortingOrder(appUserId);
     }
 
     @Override
     public MusicListItem getRandomInAppUserList(Long appUserId) {
 
-        List<MusicListItem> musicListItems = this.musicListItemRepository.getByAppUserIdOrderBySortingOrderAsc(appUserId);
+        Long musicListItemCount = this.musicListItemRepository.countByAppUserId(appUserId);
 
-        if(musicListItems.isEmpty()) {
+        if(musicListItemCount == 0) {
             return null;
         }
 
-        int randomIndex = this.random.nextInt(musicListItems.size());
+        int randomIndex = this.random.nextInt(musicListItemCount.intValue());
 
-        return musicListItems.get(randomIndex);
-    }
+        Long distinctSortingOrderCount = this.musicListItemRepository
+                .countDistinctSortingOrdersByAppUserIdUpTo(appUserId, musicListItemCount.intValue());
 
-    private Integer getNextSortingOrder(Long appUserId) {
+        //Sorting orders are exactly 1..count only when every one of them is distinct, otherwise only the offset pick is uniform
+        if(musicListItemCount.equals(distinctSortingOrderCount)) {
 
-        MusicListItem appUserLastItem = this.musicListItemRepository.getFirstByAppUserIdOrderBySortingOrderDesc(appUserId);
+            MusicListItem randomMusicListItem = this.musicListItemRepository
+                    .getFirstByAppUserIdAndSortingOrderOrderByIdAsc(appUserId, randomIndex + 1);
 
-        if(nonNull(appUserLastItem)) {
-            return appUserLastItem.getSortingOrder() + 1;
+            //Only missing when the list changed since it was counted
+            if(nonNull(randomMusicListItem)) {
+                return randomMusicListItem;
+            }
         }
 
-        return 1;
+        return this.musicListItemRepository
+                .getByAppUserIdOrderBySortingOrderAscIdAsc(appUserId, PageRequest.of(randomIndex, 1))
+                .stream()
+                .findFirst()
+                .orElse(null);
     }
 
     private void deleteMusic(Long movieId) throws CustomNotFoundException, ServiceNotAvailableException{
@@ -228,12 +427,94 @@ public class MusicListItemServiceImpl implements MusicListItemService {
         return nonNull(isMusicAlreadyInAppUserList);
     }
 
+    private void shiftItemsBetween(Long appUserId, Integer oldSortingNumber, Integer newSortingNumber) {
+
+        if (oldSortingNumber < newSortingNumber) {
+            this.musicListItemRepository.shiftSortingOrderBetween(appUserId, oldSortingNumber + 1, newSortingNumber, -1);
+        } else {
+            this.musicListItemRepository.shiftSortingOrderBetween(appUserId, newSortingNumber, oldSortingNumber - 1, 1);
+        }
+    }
+
     private MusicListItem createMusicListItem(Long appUserId) {
         return MusicListItem
                 .builder()
                 .appUserId(appUserId)
-                .sortingOrder(this.getNextSortingOrder(appUserId))
                 .addedAt(new Date())
                 .build();
     }
+
+    private class MusicListImportHandler implements ListImportHandler<MusicAddDTO, MusicListItem> {
+
+        @Override
+        public String getMediaName() {
+            return "music";
+        }
+
+        @Override
+        public MusicAddDTO parseLine(String line, Integer lineNumber) throws CustomBadRequestException {
+
+            if (line.isEmpty()) {
+                return null;
+            }
+
+            MusicAddDTO musicAddDTO;
+
+            try {
+                if (line.startsWith("{")) {
+                    musicAddDTO = objectMapper.readValue(line, MusicAddDTO.class);
+                } else {
+                    String[] columns = line.replace("\"", "").split(",");
+
+                    if (IMPORT_HEADER.equalsIgnoreCase(columns[0].strip())) {
+                        return null;
+                    }
+
+                    musicAddDTO = new MusicAddDTO();
+                    musicAddDTO.setApiCode(columns[0].strip());
+                    musicAddDTO.setType(columns.length > 1 ? Integer.valueOf(columns[1].strip()) : null);
+                }
+            } catch (JsonProcessingException | NumberFormatException e) {
+                throw new CustomBadRequestException("Invalid import line " + lineNumber);
+            }
+
+            if (isNull(musicAddDTO.getApiCode()) || musicAddDTO.getApiCode().isBlank() || isNull(musicAddDTO.getType())) {
+                throw new CustomBadRequestException("Invalid import line " + lineNumber);
+            }
+
+            return musicAddDTO;
+        }
+
+        @Override
+        public List<Long> getMediaIdsInList(Long appUserId) {
+            return musicListItemRepository.getMusicIdsByAppUserId(appUserId);
+        }
+
+        @Override
+        public List<Long> saveMedias(List<MusicAddDTO> musicAddDTOs) throws CustomBadRequestException, ServiceNotAvailableException {
+
+            MusicBatchDTO musicBatch = musicConnectorProxy.saveByApiCodes(musicAddDTOs);
+
+            musicBatch.getErrors().forEach(error ->
+                    log.info("Music with api code {} not imported: {}", error.getApiCode(), error.getMessage())
+            );
+
+            return musicBatch.getMusics().stream().map(MusicDTO::getId).toList();
+        }
+
+        @Override
+        public MusicListItem createListItem(Long appUserId, Long musicId, Date addedAt) {
+            return MusicListItem
+                    .builder()
+                    .appUserId(appUserId)
+                    .musicId(musicId)
+                    .addedAt(addedAt)
+                    .build();
+        }
+
+        @Override
+        public List<MusicListItem> append(Long appUserId, List<MusicListItem> musicListItems) {
+            return listItemAppender.append(appUserId, musicListItems, musicListItemRepository);
+        }
+    }
 }
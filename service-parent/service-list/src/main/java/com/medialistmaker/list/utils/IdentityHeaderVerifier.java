@@ -0,0 +1,81 @@
+package com.medialistmaker.list.utils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+
+import static java.util.Objects.isNull;
+
+@Component
+public class IdentityHeaderVerifier {
+
+    public static final String USER_ID_HEADER = "X-User-Id";
+
+    public static final String USER_EXPIRES_AT_HEADER = "X-User-Expires-At";
+
+    public static final String USER_SIGNATURE_HEADER = "X-User-Signature";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final Boolean isEnabled;
+
+    private final SecretKeySpec secretKey;
+
+    public IdentityHeaderVerifier(
+            @Value("${security.trusted-header.enabled:false}") Boolean isEnabled,
+            @Value("${security.trusted-header.secret:}") String secret
+    ) {
+        this.isEnabled = isEnabled && Boolean.FALSE.equals(secret.isEmpty());
+        this.secretKey = this.isEnabled ? new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM) : null;
+    }
+
+    public TokenClaims verify(String userId, String expiresAt, String signature) {
+
+        if(Boolean.FALSE.equals(this.isEnabled) || isNull(userId) || isNull(expiresAt) || isNull(signature)) {
+            return null;
+        }
+
+        Instant expirationDate;
+
+        try {
+            expirationDate = Instant.ofEpochSecond(Long.parseLong(expiresAt));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        byte[] expectedSignature = this.sign(userId + ":" + expiresAt);
+
+        if(Boolean.FALSE.equals(MessageDigest.isEqual(expectedSignature, this.decode(signature)))) {
+            return null;
+        }
+
+        TokenClaims tokenClaims = new TokenClaims(null, userId, null, expirationDate, null);
+
+        return Boolean.TRUE.equals(tokenClaims.isExpired()) ? null : tokenClaims;
+    }
+
+    private byte[] sign(String value) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(this.secretKey);
+            return mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] decode(String signature) {
+        try {
+            return Base64.getUrlDecoder().decode(signature);
+        } catch (IllegalArgumentException e) {
+            return new byte[0];
+        }
+    }
+}
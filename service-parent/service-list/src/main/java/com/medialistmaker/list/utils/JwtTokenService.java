@@ -3,50 +3,42 @@ package com.medialistmaker.list.utils;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
-import java.util.Date;
-import java.util.function.Function;
+
+import static java.util.Objects.isNull;
 
 @Component
 public class JwtTokenService {
 
+    public static final String USERNAME_CLAIM = "username";
+
     private static final String SECRET_KEY = "test";
 
-    public String getUsername(String token) {
-        return this.getClaimFromToken(token, Claims::getSubject);
-    }
+    public TokenClaims verify(String token) {
 
-    public Date getTokenExpirationDate(String token) {
-        return this.getClaimFromToken(token, Claims::getExpiration);
-    }
+        Claims claims;
 
-    public Boolean isTokenValid(String token, UserDetails userDetails) {
-        if(Boolean.FALSE.equals(this.isTokenFormatValid(token))) {
-            return Boolean.FALSE;
+        try {
+            claims = this.getAllClaimsFromToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
         }
 
-        String username = this.getUsername(token);
-
-        return username.equals(userDetails.getUsername()) && Boolean.FALSE.equals(this.isTokenExpired(token));
-    }
-
-    private Boolean isTokenFormatValid(String token) {
-
-        try {
-            this.getAllClaimsFromToken(token);
-            return Boolean.TRUE;
-        } catch (JwtException e) {
-            return Boolean.FALSE;
+        if(isNull(claims.getSubject()) || isNull(claims.getExpiration())) {
+            return null;
         }
 
-    }
+        TokenClaims tokenClaims = new TokenClaims(
+                claims.getId(),
+                claims.getSubject(),
+                claims.get(USERNAME_CLAIM, String.class),
+                claims.getExpiration().toInstant(),
+                isNull(claims.getIssuedAt()) ? null : claims.getIssuedAt().toInstant()
+        );
 
-    private <T> T getClaimFromToken(String token, Function<Claims, T> claimResolver) {
-        Claims claims = this.getAllClaimsFromToken(token);
-        return claimResolver.apply(claims);
+        return Boolean.TRUE.equals(tokenClaims.isExpired()) ? null : tokenClaims;
     }
 
     private Claims getAllClaimsFromToken(String token) {
@@ -57,9 +49,4 @@ public class JwtTokenService {
                 .getBody();
     }
 
-    private Boolean isTokenExpired(String token) {
-        Date expirationDate = this.getTokenExpirationDate(token);
-        return expirationDate.before(new Date());
-    }
-
 }
@@ -0,0 +1,23 @@
+package com.medialistmaker.list.utils;
+
+import com.medialistmaker.list.domain.ListItem;
+import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
+import com.medialistmaker.list.exception.servicenotavailableexception.ServiceNotAvailableException;
+
+import java.util.Date;
+import java.util.List;
+
+public interface ListImportHandler<K, A extends ListItem> {
+
+    String getMediaName();
+
+    K parseLine(String line, Integer lineNumber) throws CustomBadRequestException;
+
+    List<Long> getMediaIdsInList(Long appUserId);
+
+    List<Long> saveMedias(List<K> mediaKeys) throws CustomBadRequestException, ServiceNotAvailableException;
+
+    A createListItem(Long appUserId, Long mediaId, Date addedAt);
+
+    List<A> append(Long appUserId, List<A> listItems);
+}
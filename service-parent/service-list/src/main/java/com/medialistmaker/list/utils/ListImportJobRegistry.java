@@ -0,0 +1,65 @@
+package com.medialistmaker.list.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.medialistmaker.list.dto.ListImportJobDTO;
+import com.medialistmaker.list.dto.ListImportJobStatus;
+import com.medialistmaker.list.exception.notfoundexception.CustomNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static java.util.Objects.isNull;
+
+@Component
+public class ListImportJobRegistry {
+
+    private final Cache<String, ListImportJobDTO> importJobs;
+
+    public ListImportJobRegistry(@Value("${list.import.job-retention:1h}") Duration jobRetention) {
+        this.importJobs = Caffeine
+                .newBuilder()
+                .expireAfterWrite(jobRetention)
+                .build();
+    }
+
+    public ListImportJobDTO create(Long appUserId, Integer total) {
+
+        ListImportJobDTO importJob = ListImportJobDTO
+                .builder()
+                .jobId(UUID.randomUUID().toString())
+                .appUserId(appUserId)
+                .status(ListImportJobStatus.PENDING)
+                .total(total)
+                .processed(0)
+                .imported(0)
+                .skipped(0)
+                .failed(0)
+                .build();
+
+        this.importJobs.put(importJob.getJobId(), importJob);
+
+        return importJob;
+    }
+
+    public void update(ListImportJobDTO importJob) {
+        this.importJobs.put(importJob.getJobId(), importJob);
+    }
+
+    public void remove(String jobId) {
+        this.importJobs.invalidate(jobId);
+    }
+
+    public ListImportJobDTO getByAppUserIdAndJobId(Long appUserId, String jobId) throws CustomNotFoundException {
+
+        ListImportJobDTO importJob = this.importJobs.getIfPresent(jobId);
+
+        if (isNull(importJob) || Boolean.FALSE.equals(importJob.getAppUserId().equals(appUserId))) {
+            throw new CustomNotFoundException("Import job not found");
+        }
+
+        return importJob;
+    }
+}
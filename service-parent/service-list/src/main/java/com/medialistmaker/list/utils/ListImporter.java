@@ -0,0 +1,290 @@
+package com.medialistmaker.list.utils;
+
+import com.medialistmaker.list.configuration.executor.ExecutorConfiguration;
+import com.medialistmaker.list.domain.ListItem;
+import com.medialistmaker.list.dto.ListImportJobDTO;
+import com.medialistmaker.list.dto.ListImportJobStatus;
+import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
+import com.medialistmaker.list.exception.notfoundexception.CustomNotFoundException;
+import com.medialistmaker.list.exception.servicenotavailableexception.ServiceNotAvailableException;
+import com.medialistmaker.list.exception.toomanyrequestsexception.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@Slf4j
+@Component
+public class ListImporter {
+
+    private static final Integer MAX_IMPORT_SIZE = 10000;
+
+    private static final Integer CHUNK_SIZE = 500;
+
+    private static final Integer BUFFERED_CHUNKS = 4;
+
+    private static final Duration CHUNK_HANDOFF_TIMEOUT = Duration.ofMinutes(5);
+
+    private final ListImportJobRegistry listImportJobRegistry;
+
+    private final Executor importExecutor;
+
+    public ListImporter(
+            ListImportJobRegistry listImportJobRegistry,
+            @Qualifier(ExecutorConfiguration.IMPORT_EXECUTOR) Executor importExecutor
+    ) {
+        this.listImportJobRegistry = listImportJobRegistry;
+        this.importExecutor = importExecutor;
+    }
+
+    public <K> ListImportJobDTO start(Long appUserId, InputStream inputStream, ListImportHandler<K, ?> importHandler)
+            throws CustomBadRequestException, TooManyRequestsException, IOException {
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+
+            ImportReader<K> importReader = new ImportReader<>(reader, importHandler);
+            List<K> mediaKeys = importReader.readChunk();
+
+            if (mediaKeys.isEmpty()) {
+                throw new CustomBadRequestException("Import does not contain any " + importHandler.getMediaName());
+            }
+
+            ListImportJobDTO importJob = this.listImportJobRegistry.create(appUserId, 0);
+            BlockingQueue<ImportChunk<K>> chunks = new ArrayBlockingQueue<>(BUFFERED_CHUNKS);
+
+            try {
+                this.importExecutor.execute(() -> this.run(importJob, chunks, importHandler));
+            } catch (RejectedExecutionException e) {
+                this.listImportJobRegistry.remove(importJob.getJobId());
+                throw new TooManyRequestsException("Too many imports are running, try again later");
+            }
+
+            //The upload is parsed while the job imports the chunks already read, the request ends with the last line
+            ImportChunk<K> lastChunk = ImportChunk.last(null);
+
+            try {
+                while (Boolean.FALSE.equals(mediaKeys.isEmpty())) {
+                    this.handOff(chunks, new ImportChunk<>(mediaKeys, null));
+                    mediaKeys = importReader.readChunk();
+                }
+            } catch (CustomBadRequestException | IOException e) {
+                lastChunk = ImportChunk.last(e.getMessage());
+                throw e;
+            } finally {
+                this.handOff(chunks, lastChunk);
+            }
+
+            return importJob;
+        }
+    }
+
+    public ListImportJobDTO getJob(Long appUserId, String jobId) throws CustomNotFoundException {
+        return this.listImportJobRegistry.getByAppUserIdAndJobId(appUserId, jobId);
+    }
+
+    private <K> void handOff(BlockingQueue<ImportChunk<K>> chunks, ImportChunk<K> chunk) throws IOException {
+        try {
+            if (Boolean.FALSE.equals(chunks.offer(chunk, CHUNK_HANDOFF_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS))) {
+                throw new IOException("Import job stopped reading the upload");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import upload interrupted");
+        }
+    }
+
+    private <K, A extends ListItem> void run(
+            ListImportJobDTO importJob,
+            BlockingQueue<ImportChunk<K>> chunks,
+            ListImportHandler<K, A> importHandler
+    ) {
+
+        ListImportJobDTO importProgress = importJob.toBuilder().status(ListImportJobStatus.RUNNING).build();
+        this.listImportJobRegistry.update(importProgress);
+
+        try {
+            List<Long> mediaIdsInList = importHandler.getMediaIdsInList(importJob.getAppUserId());
+
+            LongHashSet importedMediaIds = new LongHashSet(mediaIdsInList.size() + CHUNK_SIZE);
+            mediaIdsInList.forEach(importedMediaIds::add);
+
+            ImportChunk<K> chunk = this.takeChunk(chunks);
+
+            while (Boolean.FALSE.equals(chunk.isLast())) {
+                importProgress = importProgress.toBuilder().total(importProgress.getTotal() + chunk.mediaKeys().size()).build();
+                importProgress = this.importChunk(importProgress, chunk.mediaKeys(), importedMediaIds, importHandler);
+                this.listImportJobRegistry.update(importProgress);
+                chunk = this.takeChunk(chunks);
+            }
+
+            importProgress = isNull(chunk.failure()) ?
+                    importProgress.toBuilder().status(ListImportJobStatus.COMPLETED).build() :
+                    importProgress.toBuilder().status(ListImportJobStatus.FAILED).message(chunk.failure()).build();
+        } catch (ServiceNotAvailableException | RuntimeException e) {
+            log.error("{} import {} failed", importHandler.getMediaName(), importJob.getJobId(), e);
+            importProgress = importProgress.toBuilder().status(ListImportJobStatus.FAILED).message(e.getMessage()).build();
+            this.drain(chunks);
+        }
+
+        this.listImportJobRegistry.update(importProgress);
+    }
+
+    private <K> ImportChunk<K> takeChunk(BlockingQueue<ImportChunk<K>> chunks) {
+        try {
+            ImportChunk<K> chunk = chunks.poll(CHUNK_HANDOFF_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            return nonNull(chunk) ? chunk : ImportChunk.last("Import upload timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ImportChunk.last("Import interrupted");
+        }
+    }
+
+    private <K> void drain(BlockingQueue<ImportChunk<K>> chunks) {
+
+        //Keeps consuming so the request still reading the upload is never blocked on a failed job
+        ImportChunk<K> chunk = this.takeChunk(chunks);
+
+        while (Boolean.FALSE.equals(chunk.isLast())) {
+            chunk = this.takeChunk(chunks);
+        }
+    }
+
+    private <K, A extends ListItem> ListImportJobDTO importChunk(
+            ListImportJobDTO importProgress,
+            List<K> mediaKeys,
+            LongHashSet importedMediaIds,
+            ListImportHandler<K, A> importHandler
+    ) throws ServiceNotAvailableException {
+
+        List<Long> mediaIds;
+
+        try {
+            mediaIds = importHandler.saveMedias(mediaKeys);
+        } catch (CustomBadRequestException e) {
+            log.info("{} import {} chunk rejected: {}", importHandler.getMediaName(), importProgress.getJobId(), e.getMessage());
+            return importProgress
+                    .toBuilder()
+                    .processed(importProgress.getProcessed() + mediaKeys.size())
+                    .failed(importProgress.getFailed() + mediaKeys.size())
+                    .build();
+        }
+
+        List<Long> mediaIdsToAdd = new ArrayList<>();
+
+        for (Long mediaId : mediaIds) {
+            if (Boolean.TRUE.equals(importedMediaIds.add(mediaId))) {
+                mediaIdsToAdd.add(mediaId);
+            }
+        }
+
+        Integer importedCount = this.insert(importProgress, mediaIdsToAdd, importHandler);
+
+        return importProgress
+                .toBuilder()
+                .processed(importProgress.getProcessed() + mediaKeys.size())
+                .imported(importProgress.getImported() + importedCount)
+                .skipped(importProgress.getSkipped() + mediaIds.size() - mediaIdsToAdd.size())
+                .failed(importProgress.getFailed() + mediaKeys.size() - mediaIds.size() + mediaIdsToAdd.size() - importedCount)
+                .build();
+    }
+
+    private <A extends ListItem> Integer insert(
+            ListImportJobDTO importProgress,
+            List<Long> mediaIds,
+            ListImportHandler<?, A> importHandler
+    ) {
+
+        Long appUserId = importProgress.getAppUserId();
+        Date addedAt = new Date();
+
+        List<A> listItemsToAdd = new ArrayList<>();
+
+        for (Long mediaId : mediaIds) {
+            listItemsToAdd.add(importHandler.createListItem(appUserId, mediaId, addedAt));
+        }
+
+        try {
+            importHandler.append(appUserId, listItemsToAdd);
+            return listItemsToAdd.size();
+        } catch (DataIntegrityViolationException e) {
+            log.info("{} import {} chunk conflicted with a concurrent add, importing it row by row",
+                    importHandler.getMediaName(), importProgress.getJobId());
+        }
+
+        //The failed batch was rolled back, rebuild each item so it gets a fresh id
+        Integer importedCount = 0;
+
+        for (Long mediaId : mediaIds) {
+            try {
+                importHandler.append(appUserId, List.of(importHandler.createListItem(appUserId, mediaId, addedAt)));
+                importedCount++;
+            } catch (DataIntegrityViolationException e) {
+                log.info("{} {} not imported: already in list", importHandler.getMediaName(), mediaId);
+            }
+        }
+
+        return importedCount;
+    }
+
+    private record ImportChunk<K>(List<K> mediaKeys, String failure) {
+
+        static <K> ImportChunk<K> last(String failure) {
+            return new ImportChunk<>(Collections.emptyList(), failure);
+        }
+
+        Boolean isLast() {
+            return this.mediaKeys.isEmpty();
+        }
+    }
+
+    private static class ImportReader<K> {
+
+        private final BufferedReader reader;
+
+        private final ListImportHandler<K, ?> importHandler;
+
+        private int lineNumber = 0;
+
+        private int readCount = 0;
+
+        ImportReader(BufferedReader reader, ListImportHandler<K, ?> importHandler) {
+            this.reader = reader;
+            this.importHandler = importHandler;
+        }
+
+        List<K> readChunk() throws CustomBadRequestException, IOException {
+
+            Set<K> mediaKeys = new LinkedHashSet<>();
+            String line;
+
+            while (mediaKeys.size() < CHUNK_SIZE && nonNull(line = this.reader.readLine())) {
+
+                K mediaKey = this.importHandler.parseLine(line.strip(), ++this.lineNumber);
+
+                if (nonNull(mediaKey) && Boolean.TRUE.equals(mediaKeys.add(mediaKey)) && ++this.readCount > MAX_IMPORT_SIZE) {
+                    throw new CustomBadRequestException(
+                            "Cannot import more than " + MAX_IMPORT_SIZE + " " + this.importHandler.getMediaName() + "s at once"
+                    );
+                }
+            }
+
+            return new ArrayList<>(mediaKeys);
+        }
+    }
+}
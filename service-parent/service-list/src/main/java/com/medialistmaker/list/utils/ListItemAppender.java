@@ -0,0 +1,35 @@
+package com.medialistmaker.list.utils;
+
+import com.medialistmaker.list.domain.ListItem;
+import com.medialistmaker.list.repository.ListItemBaseRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static java.util.Objects.nonNull;
+
+@Component
+public class ListItemAppender {
+
+    @Transactional
+    public <A extends ListItem, R extends JpaRepository<A, Long> & ListItemBaseRepository<A>> List<A> append(
+            Long appUserId,
+            List<A> listItems,
+            R listItemRepository
+    ) {
+
+        //Held until commit, so appends and removals on the same list never work from a stale last sorting order
+        listItemRepository.lockSortingOrdersByAppUserId(appUserId);
+
+        A appUserLastItem = listItemRepository.getFirstByAppUserIdOrderBySortingOrderDesc(appUserId);
+        int nextSortingOrder = nonNull(appUserLastItem) ? appUserLastItem.getSortingOrder() + 1 : 1;
+
+        for (A listItem : listItems) {
+            listItem.setSortingOrder(nextSortingOrder++);
+        }
+
+        return listItemRepository.saveAllAndFlush(listItems);
+    }
+}
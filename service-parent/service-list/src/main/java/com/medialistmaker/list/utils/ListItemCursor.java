@@ -0,0 +1,69 @@
+package com.medialistmaker.list.utils;
+
+import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
+import com.medialistmaker.list.repository.ListItemBaseRepository;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static java.util.Objects.isNull;
+
+@Component
+public class ListItemCursor {
+
+    private static final String PREFIX = "so:";
+
+    private static final String SEPARATOR = ":";
+
+    public String encode(Integer sortingOrder, Long id) {
+        return Base64
+                .getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((PREFIX + sortingOrder + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public ListItemPosition decode(String cursor) throws CustomBadRequestException {
+
+        if (isNull(cursor) || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decodedCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+            if (Boolean.FALSE.equals(decodedCursor.startsWith(PREFIX))) {
+                throw new CustomBadRequestException("Invalid cursor");
+            }
+
+            String[] position = decodedCursor.substring(PREFIX.length()).split(SEPARATOR);
+
+            if (position.length != 2) {
+                throw new CustomBadRequestException("Invalid cursor");
+            }
+
+            return new ListItemPosition(Integer.valueOf(position[0]), Long.valueOf(position[1]));
+        } catch (IllegalArgumentException e) {
+            throw new CustomBadRequestException("Invalid cursor");
+        }
+    }
+
+    public ListItemPosition resolve(String cursor, Long appUserId, ListItemBaseRepository<?> listItemRepository)
+            throws CustomBadRequestException {
+
+        ListItemPosition cursorPosition = this.decode(cursor);
+
+        if (isNull(cursorPosition)) {
+            return ListItemPosition.START;
+        }
+
+        Integer currentSortingOrder = listItemRepository.getSortingOrderByAppUserIdAndId(appUserId, cursorPosition.id());
+
+        if (isNull(currentSortingOrder)) {
+            //The anchor item was deleted, compaction moved the items after it up by one position
+            return new ListItemPosition(cursorPosition.sortingOrder() - 1, Long.MAX_VALUE);
+        }
+
+        return new ListItemPosition(currentSortingOrder, cursorPosition.id());
+    }
+}
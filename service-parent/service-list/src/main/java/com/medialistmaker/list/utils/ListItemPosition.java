@@ -0,0 +1,6 @@
+package com.medialistmaker.list.utils;
+
+public record ListItemPosition(Integer sortingOrder, Long id) {
+
+    public static final ListItemPosition START = new ListItemPosition(0, 0L);
+}
@@ -0,0 +1,28 @@
+package com.medialistmaker.list.utils;
+
+import com.medialistmaker.list.domain.ListItem;
+import com.medialistmaker.list.repository.ListItemBaseRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class ListItemRemover {
+
+    @Transactional
+    public <A extends ListItem, R extends JpaRepository<A, Long> & ListItemBaseRepository<A>> Integer remove(
+            Long appUserId,
+            A listItem,
+            R listItemRepository
+    ) {
+
+        listItemRepository.lockSortingOrdersByAppUserId(appUserId);
+        listItemRepository.delete(listItem);
+
+        if (Boolean.TRUE.equals(listItemRepository.existsByAppUserIdAndSortingOrderGreaterThan(appUserId, listItem.getSortingOrder()))) {
+            return listItemRepository.compactSortingOrder(appUserId);
+        }
+
+        return 0;
+    }
+}
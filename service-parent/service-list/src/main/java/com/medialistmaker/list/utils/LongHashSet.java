@@ -0,0 +1,92 @@
+package com.medialistmaker.list.utils;
+
+public class LongHashSet {
+
+    private static final long EMPTY = 0L;
+
+    private long[] slots;
+
+    private boolean containsEmpty;
+
+    private int size;
+
+    public LongHashSet(int expectedSize) {
+        this.slots = new long[this.capacityFor(expectedSize)];
+    }
+
+    public boolean add(long value) {
+
+        if (value == EMPTY) {
+            if (this.containsEmpty) {
+                return false;
+            }
+
+            this.containsEmpty = true;
+            this.size++;
+
+            return true;
+        }
+
+        int slot = this.slotOf(value, this.slots);
+
+        if (this.slots[slot] == value) {
+            return false;
+        }
+
+        this.slots[slot] = value;
+        this.size++;
+
+        if (this.size * 2 > this.slots.length) {
+            this.resize();
+        }
+
+        return true;
+    }
+
+    public boolean contains(long value) {
+
+        if (value == EMPTY) {
+            return this.containsEmpty;
+        }
+
+        return this.slots[this.slotOf(value, this.slots)] == value;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    private int slotOf(long value, long[] table) {
+
+        int mask = table.length - 1;
+        int slot = (int) this.mix(value) & mask;
+
+        while (table[slot] != EMPTY && table[slot] != value) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    private void resize() {
+
+        long[] resizedSlots = new long[this.slots.length * 2];
+
+        for (long value : this.slots) {
+            if (value != EMPTY) {
+                resizedSlots[this.slotOf(value, resizedSlots)] = value;
+            }
+        }
+
+        this.slots = resizedSlots;
+    }
+
+    private int capacityFor(int expectedSize) {
+        return Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+    }
+
+    private long mix(long value) {
+        long mixed = value * 0x9E3779B97F4A7C15L;
+        return mixed ^ (mixed >>> 32);
+    }
+}
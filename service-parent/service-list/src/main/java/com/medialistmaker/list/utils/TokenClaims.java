@@ -0,0 +1,10 @@
+package com.medialistmaker.list.utils;
+
+import java.time.Instant;
+
+public record TokenClaims(String id, String subject, String username, Instant expiresAt, Instant issuedAt) {
+
+    public Boolean isExpired() {
+        return Boolean.FALSE.equals(this.expiresAt.isAfter(Instant.now()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.medialistmaker.list.utils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.Objects.nonNull;
+
+@Component
+public class TokenDenyList {
+
+    private final Set<String> deniedTokenIds;
+
+    private final Set<String> deniedSubjects;
+
+    public TokenDenyList(
+            @Value("${security.jwt.deny-list.token-ids:}") String[] deniedTokenIds,
+            @Value("${security.jwt.deny-list.subjects:}") String[] deniedSubjects
+    ) {
+        this.deniedTokenIds = new HashSet<>(Arrays.asList(deniedTokenIds));
+        this.deniedSubjects = new HashSet<>(Arrays.asList(deniedSubjects));
+    }
+
+    public Boolean isDenied(TokenClaims tokenClaims) {
+        return (nonNull(tokenClaims.id()) && this.deniedTokenIds.contains(tokenClaims.id()))
+                || this.deniedSubjects.contains(tokenClaims.subject());
+    }
+}
@@ -0,0 +1,79 @@
+package com.medialistmaker.list.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "verifiedTokens";
+
+    private final Cache<String, TokenClaims> verifiedTokens;
+
+    public VerifiedTokenCache(
+            MeterRegistry meterRegistry,
+            @Value("${security.jwt.verified-token-cache.maximum-size:10000}") Long maximumSize
+    ) {
+        this.verifiedTokens = Caffeine
+                .newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, this.verifiedTokens, CACHE_NAME);
+    }
+
+    public TokenClaims getIfPresent(String token) {
+        return this.verifiedTokens.getIfPresent(this.hash(token));
+    }
+
+    public void put(String token, TokenClaims tokenClaims) {
+
+        if(Boolean.TRUE.equals(tokenClaims.isExpired())) {
+            return;
+        }
+
+        this.verifiedTokens.put(this.hash(token), tokenClaims);
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, TokenClaims> {
+
+        @Override
+        public long expireAfterCreate(String tokenHash, TokenClaims tokenClaims, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(
+                    Math.max(0, tokenClaims.expiresAt().toEpochMilli() - System.currentTimeMillis())
+            );
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, TokenClaims tokenClaims, long currentTime, long currentDuration) {
+            return this.expireAfterCreate(tokenHash, tokenClaims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, TokenClaims tokenClaims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+CREATE SEQUENCE IF NOT EXISTS movie_list_id_sequence START WITH 1 INCREMENT BY 50;
+
+CREATE SEQUENCE IF NOT EXISTS music_list_id_sequence START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS movie_list_item
+(
+    id            BIGINT  NOT NULL,
+    app_user_id   BIGINT  NOT NULL,
+    sorting_order INTEGER NOT NULL,
+    added_at      TIMESTAMP(6),
+    movie_id      BIGINT  NOT NULL,
+    CONSTRAINT movie_list_item_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS music_list_item
+(
+    id            BIGINT  NOT NULL,
+    app_user_id   BIGINT  NOT NULL,
+    sorting_order INTEGER NOT NULL,
+    added_at      TIMESTAMP(6),
+    music_id      BIGINT  NOT NULL,
+    CONSTRAINT music_list_item_pkey PRIMARY KEY (id)
+);
@@ -0,0 +1,43 @@
+DELETE
+FROM movie_list_item duplicate USING movie_list_item original
+WHERE duplicate.app_user_id = original.app_user_id
+  AND duplicate.movie_id = original.movie_id
+  AND duplicate.id > original.id;
+
+DELETE
+FROM music_list_item duplicate USING music_list_item original
+WHERE duplicate.app_user_id = original.app_user_id
+  AND duplicate.music_id = original.music_id
+  AND duplicate.id > original.id;
+
+UPDATE movie_list_item i
+SET sorting_order = ranked.position
+FROM (SELECT id, row_number() OVER (PARTITION BY app_user_id ORDER BY sorting_order, id) AS position
+      FROM movie_list_item) ranked
+WHERE i.id = ranked.id
+  AND i.sorting_order <> ranked.position;
+
+UPDATE music_list_item i
+SET sorting_order = ranked.position
+FROM (SELECT id, row_number() OVER (PARTITION BY app_user_id ORDER BY sorting_order, id) AS position
+      FROM music_list_item) ranked
+WHERE i.id = ranked.id
+  AND i.sorting_order <> ranked.position;
+
+ALTER TABLE movie_list_item
+    ADD CONSTRAINT movie_list_item_app_user_id_movie_id_key UNIQUE (app_user_id, movie_id);
+
+ALTER TABLE music_list_item
+    ADD CONSTRAINT music_list_item_app_user_id_music_id_key UNIQUE (app_user_id, music_id);
+
+CREATE INDEX movie_list_item_app_user_id_sorting_order_idx ON movie_list_item (app_user_id, sorting_order);
+
+CREATE INDEX movie_list_item_app_user_id_added_at_idx ON movie_list_item (app_user_id, added_at DESC);
+
+CREATE INDEX movie_list_item_movie_id_idx ON movie_list_item (movie_id);
+
+CREATE INDEX music_list_item_app_user_id_sorting_order_idx ON music_list_item (app_user_id, sorting_order);
+
+CREATE INDEX music_list_item_app_user_id_added_at_idx ON music_list_item (app_user_id, added_at DESC);
+
+CREATE INDEX music_list_item_music_id_idx ON music_list_item (music_id);
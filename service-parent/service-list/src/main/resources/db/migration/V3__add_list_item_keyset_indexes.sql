@@ -0,0 +1,7 @@
+DROP INDEX movie_list_item_app_user_id_sorting_order_idx;
+
+CREATE INDEX movie_list_item_app_user_id_sorting_order_id_idx ON movie_list_item (app_user_id, sorting_order, id);
+
+DROP INDEX music_list_item_app_user_id_sorting_order_idx;
+
+CREATE INDEX music_list_item_app_user_id_sorting_order_id_idx ON music_list_item (app_user_id, sorting_order, id);
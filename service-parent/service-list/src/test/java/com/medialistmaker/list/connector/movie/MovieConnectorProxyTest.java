@@ -1,5 +1,6 @@
 package com.medialistmaker.list.connector.movie;
 
+import com.medialistmaker.list.configuration.cache.CacheConfiguration;
 import com.medialistmaker.list.dto.movie.MovieAddDTO;
 import com.medialistmaker.list.dto.movie.MovieDTO;
 import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
@@ -10,9 +11,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,6 +27,9 @@ class MovieConnectorProxyTest {
     @Mock
     MovieConnector movieConnector;
 
+    @Spy
+    ConcurrentMapCacheManager cacheManager;
+
     @InjectMocks
     MovieConnectorProxy movieConnectorProxy;
 
@@ -97,4 +106,84 @@ class MovieConnectorProxyTest {
         assertThrows(ServiceNotAvailableException.class, () -> this.movieConnectorProxy.saveByApiCode(movieAddDTO));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenIdsWhenBrowseByIdsShouldFetchMissingMoviesAndReturnThemInRequestedOrder() throws Exception {
+
+        MovieDTO firstMovie = new MovieDTO();
+        firstMovie.setId(1L);
+
+        MovieDTO secondMovie = new MovieDTO();
+        secondMovie.setId(2L);
+
+        MovieDTO thirdMovie = new MovieDTO();
+        thirdMovie.setId(3L);
+
+        this.cacheManager.getCache(CacheConfiguration.MOVIE_CACHE).put(2L, secondMovie);
+
+        Mockito.when(this.movieConnector.browseByIds(List.of(3L, 1L))).thenReturn(List.of(firstMovie, thirdMovie));
+
+        List<MovieDTO> testBrowseByIds = this.movieConnectorProxy.browseByIds(List.of(3L, 2L, 1L));
+
+        Mockito.verify(this.movieConnector).browseByIds(List.of(3L, 1L));
+        assertEquals(List.of(thirdMovie, secondMovie, firstMovie), testBrowseByIds);
+        assertEquals(firstMovie, this.cacheManager.getCache(CacheConfiguration.MOVIE_CACHE).get(1L, MovieDTO.class));
+    }
+
+    @Test
+    void givenCachedIdsWhenBrowseByIdsShouldNotCallMovieService() throws Exception {
+
+        MovieDTO movieDTO = new MovieDTO();
+        movieDTO.setId(1L);
+
+        this.cacheManager.getCache(CacheConfiguration.MOVIE_CACHE).put(1L, movieDTO);
+
+        List<MovieDTO> testBrowseByIds = this.movieConnectorProxy.browseByIds(List.of(1L));
+
+        Mockito.verify(this.movieConnector, Mockito.never()).browseByIds(anyList());
+        assertEquals(List.of(movieDTO), testBrowseByIds);
+    }
+
+    @Test
+    void givenIdsWhenBrowseByIdsAndServiceNotAvailableShouldThrowServiceNotAvailableException() throws Exception {
+
+        Mockito.when(this.movieConnector.browseByIds(anyList())).thenThrow(ServiceNotAvailableException.class);
+
+        List<Long> movieIds = List.of(1L);
+
+        assertThrows(ServiceNotAvailableException.class, () -> this.movieConnectorProxy.browseByIds(movieIds));
+    }
+
+    @Test
+    void givenIdWhenDeleteByIdShouldEvictRelatedMovieFromCache() throws Exception {
+
+        MovieDTO movieDTO = new MovieDTO();
+        movieDTO.setId(1L);
+
+        this.cacheManager.getCache(CacheConfiguration.MOVIE_CACHE).put(1L, movieDTO);
+
+        Mockito.when(this.movieConnector.deleteById(1L)).thenReturn(movieDTO);
+
+        MovieDTO testDeleteById = this.movieConnectorProxy.deleteById(1L);
+
+        assertEquals(movieDTO, testDeleteById);
+        assertNull(this.cacheManager.getCache(CacheConfiguration.MOVIE_CACHE).get(1L));
+    }
+
+    @Test
+    void givenApiCodesWhenSaveByApiCodesShouldReturnSavedMoviesAndCacheThem() throws Exception {
+
+        MovieDTO firstMovie = new MovieDTO();
+        firstMovie.setId(1L);
+
+        MovieDTO secondMovie = new MovieDTO();
+        secondMovie.setId(2L);
+
+        Mockito.when(this.movieConnector.saveByApiCodes(List.of("XXX", "YYY"))).thenReturn(List.of(firstMovie, secondMovie));
+
+        List<MovieDTO> testSaveByApiCodes = this.movieConnectorProxy.saveByApiCodes(List.of("XXX", "YYY"));
+
+        assertEquals(List.of(firstMovie, secondMovie), testSaveByApiCodes);
+        assertEquals(secondMovie, this.cacheManager.getCache(CacheConfiguration.MOVIE_CACHE).get(2L, MovieDTO.class));
+    }
+}
@@ -1,5 +1,6 @@
 package com.medialistmaker.list.connector.music;
 
+import com.medialistmaker.list.configuration.cache.CacheConfiguration;
 import com.medialistmaker.list.dto.music.MusicAddDTO;
 import com.medialistmaker.list.dto.music.MusicDTO;
 import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
@@ -9,9 +10,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 
 @ExtendWith(MockitoExtension.class)
 class MusicConnectorProxyTest {
@@ -19,6 +25,9 @@ class MusicConnectorProxyTest {
     @Mock
     MusicConnector musicConnector;
 
+    @Spy
+    ConcurrentMapCacheManager cacheManager;
+
     @InjectMocks
     MusicConnectorProxy musicConnectorProxy;
 
@@ -67,4 +76,67 @@ class MusicConnectorProxyTest {
         assertThrows(ServiceNotAvailableException.class, () -> this.musicConnectorProxy.saveByApiCode(musicAddDTO));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenIdsWhenBrowseByIdsShouldFetchMissingMusicsAndReturnThemInRequestedOrder() throws Exception {
+
+        MusicDTO firstMusic = new MusicDTO();
+        firstMusic.setId(1L);
+
+        MusicDTO secondMusic = new MusicDTO();
+        secondMusic.setId(2L);
+
+        MusicDTO thirdMusic = new MusicDTO();
+        thirdMusic.setId(3L);
+
+        this.cacheManager.getCache(CacheConfiguration.MUSIC_CACHE).put(2L, secondMusic);
+
+        Mockito.when(this.musicConnector.browseByIds(List.of(3L, 1L))).thenReturn(List.of(firstMusic, thirdMusic));
+
+        List<MusicDTO> testBrowseByIds = this.musicConnectorProxy.browseByIds(List.of(3L, 2L, 1L));
+
+        Mockito.verify(this.musicConnector).browseByIds(List.of(3L, 1L));
+        assertEquals(List.of(thirdMusic, secondMusic, firstMusic), testBrowseByIds);
+        assertEquals(firstMusic, this.cacheManager.getCache(CacheConfiguration.MUSIC_CACHE).get(1L, MusicDTO.class));
+    }
+
+    @Test
+    void givenCachedIdsWhenBrowseByIdsShouldNotCallMusicService() throws Exception {
+
+        MusicDTO musicDTO = new MusicDTO();
+        musicDTO.setId(1L);
+
+        this.cacheManager.getCache(CacheConfiguration.MUSIC_CACHE).put(1L, musicDTO);
+
+        List<MusicDTO> testBrowseByIds = this.musicConnectorProxy.browseByIds(List.of(1L));
+
+        Mockito.verify(this.musicConnector, Mockito.never()).browseByIds(anyList());
+        assertEquals(List.of(musicDTO), testBrowseByIds);
+    }
+
+    @Test
+    void givenIdsWhenBrowseByIdsAndServiceNotAvailableShouldThrowServiceNotAvailableException() throws Exception {
+
+        Mockito.when(this.musicConnector.browseByIds(anyList())).thenThrow(ServiceNotAvailableException.class);
+
+        List<Long> musicIds = List.of(1L);
+
+        assertThrows(ServiceNotAvailableException.class, () -> this.musicConnectorProxy.browseByIds(musicIds));
+    }
+
+    @Test
+    void givenIdWhenDeleteByIdShouldEvictRelatedMusicFromCache() throws Exception {
+
+        MusicDTO musicDTO = new MusicDTO();
+        musicDTO.setId(1L);
+
+        this.cacheManager.getCache(CacheConfiguration.MUSIC_CACHE).put(1L, musicDTO);
+
+        Mockito.when(this.musicConnector.deleteById(1L)).thenReturn(musicDTO);
+
+        MusicDTO testDeleteById = this.musicConnectorProxy.deleteById(1L);
+
+        assertEquals(musicDTO, testDeleteById);
+        assertNull(this.cacheManager.getCache(CacheConfiguration.MUSIC_CACHE).get(1L));
+    }
+}
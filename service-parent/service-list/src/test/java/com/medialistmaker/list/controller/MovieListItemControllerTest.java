@@ -3,7 +3,13 @@ package com.medialistmaker.list.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.medialistmaker.list.domain.MovieListItem;
+import com.medialistmaker.list.dto.ListImportJobDTO;
+import com.medialistmaker.list.dto.ListImportJobStatus;
+import com.medialistmaker.list.dto.movie.MovieDTO;
 import com.medialistmaker.list.dto.movie.MovieListItemAddDTO;
+import com.medialistmaker.list.dto.movie.MovieListItemDTO;
+import com.medialistmaker.list.dto.movie.MovieListItemHydratedDTO;
+import com.medialistmaker.list.dto.movie.MovieListItemPageDTO;
 import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.list.exception.entityduplicationexception.CustomEntityDuplicationException;
 import com.medialistmaker.list.exception.notfoundexception.CustomNotFoundException;
@@ -24,8 +30,12 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -33,8 +43,12 @@ import java.util.List;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -104,6 +118,37 @@ class MovieListItemControllerTest {
                 );
     }
 
+    @Test
+    void givenAppUserIdWhenGetHydratedByAppUserIdShouldReturnRelatedMovieListItemWithMovieAndReturn200() throws Exception {
+
+        MovieDTO movieDTO = new MovieDTO();
+        movieDTO.setId(1L);
+        movieDTO.setTitle("Title");
+
+        MovieListItemHydratedDTO movieListItem = MovieListItemHydratedDTO
+                .builder()
+                .id(1L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(1)
+                .movie(movieDTO)
+                .build();
+
+        Mockito.when(this.movieItemServiceImpl.getHydratedByAppUserId(anyLong())).thenReturn(List.of(movieListItem));
+
+        this.mockMvc
+                .perform(
+                        MockMvcRequestBuilders
+                                .get("/api/lists/movies/hydrated")
+                )
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$", hasSize(1)),
+                        jsonPath("$[0].movie.title", equalTo("Title"))
+                );
+    }
+
     @Test
     void givenAppUserIdWhenGetRandomByAppUserIdShouldReturnRandomMovieListItemAndReturn200() throws Exception {
 
@@ -455,4 +500,107 @@ class MovieListItemControllerTest {
                 );
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenLimitAndCursorWhenGetPageByAppUserIdShouldReturnPageAndReturn200() throws Exception {
+
+        MovieListItemPageDTO movieListItemPageDTO = MovieListItemPageDTO
+                .builder()
+                .items(List.of(MovieListItemDTO.builder().id(3L).movieId(3L).appUserId(1L).sortingOrder(3).build()))
+                .nextCursor("c286Mw")
+                .build();
+
+        Mockito.when(this.movieItemServiceImpl.getPageByAppUserId(1L, "c286Mg", 1)).thenReturn(movieListItemPageDTO);
+
+        this.mockMvc.perform(MockMvcRequestBuilders
+                        .get("/api/lists/movies/page")
+                        .param("after", "c286Mg")
+                        .param("limit", "1")
+                )
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.items", hasSize(1)),
+                        jsonPath("$.items[0].sortingOrder", equalTo(3)),
+                        jsonPath("$.nextCursor", equalTo("c286Mw"))
+                );
+    }
+
+    @Test
+    void givenInvalidLimitWhenGetPageByAppUserIdShouldReturn400() throws Exception {
+
+        Mockito.when(this.movieItemServiceImpl.getPageByAppUserId(1L, null, 0)).thenThrow(new CustomBadRequestException("Limit must be between 1 and 200"));
+
+        this.mockMvc.perform(MockMvcRequestBuilders
+                        .get("/api/lists/movies/page")
+                        .param("limit", "0")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenAppUserIdWhenExportByAppUserIdShouldStreamJsonLinesAndReturn200() throws Exception {
+
+        String exportedLines = "{\"id\":1,\"movieId\":1}\n{\"id\":2,\"movieId\":2}\n";
+
+        Mockito.doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write(exportedLines.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(this.movieItemServiceImpl).exportByAppUserId(eq(1L), any(OutputStream.class));
+
+        MvcResult asyncResult = this.mockMvc.perform(MockMvcRequestBuilders.get("/api/lists/movies/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc
+                .perform(asyncDispatch(asyncResult))
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        header().string("Content-Disposition", "attachment; filename=\"movies.jsonl\""),
+                        content().contentType(MediaType.APPLICATION_NDJSON),
+                        content().string(exportedLines)
+                );
+    }
+
+    @Test
+    void givenImportFileWhenImportByAppUserIdShouldReturnPendingJobAndReturn202() throws Exception {
+
+        ListImportJobDTO importJob = ListImportJobDTO
+                .builder()
+                .jobId("job")
+                .appUserId(1L)
+                .status(ListImportJobStatus.PENDING)
+                .total(2)
+                .processed(0)
+                .build();
+
+        Mockito.when(this.movieItemServiceImpl.importByAppUserId(eq(1L), any(InputStream.class))).thenReturn(importJob);
+
+        this.mockMvc.perform(MockMvcRequestBuilders
+                        .post("/api/lists/movies/import")
+                        .contentType("text/csv")
+                        .content("tt1\ntt2\n")
+                )
+                .andDo(print())
+                .andExpectAll(
+                        status().isAccepted(),
+                        jsonPath("$.jobId", equalTo("job")),
+                        jsonPath("$.status", equalTo("PENDING")),
+                        jsonPath("$.total", equalTo(2)),
+                        jsonPath("$.appUserId").doesNotExist()
+                );
+    }
+
+    @Test
+    void givenUnknownJobIdWhenGetImportJobShouldReturn404() throws Exception {
+
+        Mockito.when(this.movieItemServiceImpl.getImportJob(1L, "job"))
+                .thenThrow(new CustomNotFoundException("Import job not found"));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/lists/movies/import/job"))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+}
@@ -3,7 +3,13 @@ package com.medialistmaker.list.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.medialistmaker.list.domain.MusicListItem;
+import com.medialistmaker.list.dto.ListImportJobDTO;
+import com.medialistmaker.list.dto.ListImportJobStatus;
+import com.medialistmaker.list.dto.music.MusicDTO;
 import com.medialistmaker.list.dto.music.MusicListItemAddDTO;
+import com.medialistmaker.list.dto.music.MusicListItemDTO;
+import com.medialistmaker.list.dto.music.MusicListItemHydratedDTO;
+import com.medialistmaker.list.dto.music.MusicListItemPageDTO;
 import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.list.exception.entityduplicationexception.CustomEntityDuplicationException;
 import com.medialistmaker.list.exception.notfoundexception.CustomNotFoundException;
@@ -24,8 +30,12 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -33,8 +43,12 @@ import java.util.List;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -104,6 +118,37 @@ class MusicListItemControllerTest {
                 );
     }
 
+    @Test
+    void givenAppUserIdWhenGetHydratedByAppUserIdShouldReturnRelatedMusicListItemWithMusicAndReturn200() throws Exception {
+
+        MusicDTO musicDTO = new MusicDTO();
+        musicDTO.setId(1L);
+        musicDTO.setTitle("Title");
+
+        MusicListItemHydratedDTO musicListItem = MusicListItemHydratedDTO
+                .builder()
+                .id(1L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(1)
+                .music(musicDTO)
+                .build();
+
+        Mockito.when(this.musicItemServiceImpl.getHydratedByAppUserId(anyLong())).thenReturn(List.of(musicListItem));
+
+        this.mockMvc
+                .perform(
+                        MockMvcRequestBuilders
+                                .get("/api/lists/musics/hydrated")
+                )
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$", hasSize(1)),
+                        jsonPath("$[0].music.title", equalTo("Title"))
+                );
+    }
+
     @Test
     void givenAppUserIdWhenGetRandomByAppUserIdShouldReturnRandomMusicListItemAndReturn200() throws Exception {
 
@@ -457,4 +502,107 @@ class MusicListItemControllerTest {
                 );
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenLimitAndCursorWhenGetPageByAppUserIdShouldReturnPageAndReturn200() throws Exception {
+
+        MusicListItemPageDTO musicListItemPageDTO = MusicListItemPageDTO
+                .builder()
+                .items(List.of(MusicListItemDTO.builder().id(3L).musicId(3L).appUserId(1L).sortingOrder(3).build()))
+                .nextCursor("c286Mw")
+                .build();
+
+        Mockito.when(this.musicItemServiceImpl.getPageByAppUserId(1L, "c286Mg", 1)).thenReturn(musicListItemPageDTO);
+
+        this.mockMvc.perform(MockMvcRequestBuilders
+                        .get("/api/lists/musics/page")
+                        .param("after", "c286Mg")
+                        .param("limit", "1")
+                )
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.items", hasSize(1)),
+                        jsonPath("$.items[0].sortingOrder", equalTo(3)),
+                        jsonPath("$.nextCursor", equalTo("c286Mw"))
+                );
+    }
+
+    @Test
+    void givenInvalidLimitWhenGetPageByAppUserIdShouldReturn400() throws Exception {
+
+        Mockito.when(this.musicItemServiceImpl.getPageByAppUserId(1L, null, 0)).thenThrow(new CustomBadRequestException("Limit must be between 1 and 200"));
+
+        this.mockMvc.perform(MockMvcRequestBuilders
+                        .get("/api/lists/musics/page")
+                        .param("limit", "0")
+                )
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void givenAppUserIdWhenExportByAppUserIdShouldStreamJsonLinesAndReturn200() throws Exception {
+
+        String exportedLines = "{\"id\":1,\"musicId\":1}\n{\"id\":2,\"musicId\":2}\n";
+
+        Mockito.doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write(exportedLines.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(this.musicItemServiceImpl).exportByAppUserId(eq(1L), any(OutputStream.class));
+
+        MvcResult asyncResult = this.mockMvc.perform(MockMvcRequestBuilders.get("/api/lists/musics/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc
+                .perform(asyncDispatch(asyncResult))
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        header().string("Content-Disposition", "attachment; filename=\"musics.jsonl\""),
+                        content().contentType(MediaType.APPLICATION_NDJSON),
+                        content().string(exportedLines)
+                );
+    }
+
+    @Test
+    void givenImportFileWhenImportByAppUserIdShouldReturnPendingJobAndReturn202() throws Exception {
+
+        ListImportJobDTO importJob = ListImportJobDTO
+                .builder()
+                .jobId("job")
+                .appUserId(1L)
+                .status(ListImportJobStatus.PENDING)
+                .total(2)
+                .processed(0)
+                .build();
+
+        Mockito.when(this.musicItemServiceImpl.importByAppUserId(eq(1L), any(InputStream.class))).thenReturn(importJob);
+
+        this.mockMvc.perform(MockMvcRequestBuilders
+                        .post("/api/lists/musics/import")
+                        .contentType("text/csv")
+                        .content("123,1\n456,2\n")
+                )
+                .andDo(print())
+                .andExpectAll(
+                        status().isAccepted(),
+                        jsonPath("$.jobId", equalTo("job")),
+                        jsonPath("$.status", equalTo("PENDING")),
+                        jsonPath("$.total", equalTo(2)),
+                        jsonPath("$.appUserId").doesNotExist()
+                );
+    }
+
+    @Test
+    void givenUnknownJobIdWhenGetImportJobShouldReturn404() throws Exception {
+
+        Mockito.when(this.musicItemServiceImpl.getImportJob(1L, "job"))
+                .thenThrow(new CustomNotFoundException("Import job not found"));
+
+        this.mockMvc.perform(MockMvcRequestBuilders.get("/api/lists/musics/import/job"))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+}
@@ -1,8 +1,11 @@
 package com.medialistmaker.list.filter;
 
-import com.medialistmaker.list.connector.appuser.AppUserConnectorProxy;
-import com.medialistmaker.list.dto.AppUserDTO;
+import com.medialistmaker.list.utils.IdentityHeaderVerifier;
 import com.medialistmaker.list.utils.JwtTokenService;
+import com.medialistmaker.list.utils.TokenClaims;
+import com.medialistmaker.list.utils.TokenDenyList;
+import com.medialistmaker.list.utils.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,12 +13,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Instant;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 
@@ -26,7 +32,16 @@ class JwtAuthenticationFilterTest {
     JwtTokenService tokenService;
 
     @Mock
-    AppUserConnectorProxy userConnectorProxy;
+    VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    TokenDenyList tokenDenyList;
+
+    @Mock
+    IdentityHeaderVerifier identityHeaderVerifier;
+
+    @Spy
+    SimpleMeterRegistry meterRegistry;
 
     @InjectMocks
     JwtAuthenticationFilter filter;
@@ -41,14 +56,7 @@ class JwtAuthenticationFilterTest {
     @Test
     void givenValidTokenWhenDoFilterShouldReturnUnAuthorized() throws Exception {
 
-        AppUserDTO userDTO = new AppUserDTO();
-        userDTO.setId(1L);
-        userDTO.setUsername("Username");
-        userDTO.setPassword("Password");
-
-        Mockito.when(this.tokenService.isTokenValid(anyString(), any())).thenReturn(Boolean.TRUE);
-        Mockito.when(this.tokenService.getUsername(anyString())).thenReturn("1");
-        Mockito.when(this.userConnectorProxy.getById(anyLong())).thenReturn(userDTO);
+        Mockito.when(this.tokenService.verify(anyString())).thenReturn(this.getTokenClaims("1"));
 
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.addHeader("Authorization", "Bearer testestest");
@@ -61,6 +69,8 @@ class JwtAuthenticationFilterTest {
 
         assertNotNull(SecurityContextHolder.getContext().getAuthentication());
 
+        assertEquals("1", SecurityContextHolder.getContext().getAuthentication().getName());
+
     }
 
     @Test
@@ -81,14 +91,7 @@ class JwtAuthenticationFilterTest {
     @Test
     void givenInvalidTokenWhenDoFilterShouldReturnUnAuthorized() throws Exception {
 
-        AppUserDTO userDTO = new AppUserDTO();
-        userDTO.setId(1L);
-        userDTO.setUsername("Username");
-        userDTO.setPassword("Password");
-
-        Mockito.when(this.tokenService.isTokenValid(anyString(), any())).thenReturn(Boolean.FALSE);
-        Mockito.when(this.tokenService.getUsername(anyString())).thenReturn("1");
-        Mockito.when(this.userConnectorProxy.getById(anyLong())).thenReturn(userDTO);
+        Mockito.when(this.tokenService.verify(anyString())).thenReturn(null);
 
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.addHeader("Authorization", "Bearer testestest");
@@ -100,12 +103,17 @@ class JwtAuthenticationFilterTest {
         assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus());
 
         assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+        Mockito.verify(this.verifiedTokenCache, Mockito.never()).put(anyString(), any());
     }
 
     @Test
-    void givenTokenWithInvalidUsernameWhenDoFilterShouldReturnUnAuthorized() throws Exception {
+    void givenDeniedTokenWhenDoFilterShouldReturnUnAuthorized() throws Exception {
 
-        Mockito.when(this.tokenService.getUsername(anyString())).thenReturn(null);
+        TokenClaims tokenClaims = this.getTokenClaims("1");
+
+        Mockito.when(this.verifiedTokenCache.getIfPresent("testestest")).thenReturn(tokenClaims);
+        Mockito.when(this.tokenDenyList.isDenied(tokenClaims)).thenReturn(Boolean.TRUE);
 
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.addHeader("Authorization", "Bearer testestest");
@@ -119,4 +127,64 @@ class JwtAuthenticationFilterTest {
         assertNull(SecurityContextHolder.getContext().getAuthentication());
     }
 
-}
\ No newline at end of file
+    @Test
+    void givenValidTokenWhenDoFilterShouldCacheVerifiedToken() throws Exception {
+
+        TokenClaims tokenClaims = this.getTokenClaims("1");
+
+        Mockito.when(this.tokenService.verify(anyString())).thenReturn(tokenClaims);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer testestest");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        this.filter.doFilter(request, response, filterChain);
+
+        Mockito.verify(this.verifiedTokenCache).put("testestest", tokenClaims);
+        assertEquals(1L, this.meterRegistry.get("list.auth.filter").timer().count());
+    }
+
+    @Test
+    void givenAlreadyVerifiedTokenWhenDoFilterShouldAuthenticateWithoutVerifyingTokenAgain() throws Exception {
+
+        Mockito.when(this.verifiedTokenCache.getIfPresent("testestest")).thenReturn(this.getTokenClaims("1"));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer testestest");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        this.filter.doFilter(request, response, filterChain);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals("1", SecurityContextHolder.getContext().getAuthentication().getName());
+        Mockito.verifyNoInteractions(this.tokenService);
+    }
+
+    @Test
+    void givenTrustedIdentityHeadersWhenDoFilterShouldAuthenticateWithoutVerifyingToken() throws Exception {
+
+        Mockito
+                .when(this.identityHeaderVerifier.verify("1", "4102444800", "signature"))
+                .thenReturn(this.getTokenClaims("1"));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(IdentityHeaderVerifier.USER_ID_HEADER, "1");
+        request.addHeader(IdentityHeaderVerifier.USER_EXPIRES_AT_HEADER, "4102444800");
+        request.addHeader(IdentityHeaderVerifier.USER_SIGNATURE_HEADER, "signature");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        this.filter.doFilter(request, response, filterChain);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals("1", SecurityContextHolder.getContext().getAuthentication().getName());
+        Mockito.verifyNoInteractions(this.tokenService, this.verifiedTokenCache);
+    }
+
+    private TokenClaims getTokenClaims(String subject) {
+        return new TokenClaims("tokenId", subject, "username", Instant.now().plusSeconds(60), Instant.now());
+    }
+
+}
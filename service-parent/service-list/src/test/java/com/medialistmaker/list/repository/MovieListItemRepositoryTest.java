@@ -1,10 +1,16 @@
 package com.medialistmaker.list.repository;
 
 import com.medialistmaker.list.domain.MovieListItem;
+import com.medialistmaker.list.dto.movie.MovieListItemDTO;
+import com.medialistmaker.list.utils.ListItemCursor;
+import com.medialistmaker.list.utils.ListItemPosition;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -12,9 +18,12 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -25,6 +34,8 @@ class MovieListItemRepositoryTest {
     @Autowired
     MovieListItemRepository movieListItemRepository;
 
+    ListItemCursor listItemCursor = new ListItemCursor();
+
     SimpleDateFormat format = new SimpleDateFormat("dd-MM-yyyy");
 
     @Test
@@ -180,7 +191,7 @@ class MovieListItemRepositoryTest {
 
         MovieListItem fourthMovieListItem = MovieListItem
                 .builder()
-                .movieId(3L)
+                .movieId(4L)
                 .appUserId(1L)
                 .addedAt(this.format.parse("04-01-2023"))
                 .sortingOrder(3)
@@ -203,4 +214,339 @@ class MovieListItemRepositoryTest {
         assertEquals(thirdMovieListItem, testGetLatestAddedMovieListItem.get(1));
         assertEquals(secondMovieListItem, testGetLatestAddedMovieListItem.get(2));
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenAppUserIdAndSortingOrderRangeWhenShiftSortingOrderBetweenShouldOnlyShiftItemsInRange() {
+
+        MovieListItem firstMovieListItem = MovieListItem
+                .builder()
+                .movieId(1L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(1)
+                .build();
+
+        MovieListItem secondMovieListItem = MovieListItem
+                .builder()
+                .movieId(2L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(2)
+                .build();
+
+        MovieListItem thirdMovieListItem = MovieListItem
+                .builder()
+                .movieId(3L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(3)
+                .build();
+
+        MovieListItem fourthMovieListItem = MovieListItem
+                .builder()
+                .movieId(4L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(4)
+                .build();
+
+        List<MovieListItem> movieList = List.of(
+                firstMovieListItem,
+                secondMovieListItem,
+                thirdMovieListItem,
+                fourthMovieListItem
+        );
+
+        this.movieListItemRepository.saveAll(movieList);
+
+        int testShiftSortingOrder = this.movieListItemRepository.shiftSortingOrderBetween(1L, 2, 3, -1);
+
+        assertEquals(2, testShiftSortingOrder);
+        assertEquals(1, this.movieListItemRepository.findById(firstMovieListItem.getId()).orElseThrow().getSortingOrder());
+        assertEquals(1, this.movieListItemRepository.findById(secondMovieListItem.getId()).orElseThrow().getSortingOrder());
+        assertEquals(2, this.movieListItemRepository.findById(thirdMovieListItem.getId()).orElseThrow().getSortingOrder());
+        assertEquals(4, this.movieListItemRepository.findById(fourthMovieListItem.getId()).orElseThrow().getSortingOrder());
+    }
+
+    @Test
+    void givenAppUserIdWithGapInSortingOrderWhenCompactSortingOrderShouldOnlyRewriteItemsAfterGap() {
+
+        MovieListItem firstMovieListItem = MovieListItem
+                .builder()
+                .movieId(1L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(1)
+                .build();
+
+        MovieListItem secondMovieListItem = MovieListItem
+                .builder()
+                .movieId(2L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(3)
+                .build();
+
+        MovieListItem thirdMovieListItem = MovieListItem
+                .builder()
+                .movieId(3L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(4)
+                .build();
+
+        List<MovieListItem> movieList = List.of(
+                firstMovieListItem,
+                secondMovieListItem,
+                thirdMovieListItem
+        );
+
+        this.movieListItemRepository.saveAll(movieList);
+
+        int testCompactSortingOrder = this.movieListItemRepository.compactSortingOrder(1L);
+
+        List<MovieListItem> testGetCompactedMovieListItem = this.movieListItemRepository.getByAppUserIdOrderBySortingOrderAsc(1L);
+
+        assertEquals(2, testCompactSortingOrder);
+        assertEquals(3, testGetCompactedMovieListItem.size());
+        assertEquals(1, testGetCompactedMovieListItem.get(0).getSortingOrder());
+        assertEquals(2, testGetCompactedMovieListItem.get(1).getSortingOrder());
+        assertEquals(3, testGetCompactedMovieListItem.get(2).getSortingOrder());
+        assertEquals(thirdMovieListItem.getId(), testGetCompactedMovieListItem.get(2).getId());
+    }
+
+    @Test
+    void givenExistingMovieListItemWhenSaveSameMovieForSameAppUserShouldThrowDataIntegrityViolationException() {
+
+        MovieListItem movieListItem = MovieListItem
+                .builder()
+                .movieId(1L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(1)
+                .build();
+
+        MovieListItem duplicatedMovieListItem = MovieListItem
+                .builder()
+                .movieId(1L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(2)
+                .build();
+
+        this.movieListItemRepository.saveAndFlush(movieListItem);
+
+        assertThrows(DataIntegrityViolationException.class, () -> this.movieListItemRepository.saveAndFlush(duplicatedMovieListItem));
+    }
+
+    @Test
+    void givenAppUserIdAndPositionWhenGetByAppUserIdAfterPositionShouldReturnNextItemsUpToLimit() {
+
+        this.movieListItemRepository.saveAll(IntStream
+                .rangeClosed(1, 5)
+                .mapToObj(sortingOrder -> MovieListItem
+                        .builder()
+                        .movieId((long) sortingOrder)
+                        .appUserId(1L)
+                        .addedAt(new Date())
+                        .sortingOrder(sortingOrder)
+                        .build())
+                .toList());
+
+        this.movieListItemRepository.save(MovieListItem
+                .builder()
+                .movieId(1L)
+                .appUserId(2L)
+                .addedAt(new Date())
+                .sortingOrder(3)
+                .build());
+
+        MovieListItem secondMovieListItem = this.movieListItemRepository.getByAppUserIdAndSortingOrder(1L, 2);
+
+        List<MovieListItem> testGetPage = this.movieListItemRepository
+                .getByAppUserIdAfterPosition(1L, 2, secondMovieListItem.getId(), Limit.of(2));
+
+        assertEquals(2, testGetPage.size());
+        assertEquals(3, testGetPage.get(0).getSortingOrder());
+        assertEquals(4, testGetPage.get(1).getSortingOrder());
+        assertEquals(1L, testGetPage.get(0).getAppUserId());
+    }
+
+    @Test
+    void givenDuplicatedSortingOrderWhenGetByAppUserIdAfterPositionShouldReturnEachItemOnce() {
+
+        List<MovieListItem> movieListItems = this.movieListItemRepository.saveAll(IntStream
+                .rangeClosed(1, 4)
+                .mapToObj(movieId -> MovieListItem
+                        .builder()
+                        .movieId((long) movieId)
+                        .appUserId(1L)
+                        .addedAt(new Date())
+                        .sortingOrder(movieId > 2 ? 2 : 1)
+                        .build())
+                .toList());
+
+        List<MovieListItem> testFirstPage = this.movieListItemRepository
+                .getByAppUserIdAfterPosition(1L, 0, 0L, Limit.of(3));
+
+        MovieListItem lastMovieListItem = testFirstPage.get(2);
+
+        List<MovieListItem> testSecondPage = this.movieListItemRepository
+                .getByAppUserIdAfterPosition(1L, lastMovieListItem.getSortingOrder(), lastMovieListItem.getId(), Limit.of(3));
+
+        assertEquals(
+                movieListItems.stream().map(MovieListItem::getId).toList(),
+                Stream.concat(testFirstPage.stream(), testSecondPage.stream()).map(MovieListItem::getId).toList()
+        );
+    }
+
+    @Test
+    void givenItemDeletedBetweenTwoPageFetchesWhenGetNextPageShouldNotSkipAnyItem() throws Exception {
+
+        List<MovieListItem> movieListItems = this.movieListItemRepository.saveAll(IntStream
+                .rangeClosed(1, 5)
+                .mapToObj(sortingOrder -> MovieListItem
+                        .builder()
+                        .movieId((long) sortingOrder)
+                        .appUserId(1L)
+                        .addedAt(new Date())
+                        .sortingOrder(sortingOrder)
+                        .build())
+                .toList());
+
+        List<MovieListItem> testFirstPage = this.movieListItemRepository
+                .getByAppUserIdAfterPosition(1L, 0, 0L, Limit.of(2));
+
+        String cursor = this.listItemCursor.encode(testFirstPage.get(1).getSortingOrder(), testFirstPage.get(1).getId());
+
+        this.movieListItemRepository.deleteById(testFirstPage.get(0).getId());
+        this.movieListItemRepository.compactSortingOrder(1L);
+
+        ListItemPosition pageStart = this.listItemCursor.resolve(cursor, 1L, this.movieListItemRepository);
+
+        List<MovieListItem> testSecondPage = this.movieListItemRepository
+                .getByAppUserIdAfterPosition(1L, pageStart.sortingOrder(), pageStart.id(), Limit.of(2));
+
+        assertEquals(
+                List.of(movieListItems.get(2).getId(), movieListItems.get(3).getId()),
+                testSecondPage.stream().map(MovieListItem::getId).toList()
+        );
+    }
+
+    @Test
+    void givenCursorItemDeletedBetweenTwoPageFetchesWhenGetNextPageShouldNotSkipAnyItem() throws Exception {
+
+        List<MovieListItem> movieListItems = this.movieListItemRepository.saveAll(IntStream
+                .rangeClosed(1, 5)
+                .mapToObj(sortingOrder -> MovieListItem
+                        .builder()
+                        .movieId((long) sortingOrder)
+                        .appUserId(1L)
+                        .addedAt(new Date())
+                        .sortingOrder(sortingOrder)
+                        .build())
+                .toList());
+
+        List<MovieListItem> testFirstPage = this.movieListItemRepository
+                .getByAppUserIdAfterPosition(1L, 0, 0L, Limit.of(2));
+
+        String cursor = this.listItemCursor.encode(testFirstPage.get(1).getSortingOrder(), testFirstPage.get(1).getId());
+
+        this.movieListItemRepository.deleteById(testFirstPage.get(1).getId());
+        this.movieListItemRepository.compactSortingOrder(1L);
+
+        ListItemPosition pageStart = this.listItemCursor.resolve(cursor, 1L, this.movieListItemRepository);
+
+        List<MovieListItem> testSecondPage = this.movieListItemRepository
+                .getByAppUserIdAfterPosition(1L, pageStart.sortingOrder(), pageStart.id(), Limit.of(2));
+
+        assertEquals(
+                List.of(movieListItems.get(2).getId(), movieListItems.get(3).getId()),
+                testSecondPage.stream().map(MovieListItem::getId).toList()
+        );
+    }
+
+    @Test
+    void givenAppUserIdWhenLockAppendsByAppUserIdShouldAcquireLockForTransaction() {
+
+        assertEquals(1, this.movieListItemRepository.lockSortingOrdersByAppUserId(1L));
+        assertEquals(1, this.movieListItemRepository.lockSortingOrdersByAppUserId(1L));
+    }
+
+    @Test
+    void givenAppUserIdWhenStreamByAppUserIdShouldStreamRelatedMovieListItemOrderedBySortingOrder() {
+
+        this.movieListItemRepository.saveAll(IntStream
+                .rangeClosed(1, 3)
+                .mapToObj(sortingOrder -> MovieListItem
+                        .builder()
+                        .movieId((long) 4 - sortingOrder)
+                        .appUserId(1L)
+                        .addedAt(new Date())
+                        .sortingOrder(4 - sortingOrder)
+                        .build())
+                .toList());
+
+        this.movieListItemRepository.save(MovieListItem
+                .builder()
+                .movieId(1L)
+                .appUserId(2L)
+                .addedAt(new Date())
+                .sortingOrder(1)
+                .build());
+
+        try (Stream<MovieListItemDTO> testStreamByAppUserId = this.movieListItemRepository.streamByAppUserId(1L)) {
+
+            List<MovieListItemDTO> movieListItems = testStreamByAppUserId.toList();
+
+            assertEquals(3, movieListItems.size());
+            assertEquals(List.of(1, 2, 3), movieListItems.stream().map(MovieListItemDTO::getSortingOrder).toList());
+            assertEquals(1L, movieListItems.get(0).getMovieId());
+            assertNotNull(movieListItems.get(0).getId());
+        }
+    }
+
+    @Test
+    void givenAppUserIdWithGapInSortingOrderWhenCountAndGetByOffsetShouldReturnItemAtPosition() {
+
+        this.movieListItemRepository.saveAll(IntStream
+                .of(1, 2, 5)
+                .mapToObj(sortingOrder -> MovieListItem
+                        .builder()
+                        .movieId((long) sortingOrder)
+                        .appUserId(1L)
+                        .addedAt(new Date())
+                        .sortingOrder(sortingOrder)
+                        .build())
+                .toList());
+
+        List<MovieListItem> testGetByOffset = this.movieListItemRepository
+                .getByAppUserIdOrderBySortingOrderAscIdAsc(1L, PageRequest.of(2, 1));
+
+        assertEquals(3L, this.movieListItemRepository.countByAppUserId(1L));
+        assertEquals(0L, this.movieListItemRepository.countByAppUserId(2L));
+        assertEquals(2L, this.movieListItemRepository.countDistinctSortingOrdersByAppUserIdUpTo(1L, 3));
+        assertEquals(1, testGetByOffset.size());
+        assertEquals(5, testGetByOffset.get(0).getSortingOrder());
+    }
+
+    @Test
+    void givenAppUserIdWithDuplicatedSortingOrderWhenGetFirstByAppUserIdAndSortingOrderShouldReturnLowestId() {
+
+        List<MovieListItem> movieListItems = this.movieListItemRepository.saveAll(IntStream
+                .rangeClosed(1, 3)
+                .mapToObj(movieId -> MovieListItem
+                        .builder()
+                        .movieId((long) movieId)
+                        .appUserId(1L)
+                        .addedAt(new Date())
+                        .sortingOrder(movieId == 3 ? 3 : 1)
+                        .build())
+                .toList());
+
+        MovieListItem testGetFirst = this.movieListItemRepository.getFirstByAppUserIdAndSortingOrderOrderByIdAsc(1L, 1);
+
+        assertEquals(movieListItems.get(0).getId(), testGetFirst.getId());
+        assertEquals(2L, this.movieListItemRepository.countDistinctSortingOrdersByAppUserIdUpTo(1L, 3));
+    }
+}
@@ -0,0 +1,119 @@
+package com.medialistmaker.list.repository;
+
+import com.medialistmaker.list.domain.MovieListItem;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MovieListItemStatementCountTest {
+
+    private static final int ITEM_COUNT = 1000;
+
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    MovieListItemRepository movieListItemRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        this.statistics = this.entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        this.statistics.clear();
+    }
+
+    @Test
+    void givenThousandMovieListItemsWhenSaveAllShouldBatchInsertsAndPoolSequenceCalls() {
+
+        this.movieListItemRepository.saveAll(this.createMovieListItems(1L));
+        this.entityManager.flush();
+
+        assertEquals(ITEM_COUNT, this.statistics.getEntityInsertCount());
+        assertTrue(this.statistics.getPrepareStatementCount() <= 2L * ITEM_COUNT / BATCH_SIZE + 2);
+    }
+
+    @Test
+    void givenThousandMovieListItemsWhenRenumberOneByOneShouldPrepareOneStatementPerRow() {
+
+        this.entityManager.unwrap(Session.class).setJdbcBatchSize(1);
+
+        long preparedStatementCount = this.renumberAndCountPreparedStatements(2L);
+
+        assertTrue(preparedStatementCount >= ITEM_COUNT);
+    }
+
+    @Test
+    void givenThousandMovieListItemsWhenRenumberWithBatchingShouldPrepareOneStatementPerBatch() {
+
+        long preparedStatementCount = this.renumberAndCountPreparedStatements(3L);
+
+        assertTrue(preparedStatementCount <= ITEM_COUNT / BATCH_SIZE + 1);
+    }
+
+    @Test
+    void givenThousandMovieListItemsWhenShiftSortingOrderShouldIssueSingleStatement() {
+
+        this.movieListItemRepository.saveAll(this.createMovieListItems(4L));
+        this.entityManager.flush();
+        this.statistics.clear();
+
+        int updatedRows = this.movieListItemRepository.shiftSortingOrderBetween(4L, 1, ITEM_COUNT, 1);
+
+        assertEquals(ITEM_COUNT, updatedRows);
+        assertEquals(1L, this.statistics.getPrepareStatementCount());
+    }
+
+    private long renumberAndCountPreparedStatements(Long appUserId) {
+
+        this.movieListItemRepository.saveAll(this.createMovieListItems(appUserId));
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        List<MovieListItem> movieListItems = this.movieListItemRepository.getByAppUserIdOrderBySortingOrderAsc(appUserId);
+        movieListItems.forEach(movieListItem -> movieListItem.setSortingOrder(ITEM_COUNT + 1 - movieListItem.getSortingOrder()));
+
+        this.statistics.clear();
+        this.movieListItemRepository.saveAll(movieListItems);
+        this.entityManager.flush();
+
+        assertEquals(ITEM_COUNT, this.statistics.getEntityUpdateCount());
+
+        return this.statistics.getPrepareStatementCount();
+    }
+
+    private List<MovieListItem> createMovieListItems(Long appUserId) {
+
+        return IntStream
+                .rangeClosed(1, ITEM_COUNT)
+                .mapToObj(index -> MovieListItem
+                        .builder()
+                        .movieId((long) index)
+                        .appUserId(appUserId)
+                        .addedAt(new Date())
+                        .sortingOrder(index)
+                        .build())
+                .toList();
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -15,6 +16,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -177,7 +179,7 @@ class MusicListItemRepositoryTest {
 
         MusicListItem fourthMusicListItem = MusicListItem
                 .builder()
-                .musicId(3L)
+                .musicId(4L)
                 .appUserId(1L)
                 .addedAt(this.format.parse("04-01-2023"))
                 .sortingOrder(4)
@@ -200,4 +202,128 @@ class MusicListItemRepositoryTest {
         assertEquals(thirdMusicListItem, testGetLatestAddedMusicListItem.get(1));
         assertEquals(secondMusicListItem, testGetLatestAddedMusicListItem.get(2));
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenAppUserIdAndSortingOrderRangeWhenShiftSortingOrderBetweenShouldOnlyShiftItemsInRange() {
+
+        MusicListItem firstMusicListItem = MusicListItem
+                .builder()
+                .musicId(1L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(1)
+                .build();
+
+        MusicListItem secondMusicListItem = MusicListItem
+                .builder()
+                .musicId(2L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(2)
+                .build();
+
+        MusicListItem thirdMusicListItem = MusicListItem
+                .builder()
+                .musicId(3L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(3)
+                .build();
+
+        MusicListItem fourthMusicListItem = MusicListItem
+                .builder()
+                .musicId(4L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(4)
+                .build();
+
+        List<MusicListItem> musicList = List.of(
+                firstMusicListItem,
+                secondMusicListItem,
+                thirdMusicListItem,
+                fourthMusicListItem
+        );
+
+        this.musicListItemRepository.saveAll(musicList);
+
+        int testShiftSortingOrder = this.musicListItemRepository.shiftSortingOrderBetween(1L, 2, 3, -1);
+
+        assertEquals(2, testShiftSortingOrder);
+        assertEquals(1, this.musicListItemRepository.findById(firstMusicListItem.getId()).orElseThrow().getSortingOrder());
+        assertEquals(1, this.musicListItemRepository.findById(secondMusicListItem.getId()).orElseThrow().getSortingOrder());
+        assertEquals(2, this.musicListItemRepository.findById(thirdMusicListItem.getId()).orElseThrow().getSortingOrder());
+        assertEquals(4, this.musicListItemRepository.findById(fourthMusicListItem.getId()).orElseThrow().getSortingOrder());
+    }
+
+    @Test
+    void givenAppUserIdWithGapInSortingOrderWhenCompactSortingOrderShouldOnlyRewriteItemsAfterGap() {
+
+        MusicListItem firstMusicListItem = MusicListItem
+                .builder()
+                .musicId(1L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(1)
+                .build();
+
+        MusicListItem secondMusicListItem = MusicListItem
+                .builder()
+                .musicId(2L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(3)
+                .build();
+
+        MusicListItem thirdMusicListItem = MusicListItem
+                .builder()
+                .musicId(3L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(4)
+                .build();
+
+        List<MusicListItem> musicList = List.of(
+                firstMusicListItem,
+                secondMusicListItem,
+                thirdMusicListItem
+        );
+
+        this.musicListItemRepository.saveAll(musicList);
+
+        int testCompactSortingOrder = this.musicListItemRepository.compactSortingOrder(1L);
+
+        List<MusicListItem> testGetCompactedMusicListItem = this.musicListItemRepository.getByAppUserIdOrderBySortingOrderAsc(1L);
+
+        assertEquals(2, testCompactSortingOrder);
+        assertEquals(3, testGetCompactedMusicListItem.size());
+        assertEquals(1, testGetCompactedMusicListItem.get(0).getSortingOrder());
+        assertEquals(2, testGetCompactedMusicListItem.get(1).getSortingOrder());
+        assertEquals(3, testGetCompactedMusicListItem.get(2).getSortingOrder());
+        assertEquals(thirdMusicListItem.getId(), testGetCompactedMusicListItem.get(2).getId());
+    }
+
+    @Test
+    void givenExistingMusicListItemWhenSaveSameMusicForSameAppUserShouldThrowDataIntegrityViolationException() {
+
+        MusicListItem musicListItem = MusicListItem
+                .builder()
+                .musicId(1L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(1)
+                .build();
+
+        MusicListItem duplicatedMusicListItem = MusicListItem
+                .builder()
+                .musicId(1L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(2)
+                .build();
+
+        this.musicListItemRepository.saveAndFlush(musicListItem);
+
+        assertThrows(DataIntegrityViolationException.class, () -> this.musicListItemRepository.saveAndFlush(duplicatedMusicListItem));
+    }
+}
@@ -1,25 +1,54 @@
 package com.medialistmaker.list.service.movielistitem;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.medialistmaker.list.connector.movie.MovieConnectorProxy;
 import com.medialistmaker.list.domain.MovieListItem;
+import com.medialistmaker.list.dto.ListImportJobDTO;
+import com.medialistmaker.list.dto.ListImportJobStatus;
 import com.medialistmaker.list.dto.movie.MovieAddDTO;
 import com.medialistmaker.list.dto.movie.MovieDTO;
 import com.medialistmaker.list.dto.movie.MovieListItemAddDTO;
+import com.medialistmaker.list.dto.movie.MovieListItemBatchAddDTO;
+import com.medialistmaker.list.dto.movie.MovieListItemDTO;
+import com.medialistmaker.list.dto.movie.MovieListItemHydratedDTO;
+import com.medialistmaker.list.dto.movie.MovieListItemPageDTO;
 import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.list.exception.entityduplicationexception.CustomEntityDuplicationException;
 import com.medialistmaker.list.exception.notfoundexception.CustomNotFoundException;
 import com.medialistmaker.list.exception.servicenotavailableexception.ServiceNotAvailableException;
 import com.medialistmaker.list.repository.MovieListItemRepository;
+import com.medialistmaker.list.utils.ListImportJobRegistry;
+import com.medialistmaker.list.utils.ListImporter;
+import com.medialistmaker.list.utils.ListItemAppender;
+import com.medialistmaker.list.utils.ListItemCursor;
+import com.medialistmaker.list.utils.ListItemRemover;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,12 +57,34 @@ import static org.mockito.ArgumentMatchers.*;
 @ExtendWith(MockitoExtension.class)
 class MovieListItemServiceImplTest {
 
+    private static final List<ListImportJobStatus> IMPORT_FINISHED_STATUSES = List.of(ListImportJobStatus.COMPLETED, ListImportJobStatus.FAILED);
+
     @Mock
     MovieListItemRepository movieListItemRepository;
 
     @Mock
     MovieConnectorProxy movieConnectorProxy;
 
+    @Spy
+    ListItemCursor listItemCursor;
+
+    @Spy
+    ObjectMapper objectMapper;
+
+    ExecutorService importExecutor = Executors.newSingleThreadExecutor();
+
+    @Spy
+    ListImporter listImporter = new ListImporter(new ListImportJobRegistry(Duration.ofHours(1)), this.importExecutor);
+
+    @Spy
+    ListItemAppender listItemAppender;
+
+    @Spy
+    ListItemRemover listItemRemover;
+
+    @Spy
+    SimpleMeterRegistry meterRegistry;
+
     @InjectMocks
     MovieListItemServiceImpl movieListService;
 
@@ -75,6 +126,106 @@ class MovieListItemServiceImplTest {
         assertTrue(testGetByAppUserId.containsAll(movieListItemList));
     }
 
+    @Test
+    void givenAppUserIdAndLimitWhenGetPageByAppUserIdShouldReturnFirstPageAndNextCursor() throws Exception {
+
+        List<MovieListItem> movieListItems = IntStream
+                .rangeClosed(1, 3)
+                .mapToObj(sortingOrder -> MovieListItem
+                        .builder()
+                        .id((long) sortingOrder)
+                        .movieId((long) sortingOrder)
+                        .appUserId(1L)
+                        .sortingOrder(sortingOrder)
+                        .build())
+                .toList();
+
+        Mockito.when(this.movieListItemRepository.getByAppUserIdAfterPosition(1L, 0, 0L, Limit.of(3)))
+                .thenReturn(movieListItems);
+
+        MovieListItemPageDTO testGetPage = this.movieListService.getPageByAppUserId(1L, null, 2);
+
+        assertEquals(2, testGetPage.getItems().size());
+        assertEquals(1L, testGetPage.getItems().get(0).getMovieId());
+        assertEquals(2, testGetPage.getItems().get(1).getSortingOrder());
+        assertEquals(this.listItemCursor.encode(2, 2L), testGetPage.getNextCursor());
+    }
+
+    @Test
+    void givenCursorOnLastPageWhenGetPageByAppUserIdShouldReturnRemainingItemsWithoutNextCursor() throws Exception {
+
+        MovieListItem movieListItem = MovieListItem
+                .builder()
+                .id(3L)
+                .movieId(3L)
+                .appUserId(1L)
+                .sortingOrder(3)
+                .build();
+
+        Mockito.when(this.movieListItemRepository.getSortingOrderByAppUserIdAndId(1L, 2L)).thenReturn(2);
+        Mockito.when(this.movieListItemRepository.getByAppUserIdAfterPosition(1L, 2, 2L, Limit.of(3)))
+                .thenReturn(List.of(movieListItem));
+
+        MovieListItemPageDTO testGetPage = this.movieListService.getPageByAppUserId(1L, this.listItemCursor.encode(2, 2L), 2);
+
+        assertEquals(1, testGetPage.getItems().size());
+        assertEquals(3, testGetPage.getItems().get(0).getSortingOrder());
+        assertNull(testGetPage.getNextCursor());
+    }
+
+    @Test
+    void givenInvalidLimitWhenGetPageByAppUserIdShouldThrowBadRequestException() {
+
+        assertThrows(CustomBadRequestException.class, () -> this.movieListService.getPageByAppUserId(1L, null, 0));
+        assertThrows(CustomBadRequestException.class, () -> this.movieListService.getPageByAppUserId(1L, null, 201));
+        Mockito.verifyNoInteractions(this.movieListItemRepository);
+    }
+
+    @Test
+    void givenAppUserIdWhenExportByAppUserIdShouldWriteOneJsonLinePerListItem() throws Exception {
+
+        MovieListItemDTO firstMovieListItem = MovieListItemDTO
+                .builder()
+                .id(1L)
+                .movieId(1L)
+                .appUserId(1L)
+                .sortingOrder(1)
+                .build();
+
+        MovieListItemDTO secondMovieListItem = MovieListItemDTO
+                .builder()
+                .id(2L)
+                .movieId(2L)
+                .appUserId(1L)
+                .sortingOrder(2)
+                .build();
+
+        Mockito.when(this.movieListItemRepository.streamByAppUserId(anyLong()))
+                .thenReturn(Stream.of(firstMovieListItem, secondMovieListItem));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        this.movieListService.exportByAppUserId(1L, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertEquals(2, lines.length);
+        assertEquals(firstMovieListItem, this.objectMapper.readValue(lines[0], MovieListItemDTO.class));
+        assertEquals(secondMovieListItem, this.objectMapper.readValue(lines[1], MovieListItemDTO.class));
+    }
+
+    @Test
+    void givenAppUserIdWithEmptyListWhenExportByAppUserIdShouldWriteNothing() throws Exception {
+
+        Mockito.when(this.movieListItemRepository.streamByAppUserId(anyLong())).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        this.movieListService.exportByAppUserId(1L, outputStream);
+
+        assertEquals(0, outputStream.size());
+    }
+
     @Test
     void givenAppUserIdWhenGetLatestAddedByAppUserIdShouldReturnRelatedMovieListItemList() {
 
@@ -113,6 +264,59 @@ class MovieListItemServiceImplTest {
         assertTrue(testGetByAppUserId.containsAll(movieListItemList));
     }
 
+    @Test
+    void givenAppUserIdWhenGetHydratedByAppUserIdShouldReturnRelatedMovieListItemsWithMovie() throws Exception {
+
+        MovieListItem firstMovieListItem = MovieListItem
+                .builder()
+                .id(1L)
+                .movieId(1L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(1)
+                .build();
+
+        MovieListItem secondMovieListItem = MovieListItem
+                .builder()
+                .id(2L)
+                .movieId(2L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(2)
+                .build();
+
+        MovieDTO firstMovie = new MovieDTO();
+        firstMovie.setId(1L);
+        firstMovie.setTitle("First");
+
+        MovieDTO secondMovie = new MovieDTO();
+        secondMovie.setId(2L);
+        secondMovie.setTitle("Second");
+
+        Mockito.when(this.movieListItemRepository.getByAppUserIdOrderBySortingOrderAsc(1L)).thenReturn(List.of(firstMovieListItem, secondMovieListItem));
+        Mockito.when(this.movieConnectorProxy.browseByIds(List.of(1L, 2L))).thenReturn(List.of(secondMovie, firstMovie));
+
+        List<MovieListItemHydratedDTO> testGetHydrated = this.movieListService.getHydratedByAppUserId(1L);
+
+        Mockito.verify(this.movieConnectorProxy).browseByIds(List.of(1L, 2L));
+        assertEquals(2, testGetHydrated.size());
+        assertEquals(1L, testGetHydrated.get(0).getId());
+        assertEquals(firstMovie, testGetHydrated.get(0).getMovie());
+        assertEquals(2L, testGetHydrated.get(1).getId());
+        assertEquals(secondMovie, testGetHydrated.get(1).getMovie());
+    }
+
+    @Test
+    void givenAppUserIdWithEmptyListWhenGetHydratedByAppUserIdShouldNotCallMovieService() throws Exception {
+
+        Mockito.when(this.movieListItemRepository.getByAppUserIdOrderBySortingOrderAsc(1L)).thenReturn(emptyList());
+
+        List<MovieListItemHydratedDTO> testGetHydrated = this.movieListService.getHydratedByAppUserId(1L);
+
+        Mockito.verify(this.movieConnectorProxy, Mockito.never()).browseByIds(anyList());
+        assertTrue(testGetHydrated.isEmpty());
+    }
+
     @Test
     void givenMovieListItemAddWhenAddMovieListItemShouldSaveAndReturnMovieListItem()
             throws CustomBadRequestException, CustomNotFoundException,
@@ -135,14 +339,15 @@ class MovieListItemServiceImplTest {
         Mockito.when(this.movieConnectorProxy.getByApiCode(anyString())).thenReturn(movieDTO);
         Mockito.when(this.movieListItemRepository.getByAppUserIdAndMovieId(anyLong(), anyLong())).thenReturn(null);
         Mockito.when(this.movieConnectorProxy.saveByApiCode(movieAddDTO)).thenReturn(movieDTO);
-        Mockito.when(this.movieListItemRepository.save(any())).thenReturn(movieListItem);
+        Mockito.when(this.movieListItemRepository.saveAllAndFlush(anyList())).thenReturn(List.of(movieListItem));
 
         MovieListItem testAddMovieListItem = this.movieListService.add(listItemAddDTO);
 
         Mockito.verify(this.movieConnectorProxy).getByApiCode(anyString());
         Mockito.verify(this.movieListItemRepository).getByAppUserIdAndMovieId(anyLong(), anyLong());
         Mockito.verify(this.movieConnectorProxy).saveByApiCode(movieAddDTO);
-        Mockito.verify(this.movieListItemRepository).save(any());
+        Mockito.verify(this.movieListItemRepository).lockSortingOrdersByAppUserId(1L);
+        Mockito.verify(this.movieListItemRepository).saveAllAndFlush(anyList());
 
         assertEquals(movieDTO.getId(),testAddMovieListItem.getMovieId());
     }
@@ -174,6 +379,24 @@ class MovieListItemServiceImplTest {
 
     }
 
+    @Test
+    void givenMovieListItemAddWhenAddMovieListItemConcurrentlyAddedShouldThrowEntityDuplicationException() throws Exception {
+
+        MovieListItemAddDTO listItemAddDTO = new MovieListItemAddDTO();
+        listItemAddDTO.setApiCode("XXX");
+        listItemAddDTO.setAppUserId(1L);
+
+        MovieDTO movieDTO = new MovieDTO();
+        movieDTO.setId(1L);
+
+        Mockito.when(this.movieConnectorProxy.getByApiCode(anyString())).thenReturn(movieDTO);
+        Mockito.when(this.movieListItemRepository.getByAppUserIdAndMovieId(anyLong(), anyLong())).thenReturn(null);
+        Mockito.when(this.movieConnectorProxy.saveByApiCode(any())).thenReturn(movieDTO);
+        Mockito.when(this.movieListItemRepository.saveAllAndFlush(anyList())).thenThrow(new DataIntegrityViolationException("Duplicate key"));
+
+        assertThrows(CustomEntityDuplicationException.class, () -> this.movieListService.add(listItemAddDTO));
+    }
+
     @Test
     void givenMovieListItemAddWhenAddMovieListItemAndServiceNotAvailableShouldThrowServiceNotAvailableException() throws Exception {
 
@@ -223,50 +446,87 @@ class MovieListItemServiceImplTest {
     }
 
     @Test
-    void givenInvalidIdWhenDeleteByIdShouldThrowNotFoundException() {
+    void givenIdOfNotLastItemWhenDeleteByIdShouldCompactSortingOrderAndRecordCompactedItems() throws Exception {
 
-        Mockito.when(this.movieListItemRepository.findById(anyLong())).thenReturn(Optional.empty());
+        MovieListItem movieListItem = MovieListItem
+                .builder()
+                .movieId(1L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(2)
+                .build();
 
-        assertThrows(CustomNotFoundException.class, () -> this.movieListService.deleteById(1L, 1L));
+        Mockito.when(this.movieListItemRepository.findById(anyLong())).thenReturn(Optional.of(movieListItem));
+        Mockito.when(this.movieListItemRepository.existsByAppUserIdAndSortingOrderGreaterThan(1L, 2)).thenReturn(Boolean.TRUE);
+        Mockito.when(this.movieListItemRepository.compactSortingOrder(1L)).thenReturn(3);
 
-        Mockito.verify(this.movieListItemRepository).findById(anyLong());
+        this.movieListService.deleteById(1L, 1L);
+
+        Mockito.verify(this.movieListItemRepository).compactSortingOrder(1L);
+        assertEquals(1, this.meterRegistry.get("list.items.compacted").tag("list", "movie").summary().count());
+        assertEquals(3, this.meterRegistry.get("list.items.compacted").tag("list", "movie").summary().totalAmount());
     }
 
     @Test
-    void givenAppUserIdShouldGetAllMovieItemAndResetSortingOrderAndSave() {
+    void givenIdOfLastItemWhenDeleteByIdShouldNotCompactSortingOrder() throws Exception {
 
-        MovieListItem firstMovieListItem = MovieListItem
+        MovieListItem movieListItem = MovieListItem
                 .builder()
                 .movieId(1L)
                 .appUserId(1L)
                 .addedAt(new Date())
-                .sortingOrder(1)
-                .build();
-
-        MovieListItem secondMovieListItem = MovieListItem
-                .builder()
-                .movieId(2L)
-                .appUserId(1L)
-                .addedAt(new Date())
                 .sortingOrder(2)
                 .build();
 
-        MovieListItem thirdMovieListItem = MovieListItem
+        Mockito.when(this.movieListItemRepository.findById(anyLong())).thenReturn(Optional.of(movieListItem));
+        Mockito.when(this.movieListItemRepository.existsByAppUserIdAndSortingOrderGreaterThan(1L, 2)).thenReturn(Boolean.FALSE);
+
+        this.movieListService.deleteById(1L, 1L);
+
+        Mockito.verify(this.movieListItemRepository, Mockito.never()).compactSortingOrder(anyLong());
+        assertEquals(1, this.meterRegistry.get("list.items.compacted").tag("list", "movie").summary().count());
+        assertEquals(0, this.meterRegistry.get("list.items.compacted").tag("list", "movie").summary().totalAmount());
+    }
+
+    @Test
+    void givenCatalogNotAvailableWhenDeleteByIdShouldKeepLocalDeleteAndThrowServiceNotAvailableException() throws Exception {
+
+        MovieListItem movieListItem = MovieListItem
                 .builder()
-                .movieId(3L)
+                .movieId(1L)
                 .appUserId(1L)
                 .addedAt(new Date())
-                .sortingOrder(3)
+                .sortingOrder(1)
                 .build();
 
-        List<MovieListItem> movieListItems = List.of(firstMovieListItem, secondMovieListItem, thirdMovieListItem);
+        Mockito.when(this.movieListItemRepository.findById(anyLong())).thenReturn(Optional.of(movieListItem));
+        Mockito.when(this.movieListItemRepository.getByMovieId(1L)).thenReturn(emptyList());
+        Mockito.when(this.movieConnectorProxy.deleteById(1L)).thenThrow(new ServiceNotAvailableException("Service not available"));
 
-        Mockito.when(this.movieListItemRepository.getByAppUserIdOrderBySortingOrderAsc(anyLong())).thenReturn(movieListItems);
+        assertThrows(ServiceNotAvailableException.class, () -> this.movieListService.deleteById(1L, 1L));
 
-        this.movieListService.updateOrder(1L);
+        InOrder inOrder = Mockito.inOrder(this.listItemRemover, this.movieConnectorProxy);
+        inOrder.verify(this.listItemRemover).remove(1L, movieListItem, this.movieListItemRepository);
+        inOrder.verify(this.movieConnectorProxy).deleteById(1L);
+        Mockito.verify(this.movieListItemRepository).delete(movieListItem);
+    }
+
+    @Test
+    void givenInvalidIdWhenDeleteByIdShouldThrowNotFoundException() {
+
+        Mockito.when(this.movieListItemRepository.findById(anyLong())).thenReturn(Optional.empty());
 
-        Mockito.verify(this.movieListItemRepository).saveAll(movieListItems);
+        assertThrows(CustomNotFoundException.class, () -> this.movieListService.deleteById(1L, 1L));
+
+        Mockito.verify(this.movieListItemRepository).findById(anyLong());
+    }
+
+    @Test
+    void givenAppUserIdShouldCompactAllMovieItemSortingOrder() {
+
+        this.movieListService.updateOrder(1L);
 
+        Mockito.verify(this.movieListItemRepository).compactSortingOrder(1L);
     }
 
     @Test
@@ -342,13 +602,15 @@ class MovieListItemServiceImplTest {
 
         Mockito
                 .when(this.movieListItemRepository.getByAppUserIdOrderBySortingOrderAsc(anyLong()))
-                .thenReturn(List.of(firstItem, secondItem, thirdItem));
+                .thenReturn(List.of(thirdItem, firstItem, secondItem));
 
         List<MovieListItem> testEditSortingOrder = this.movieListService.editSortingOrder(1L, 1L, 1);
 
+        Mockito.verify(this.movieListItemRepository).shiftSortingOrderBetween(1L, 1, 2, 1);
+        Mockito.verify(this.movieListItemRepository).save(thirdItem);
+        assertEquals(3, testEditSortingOrder.size());
+
         assertEquals(1, thirdItem.getSortingOrder());
-        assertEquals(2, firstItem.getSortingOrder());
-        assertEquals(3, secondItem.getSortingOrder());
     }
 
     @Test
@@ -383,15 +645,44 @@ class MovieListItemServiceImplTest {
 
         Mockito
                 .when(this.movieListItemRepository.getByAppUserIdOrderBySortingOrderAsc(anyLong()))
-                .thenReturn(List.of(firstItem, secondItem, thirdItem));
+                .thenReturn(List.of(secondItem, thirdItem, firstItem));
 
         List<MovieListItem> testEditSortingOrder = this.movieListService.editSortingOrder(1L, 1L, 3);
 
-        assertEquals(1, secondItem.getSortingOrder());
-        assertEquals(2, thirdItem.getSortingOrder());
+        Mockito.verify(this.movieListItemRepository).shiftSortingOrderBetween(1L, 2, 3, -1);
+        Mockito.verify(this.movieListItemRepository).save(firstItem);
+        assertEquals(3, testEditSortingOrder.size());
+
         assertEquals(3, firstItem.getSortingOrder());
     }
 
+    @Test
+    void givenAppUserIdAndMovieItemIdAndSameSortingOrderWhenEditSortingOrderShouldNotShiftAnyItem()
+            throws Exception {
+
+        MovieListItem item = new MovieListItem();
+        item.setId(1L);
+        item.setMovieId(1L);
+        item.setSortingOrder(2);
+        item.setAppUserId(1L);
+        item.setAddedAt(new Date());
+
+        Mockito
+                .when(this.movieListItemRepository.findById(anyLong()))
+                .thenReturn(Optional.of(item));
+
+        Mockito
+                .when(this.movieListItemRepository.getByAppUserIdOrderBySortingOrderAsc(anyLong()))
+                .thenReturn(List.of(item));
+
+        List<MovieListItem> testEditSortingOrder = this.movieListService.editSortingOrder(1L, 1L, 2);
+
+        Mockito.verify(this.movieListItemRepository, Mockito.never()).shiftSortingOrderBetween(anyLong(), anyInt(), anyInt(), anyInt());
+        Mockito.verify(this.movieListItemRepository, Mockito.never()).save(any());
+        assertEquals(2, item.getSortingOrder());
+        assertEquals(1, testEditSortingOrder.size());
+    }
+
     @Test
     void givenAppUserIdAndInvalidMovieItemIdAndNewSortingOrderWhenEditSortingOrderShouldThrowNotFoundException() {
 
@@ -431,11 +722,15 @@ class MovieListItemServiceImplTest {
 
         List<MovieListItem> movieListItemList = List.of(firstMovieListItem, secondMovieListItem, thirdMovieListItem);
 
-        Mockito.when(this.movieListItemRepository.getByAppUserIdOrderBySortingOrderAsc(anyLong())).thenReturn(movieListItemList);
+        Mockito.when(this.movieListItemRepository.countByAppUserId(1L)).thenReturn(3L);
+        Mockito.when(this.movieListItemRepository.countDistinctSortingOrdersByAppUserIdUpTo(1L, 3)).thenReturn(3L);
+        Mockito.when(this.movieListItemRepository.getFirstByAppUserIdAndSortingOrderOrderByIdAsc(eq(1L), anyInt()))
+                .thenAnswer(invocation -> movieListItemList.get(invocation.getArgument(1, Integer.class) - 1));
 
         MovieListItem testGetRandomByAppUserId = this.movieListService.getRandomInAppUserList(1L);
 
-        Mockito.verify(this.movieListItemRepository).getByAppUserIdOrderBySortingOrderAsc(anyLong());
+        Mockito.verify(this.movieListItemRepository, Mockito.never()).getByAppUserIdOrderBySortingOrderAsc(anyLong());
+        Mockito.verify(this.movieListItemRepository, Mockito.never()).getByAppUserIdOrderBySortingOrderAscIdAsc(anyLong(), any(Pageable.class));
         assertNotNull(testGetRandomByAppUserId);
         assertTrue(movieListItemList.contains(testGetRandomByAppUserId));
 
@@ -444,12 +739,184 @@ class MovieListItemServiceImplTest {
     @Test
     void givenAppUserIdWhenGetRandomMovieListItemAndMovieListEmptyShouldReturnNull() {
 
-        Mockito.when(this.movieListItemRepository.getByAppUserIdOrderBySortingOrderAsc(anyLong())).thenReturn(emptyList());
+        Mockito.when(this.movieListItemRepository.countByAppUserId(1L)).thenReturn(0L);
 
         MovieListItem testGetRandomByAppUserId = this.movieListService.getRandomInAppUserList(1L);
 
-        Mockito.verify(this.movieListItemRepository).getByAppUserIdOrderBySortingOrderAsc(anyLong());
+        Mockito.verify(this.movieListItemRepository, Mockito.never()).getFirstByAppUserIdAndSortingOrderOrderByIdAsc(anyLong(), anyInt());
         assertNull(testGetRandomByAppUserId);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenAppUserIdWithGapInSortingOrderWhenGetRandomMovieListItemShouldOnlyPickByOffset() {
+
+        MovieListItem movieListItem = MovieListItem
+                .builder()
+                .movieId(2L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(5)
+                .build();
+
+        Mockito.when(this.movieListItemRepository.countByAppUserId(1L)).thenReturn(1L);
+        Mockito.when(this.movieListItemRepository.countDistinctSortingOrdersByAppUserIdUpTo(1L, 1)).thenReturn(0L);
+        Mockito.when(this.movieListItemRepository.getByAppUserIdOrderBySortingOrderAscIdAsc(1L, PageRequest.of(0, 1)))
+                .thenReturn(List.of(movieListItem));
+
+        MovieListItem testGetRandomByAppUserId = this.movieListService.getRandomInAppUserList(1L);
+
+        Mockito.verify(this.movieListItemRepository, Mockito.never()).getFirstByAppUserIdAndSortingOrderOrderByIdAsc(anyLong(), anyInt());
+        assertEquals(movieListItem, testGetRandomByAppUserId);
+    }
+
+    @Test
+    void givenApiCodesWhenAddAllShouldSaveNewMoviesWithContiguousSortingOrders() throws Exception {
+
+        MovieListItemBatchAddDTO batchAddDTO = new MovieListItemBatchAddDTO();
+        batchAddDTO.setApiCodes(List.of("XXX", "YYY", "ZZZ", "XXX"));
+        batchAddDTO.setAppUserId(1L);
+
+        MovieDTO firstMovie = new MovieDTO();
+        firstMovie.setId(1L);
+
+        MovieDTO secondMovie = new MovieDTO();
+        secondMovie.setId(2L);
+
+        MovieDTO thirdMovie = new MovieDTO();
+        thirdMovie.setId(3L);
+
+        MovieListItem lastMovieListItem = MovieListItem
+                .builder()
+                .movieId(4L)
+                .appUserId(1L)
+                .sortingOrder(4)
+                .build();
+
+        Mockito.when(this.movieConnectorProxy.saveByApiCodes(List.of("XXX", "YYY", "ZZZ")))
+                .thenReturn(List.of(firstMovie, secondMovie, thirdMovie));
+        Mockito.when(this.movieListItemRepository.getMovieIdsByAppUserIdAndMovieIdIn(1L, List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(2L));
+        Mockito.when(this.movieListItemRepository.getFirstByAppUserIdOrderBySortingOrderDesc(1L)).thenReturn(lastMovieListItem);
+        Mockito.when(this.movieListItemRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<MovieListItem> testAddAll = this.movieListService.addAll(batchAddDTO);
+
+        Mockito.verify(this.movieConnectorProxy).saveByApiCodes(List.of("XXX", "YYY", "ZZZ"));
+        Mockito.verify(this.movieListItemRepository, Mockito.never()).save(any());
+        assertEquals(2, testAddAll.size());
+        assertEquals(1L, testAddAll.get(0).getMovieId());
+        assertEquals(5, testAddAll.get(0).getSortingOrder());
+        assertEquals(3L, testAddAll.get(1).getMovieId());
+        assertEquals(6, testAddAll.get(1).getSortingOrder());
+    }
+
+    @Test
+    void givenEmptyApiCodesWhenAddAllShouldNotCallMovieService() throws Exception {
+
+        MovieListItemBatchAddDTO batchAddDTO = new MovieListItemBatchAddDTO();
+        batchAddDTO.setApiCodes(emptyList());
+        batchAddDTO.setAppUserId(1L);
+
+        List<MovieListItem> testAddAll = this.movieListService.addAll(batchAddDTO);
+
+        Mockito.verify(this.movieConnectorProxy, Mockito.never()).saveByApiCodes(anyList());
+        assertTrue(testAddAll.isEmpty());
+    }
+
+    @Test
+    void givenTooManyApiCodesWhenAddAllShouldThrowBadRequestException() throws Exception {
+
+        MovieListItemBatchAddDTO batchAddDTO = new MovieListItemBatchAddDTO();
+        batchAddDTO.setApiCodes(IntStream.rangeClosed(1, 501).mapToObj(index -> "tt" + index).toList());
+        batchAddDTO.setAppUserId(1L);
+
+        assertThrows(CustomBadRequestException.class, () -> this.movieListService.addAll(batchAddDTO));
+        Mockito.verify(this.movieConnectorProxy, Mockito.never()).saveByApiCodes(anyList());
+    }
+
+    @Test
+    void givenImportFileWhenImportByAppUserIdShouldImportNewMoviesInBatchAndReportProgress() throws Exception {
+
+        MovieDTO firstMovie = new MovieDTO();
+        firstMovie.setId(1L);
+
+        MovieDTO secondMovie = new MovieDTO();
+        secondMovie.setId(2L);
+
+        MovieListItem lastMovieListItem = MovieListItem
+                .builder()
+                .movieId(2L)
+                .appUserId(1L)
+                .sortingOrder(5)
+                .build();
+
+        Mockito.when(this.movieListItemRepository.getMovieIdsByAppUserId(1L)).thenReturn(List.of(2L));
+        Mockito.when(this.movieConnectorProxy.saveByApiCodes(List.of("tt1", "tt2", "tt3")))
+                .thenReturn(List.of(firstMovie, secondMovie));
+        Mockito.when(this.movieListItemRepository.getFirstByAppUserIdOrderBySortingOrderDesc(1L)).thenReturn(lastMovieListItem);
+        Mockito.when(this.movieListItemRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ListImportJobDTO importJob = this.movieListService.importByAppUserId(
+                1L,
+                this.toInputStream("apiCode\ntt1\n{\"apiCode\":\"tt2\"}\n\ntt1\n\"tt3\",Some title\n")
+        );
+
+        this.awaitImportJob(importJob.getJobId());
+
+        ArgumentCaptor<List<MovieListItem>> movieListItemsCaptor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(this.movieListItemRepository).saveAllAndFlush(movieListItemsCaptor.capture());
+
+        assertEquals(1, movieListItemsCaptor.getValue().size());
+        assertEquals(1L, movieListItemsCaptor.getValue().get(0).getMovieId());
+        assertEquals(6, movieListItemsCaptor.getValue().get(0).getSortingOrder());
+
+        ListImportJobDTO testGetImportJob = this.movieListService.getImportJob(1L, importJob.getJobId());
+
+        assertEquals(ListImportJobStatus.COMPLETED, testGetImportJob.getStatus());
+        assertEquals(3, testGetImportJob.getTotal());
+        assertEquals(3, testGetImportJob.getProcessed());
+        assertEquals(1, testGetImportJob.getImported());
+        assertEquals(1, testGetImportJob.getSkipped());
+        assertEquals(1, testGetImportJob.getFailed());
+    }
+
+    @Test
+    void givenImportFileWhenImportByAppUserIdAndServiceNotAvailableShouldMarkJobAsFailed() throws Exception {
+
+        Mockito.when(this.movieListItemRepository.getMovieIdsByAppUserId(1L)).thenReturn(emptyList());
+        Mockito.when(this.movieConnectorProxy.saveByApiCodes(anyList())).thenThrow(new ServiceNotAvailableException("Service not available"));
+
+        ListImportJobDTO importJob = this.movieListService.importByAppUserId(1L, this.toInputStream("tt1\ntt2\n"));
+
+        this.awaitImportJob(importJob.getJobId());
+
+        ListImportJobDTO testGetImportJob = this.movieListService.getImportJob(1L, importJob.getJobId());
+
+        assertEquals(ListImportJobStatus.FAILED, testGetImportJob.getStatus());
+        assertEquals(0, testGetImportJob.getProcessed());
+        Mockito.verify(this.movieListItemRepository, Mockito.never()).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    void givenInvalidOrEmptyImportFileWhenImportByAppUserIdShouldThrowBadRequestException() {
+
+        assertThrows(CustomBadRequestException.class, () -> this.movieListService.importByAppUserId(1L, this.toInputStream("tt1\n{\"apiCode\":")));
+        assertThrows(CustomBadRequestException.class, () -> this.movieListService.importByAppUserId(1L, this.toInputStream("apiCode\n\n")));
+        Mockito.verifyNoInteractions(this.movieConnectorProxy);
+    }
+
+    private void awaitImportJob(String jobId) throws CustomNotFoundException, InterruptedException {
+
+        ListImportJobStatus status = this.movieListService.getImportJob(1L, jobId).getStatus();
+
+        for (int attempt = 0; attempt < 100 && Boolean.FALSE.equals(IMPORT_FINISHED_STATUSES.contains(status)); attempt++) {
+            Thread.sleep(50);
+            status = this.movieListService.getImportJob(1L, jobId).getStatus();
+        }
+    }
+
+    private InputStream toInputStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
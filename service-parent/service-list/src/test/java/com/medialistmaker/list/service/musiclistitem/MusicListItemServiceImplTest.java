@@ -1,24 +1,55 @@
 package com.medialistmaker.list.service.musiclistitem;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.medialistmaker.list.connector.music.MusicConnectorProxy;
 import com.medialistmaker.list.domain.MusicListItem;
+import com.medialistmaker.list.dto.ListImportJobDTO;
+import com.medialistmaker.list.dto.ListImportJobStatus;
 import com.medialistmaker.list.dto.music.MusicAddDTO;
+import com.medialistmaker.list.dto.music.MusicBatchDTO;
+import com.medialistmaker.list.dto.music.MusicBatchErrorDTO;
 import com.medialistmaker.list.dto.music.MusicDTO;
 import com.medialistmaker.list.dto.music.MusicListItemAddDTO;
+import com.medialistmaker.list.dto.music.MusicListItemBatchAddDTO;
+import com.medialistmaker.list.dto.music.MusicListItemDTO;
+import com.medialistmaker.list.dto.music.MusicListItemHydratedDTO;
+import com.medialistmaker.list.dto.music.MusicListItemPageDTO;
 import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.list.exception.entityduplicationexception.CustomEntityDuplicationException;
 import com.medialistmaker.list.exception.notfoundexception.CustomNotFoundException;
 import com.medialistmaker.list.exception.servicenotavailableexception.ServiceNotAvailableException;
 import com.medialistmaker.list.repository.MusicListItemRepository;
+import com.medialistmaker.list.utils.ListImportJobRegistry;
+import com.medialistmaker.list.utils.ListImporter;
+import com.medialistmaker.list.utils.ListItemAppender;
+import com.medialistmaker.list.utils.ListItemCursor;
+import com.medialistmaker.list.utils.ListItemRemover;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,12 +58,34 @@ import static org.mockito.ArgumentMatchers.*;
 @ExtendWith(MockitoExtension.class)
 class MusicListItemServiceImplTest {
 
+    private static final List<ListImportJobStatus> IMPORT_FINISHED_STATUSES = List.of(ListImportJobStatus.COMPLETED, ListImportJobStatus.FAILED);
+
     @Mock
     MusicListItemRepository musicListItemRepository;
 
     @Mock
     MusicConnectorProxy musicConnectorProxy;
 
+    @Spy
+    ListItemCursor listItemCursor;
+
+    @Spy
+    ObjectMapper objectMapper;
+
+    ExecutorService importExecutor = Executors.newSingleThreadExecutor();
+
+    @Spy
+    ListImporter listImporter = new ListImporter(new ListImportJobRegistry(Duration.ofHours(1)), this.importExecutor);
+
+    @Spy
+    ListItemAppender listItemAppender;
+
+    @Spy
+    ListItemRemover listItemRemover;
+
+    @Spy
+    SimpleMeterRegistry meterRegistry;
+
     @InjectMocks
     MusicListItemServiceImpl musicListService;
 
@@ -74,6 +127,106 @@ class MusicListItemServiceImplTest {
         assertTrue(testGetByAppUserId.containsAll(musicListItemList));
     }
 
+    @Test
+    void givenAppUserIdAndLimitWhenGetPageByAppUserIdShouldReturnFirstPageAndNextCursor() throws Exception {
+
+        List<MusicListItem> musicListItems = IntStream
+                .rangeClosed(1, 3)
+                .mapToObj(sortingOrder -> MusicListItem
+                        .builder()
+                        .id((long) sortingOrder)
+                        .musicId((long) sortingOrder)
+                        .appUserId(1L)
+                        .sortingOrder(sortingOrder)
+                        .build())
+                .toList();
+
+        Mockito.when(this.musicListItemRepository.getByAppUserIdAfterPosition(1L, 0, 0L, Limit.of(3)))
+                .thenReturn(musicListItems);
+
+        MusicListItemPageDTO testGetPage = this.musicListService.getPageByAppUserId(1L, null, 2);
+
+        assertEquals(2, testGetPage.getItems().size());
+        assertEquals(1L, testGetPage.getItems().get(0).getMusicId());
+        assertEquals(2, testGetPage.getItems().get(1).getSortingOrder());
+        assertEquals(this.listItemCursor.encode(2, 2L), testGetPage.getNextCursor());
+    }
+
+    @Test
+    void givenCursorOnLastPageWhenGetPageByAppUserIdShouldReturnRemainingItemsWithoutNextCursor() throws Exception {
+
+        MusicListItem musicListItem = MusicListItem
+                .builder()
+                .id(3L)
+                .musicId(3L)
+                .appUserId(1L)
+                .sortingOrder(3)
+                .build();
+
+        Mockito.when(this.musicListItemRepository.getSortingOrderByAppUserIdAndId(1L, 2L)).thenReturn(2);
+        Mockito.when(this.musicListItemRepository.getByAppUserIdAfterPosition(1L, 2, 2L, Limit.of(3)))
+                .thenReturn(List.of(musicListItem));
+
+        MusicListItemPageDTO testGetPage = this.musicListService.getPageByAppUserId(1L, this.listItemCursor.encode(2, 2L), 2);
+
+        assertEquals(1, testGetPage.getItems().size());
+        assertEquals(3, testGetPage.getItems().get(0).getSortingOrder());
+        assertNull(testGetPage.getNextCursor());
+    }
+
+    @Test
+    void givenInvalidLimitWhenGetPageByAppUserIdShouldThrowBadRequestException() {
+
+        assertThrows(CustomBadRequestException.class, () -> this.musicListService.getPageByAppUserId(1L, null, 0));
+        assertThrows(CustomBadRequestException.class, () -> this.musicListService.getPageByAppUserId(1L, null, 201));
+        Mockito.verifyNoInteractions(this.musicListItemRepository);
+    }
+
+    @Test
+    void givenAppUserIdWhenExportByAppUserIdShouldWriteOneJsonLinePerListItem() throws Exception {
+
+        MusicListItemDTO firstMusicListItem = MusicListItemDTO
+                .builder()
+                .id(1L)
+                .musicId(1L)
+                .appUserId(1L)
+                .sortingOrder(1)
+                .build();
+
+        MusicListItemDTO secondMusicListItem = MusicListItemDTO
+                .builder()
+                .id(2L)
+                .musicId(2L)
+                .appUserId(1L)
+                .sortingOrder(2)
+                .build();
+
+        Mockito.when(this.musicListItemRepository.streamByAppUserId(anyLong()))
+                .thenReturn(Stream.of(firstMusicListItem, secondMusicListItem));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        this.musicListService.exportByAppUserId(1L, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertEquals(2, lines.length);
+        assertEquals(firstMusicListItem, this.objectMapper.readValue(lines[0], MusicListItemDTO.class));
+        assertEquals(secondMusicListItem, this.objectMapper.readValue(lines[1], MusicListItemDTO.class));
+    }
+
+    @Test
+    void givenAppUserIdWithEmptyListWhenExportByAppUserIdShouldWriteNothing() throws Exception {
+
+        Mockito.when(this.musicListItemRepository.streamByAppUserId(anyLong())).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        this.musicListService.exportByAppUserId(1L, outputStream);
+
+        assertEquals(0, outputStream.size());
+    }
+
     @Test
     void givenAppUserIdWhenGetLatestAddedByAppUserIdShouldReturnRelatedMusicListItemList() {
 
@@ -112,6 +265,59 @@ class MusicListItemServiceImplTest {
         assertTrue(testGetByAppUserId.containsAll(musicListItemList));
     }
 
+    @Test
+    void givenAppUserIdWhenGetHydratedByAppUserIdShouldReturnRelatedMusicListItemsWithMusic() throws Exception {
+
+        MusicListItem firstMusicListItem = MusicListItem
+                .builder()
+                .id(1L)
+                .musicId(1L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(1)
+                .build();
+
+        MusicListItem secondMusicListItem = MusicListItem
+                .builder()
+                .id(2L)
+                .musicId(2L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(2)
+                .build();
+
+        MusicDTO firstMusic = new MusicDTO();
+        firstMusic.setId(1L);
+        firstMusic.setTitle("First");
+
+        MusicDTO secondMusic = new MusicDTO();
+        secondMusic.setId(2L);
+        secondMusic.setTitle("Second");
+
+        Mockito.when(this.musicListItemRepository.getByAppUserIdOrderBySortingOrderAsc(1L)).thenReturn(List.of(firstMusicListItem, secondMusicListItem));
+        Mockito.when(this.musicConnectorProxy.browseByIds(List.of(1L, 2L))).thenReturn(List.of(secondMusic, firstMusic));
+
+        List<MusicListItemHydratedDTO> testGetHydrated = this.musicListService.getHydratedByAppUserId(1L);
+
+        Mockito.verify(this.musicConnectorProxy).browseByIds(List.of(1L, 2L));
+        assertEquals(2, testGetHydrated.size());
+        assertEquals(1L, testGetHydrated.get(0).getId());
+        assertEquals(firstMusic, testGetHydrated.get(0).getMusic());
+        assertEquals(2L, testGetHydrated.get(1).getId());
+        assertEquals(secondMusic, testGetHydrated.get(1).getMusic());
+    }
+
+    @Test
+    void givenAppUserIdWithEmptyListWhenGetHydratedByAppUserIdShouldNotCallMusicService() throws Exception {
+
+        Mockito.when(this.musicListItemRepository.getByAppUserIdOrderBySortingOrderAsc(1L)).thenReturn(emptyList());
+
+        List<MusicListItemHydratedDTO> testGetHydrated = this.musicListService.getHydratedByAppUserId(1L);
+
+        Mockito.verify(this.musicConnectorProxy, Mockito.never()).browseByIds(anyList());
+        assertTrue(testGetHydrated.isEmpty());
+    }
+
     @Test
     void givenMusicListItemAddWhenAddMusicListItemShouldSaveAndReturnMusicListItem()
             throws CustomBadRequestException, CustomNotFoundException,
@@ -136,14 +342,15 @@ class MusicListItemServiceImplTest {
         Mockito.when(this.musicConnectorProxy.getMusicByApiCodeAndType(anyString(), anyInt())).thenReturn(musicDTO);
         Mockito.when(this.musicListItemRepository.getByAppUserIdAndMusicId(anyLong(), anyLong())).thenReturn(null);
         Mockito.when(this.musicConnectorProxy.saveByApiCode(musicAddDTO)).thenReturn(musicDTO);
-        Mockito.when(this.musicListItemRepository.save(any())).thenReturn(musicListItem);
+        Mockito.when(this.musicListItemRepository.saveAllAndFlush(anyList())).thenReturn(List.of(musicListItem));
 
         MusicListItem testAddMusicListItem = this.musicListService.add(listItemAddDTO);
 
         Mockito.verify(this.musicConnectorProxy).getMusicByApiCodeAndType(anyString(), anyInt());
         Mockito.verify(this.musicListItemRepository).getByAppUserIdAndMusicId(anyLong(), anyLong());
         Mockito.verify(this.musicConnectorProxy).saveByApiCode(musicAddDTO);
-        Mockito.verify(this.musicListItemRepository).save(any());
+        Mockito.verify(this.musicListItemRepository).lockSortingOrdersByAppUserId(1L);
+        Mockito.verify(this.musicListItemRepository).saveAllAndFlush(anyList());
 
         assertEquals(musicDTO.getId(),testAddMusicListItem.getMusicId());
     }
@@ -174,6 +381,25 @@ class MusicListItemServiceImplTest {
 
     }
 
+    @Test
+    void givenMusicListItemAddWhenAddMusicListItemConcurrentlyAddedShouldThrowEntityDuplicationException() throws Exception {
+
+        MusicListItemAddDTO listItemAddDTO = new MusicListItemAddDTO();
+        listItemAddDTO.setApiCode("XXXX");
+        listItemAddDTO.setType(1);
+        listItemAddDTO.setAppUserId(1L);
+
+        MusicDTO musicDTO = new MusicDTO();
+        musicDTO.setId(1L);
+
+        Mockito.when(this.musicConnectorProxy.getMusicByApiCodeAndType(anyString(), anyInt())).thenReturn(musicDTO);
+        Mockito.when(this.musicListItemRepository.getByAppUserIdAndMusicId(anyLong(), anyLong())).thenReturn(null);
+        Mockito.when(this.musicConnectorProxy.saveByApiCode(any())).thenReturn(musicDTO);
+        Mockito.when(this.musicListItemRepository.saveAllAndFlush(anyList())).thenThrow(new DataIntegrityViolationException("Duplicate key"));
+
+        assertThrows(CustomEntityDuplicationException.class, () -> this.musicListService.add(listItemAddDTO));
+    }
+
     @Test
     void givenMusicListItemAddWhenAddMusicListItemAndServiceNotAvailableShouldThrowServiceNotAvailableException() throws Exception {
 
@@ -225,40 +451,77 @@ class MusicListItemServiceImplTest {
     }
 
     @Test
-    void givenAppUserIdShouldGetAllMovieItemAndResetSortingOrderAndSave() {
+    void givenIdOfNotLastItemWhenDeleteByIdShouldCompactSortingOrderAndRecordCompactedItems() throws Exception {
 
-        MusicListItem firstMusicListItem = MusicListItem
+        MusicListItem musicListItem = MusicListItem
                 .builder()
                 .musicId(1L)
                 .appUserId(1L)
                 .addedAt(new Date())
-                .sortingOrder(1)
+                .sortingOrder(2)
                 .build();
 
-        MusicListItem secondMusicListItem = MusicListItem
+        Mockito.when(this.musicListItemRepository.findById(anyLong())).thenReturn(Optional.of(musicListItem));
+        Mockito.when(this.musicListItemRepository.existsByAppUserIdAndSortingOrderGreaterThan(1L, 2)).thenReturn(Boolean.TRUE);
+        Mockito.when(this.musicListItemRepository.compactSortingOrder(1L)).thenReturn(3);
+
+        this.musicListService.deleteById(1L, 1L);
+
+        Mockito.verify(this.musicListItemRepository).compactSortingOrder(1L);
+        assertEquals(1, this.meterRegistry.get("list.items.compacted").tag("list", "music").summary().count());
+        assertEquals(3, this.meterRegistry.get("list.items.compacted").tag("list", "music").summary().totalAmount());
+    }
+
+    @Test
+    void givenIdOfLastItemWhenDeleteByIdShouldNotCompactSortingOrder() throws Exception {
+
+        MusicListItem musicListItem = MusicListItem
                 .builder()
-                .musicId(2L)
+                .musicId(1L)
                 .appUserId(1L)
                 .addedAt(new Date())
                 .sortingOrder(2)
                 .build();
 
-        MusicListItem thirdMusicListItem = MusicListItem
+        Mockito.when(this.musicListItemRepository.findById(anyLong())).thenReturn(Optional.of(musicListItem));
+        Mockito.when(this.musicListItemRepository.existsByAppUserIdAndSortingOrderGreaterThan(1L, 2)).thenReturn(Boolean.FALSE);
+
+        this.musicListService.deleteById(1L, 1L);
+
+        Mockito.verify(this.musicListItemRepository, Mockito.never()).compactSortingOrder(anyLong());
+        assertEquals(1, this.meterRegistry.get("list.items.compacted").tag("list", "music").summary().count());
+        assertEquals(0, this.meterRegistry.get("list.items.compacted").tag("list", "music").summary().totalAmount());
+    }
+
+    @Test
+    void givenAppUserIdShouldCompactAllMusicItemSortingOrder() {
+
+        this.musicListService.updateAllMusicListItemSortingOrder(1L);
+
+        Mockito.verify(this.musicListItemRepository).compactSortingOrder(1L);
+    }
+
+    @Test
+    void givenCatalogNotAvailableWhenDeleteByIdShouldKeepLocalDeleteAndThrowServiceNotAvailableException() throws Exception {
+
+        MusicListItem musicListItem = MusicListItem
                 .builder()
-                .musicId(3L)
+                .musicId(1L)
                 .appUserId(1L)
                 .addedAt(new Date())
-                .sortingOrder(3)
+                .sortingOrder(1)
                 .build();
 
-        List<MusicListItem> musicListItems = List.of(firstMusicListItem, secondMusicListItem, thirdMusicListItem);
-
-        Mockito.when(this.musicListItemRepository.getByAppUserIdOrderBySortingOrderAsc(anyLong())).thenReturn(musicListItems);
-
-        this.musicListService.updateAllMusicListItemSortingOrder(1L);
+        Mockito.when(this.musicListItemRepository.findById(anyLong())).thenReturn(Optional.of(musicListItem));
+        Mockito.when(this.musicListItemRepository.getByMusicId(1L)).thenReturn(emptyList());
+        Mockito.when(this.musicConnectorProxy.deleteById(1L)).thenThrow(new ServiceNotAvailableException("Service not available"));
 
-        Mockito.verify(this.musicListItemRepository).saveAll(musicListItems);
+        assertThrows(ServiceNotAvailableException.class, () -> this.musicListService.deleteById(1L, 1L));
 
+        InOrder inOrder = Mockito.inOrder(this.listItemRemover, this.musicConnectorProxy);
+        inOrder.verify(this.listItemRemover).remove(1L, musicListItem, this.musicListItemRepository);
+        inOrder.verify(this.musicConnectorProxy).deleteById(1L);
+        Mockito.verify(this.musicListItemRepository).delete(musicListItem);
     }
 
     @Test
@@ -352,13 +615,15 @@ class MusicListItemServiceImplTest {
 
         Mockito
                 .when(this.musicListItemRepository.getByAppUserIdOrderBySortingOrderAsc(anyLong()))
-                .thenReturn(List.of(firstItem, secondItem, thirdItem));
+                .thenReturn(List.of(thirdItem, firstItem, secondItem));
 
         List<MusicListItem> testEditSortingOrder = this.musicListService.editSortingOrder(1L, 1L, 1);
 
+        Mockito.verify(this.musicListItemRepository).shiftSortingOrderBetween(1L, 1, 2, 1);
+        Mockito.verify(this.musicListItemRepository).save(thirdItem);
+        assertEquals(3, testEditSortingOrder.size());
+
         assertEquals(1, thirdItem.getSortingOrder());
-        assertEquals(2, firstItem.getSortingOrder());
-        assertEquals(3, secondItem.getSortingOrder());
     }
 
     @Test
@@ -392,15 +657,44 @@ class MusicListItemServiceImplTest {
 
         Mockito
                 .when(this.musicListItemRepository.getByAppUserIdOrderBySortingOrderAsc(anyLong()))
-                .thenReturn(List.of(firstItem, secondItem, thirdItem));
+                .thenReturn(List.of(secondItem, thirdItem, firstItem));
 
         List<MusicListItem> testEditSortingOrder = this.musicListService.editSortingOrder(1L, 1L, 3);
 
-        assertEquals(1, secondItem.getSortingOrder());
-        assertEquals(2, thirdItem.getSortingOrder());
+        Mockito.verify(this.musicListItemRepository).shiftSortingOrderBetween(1L, 2, 3, -1);
+        Mockito.verify(this.musicListItemRepository).save(firstItem);
+        assertEquals(3, testEditSortingOrder.size());
+
         assertEquals(3, firstItem.getSortingOrder());
     }
 
+    @Test
+    void givenAppUserIdAndMusicItemIdAndSameSortingOrderWhenEditSortingOrderShouldNotShiftAnyItem()
+            throws Exception {
+
+        MusicListItem item = new MusicListItem();
+        item.setId(1L);
+        item.setMusicId(1L);
+        item.setSortingOrder(2);
+        item.setAppUserId(1L);
+        item.setAddedAt(new Date());
+
+        Mockito
+                .when(this.musicListItemRepository.findById(anyLong()))
+                .thenReturn(Optional.of(item));
+
+        Mockito
+                .when(this.musicListItemRepository.getByAppUserIdOrderBySortingOrderAsc(anyLong()))
+                .thenReturn(List.of(item));
+
+        List<MusicListItem> testEditSortingOrder = this.musicListService.editSortingOrder(1L, 1L, 2);
+
+        Mockito.verify(this.musicListItemRepository, Mockito.never()).shiftSortingOrderBetween(anyLong(), anyInt(), anyInt(), anyInt());
+        Mockito.verify(this.musicListItemRepository, Mockito.never()).save(any());
+        assertEquals(2, item.getSortingOrder());
+        assertEquals(1, testEditSortingOrder.size());
+    }
+
     @Test
     void givenAppUserIdAndInvalidMusicItemIdAndNewSortingOrderWhenEditSortingOrderShouldThrowNotFoundException() {
 
@@ -440,11 +734,15 @@ class MusicListItemServiceImplTest {
 
         List<MusicListItem> musicListItemList = List.of(firstMusicListItem, secondMusicListItem, thirdMusicListItem);
 
-        Mockito.when(this.musicListItemRepository.getByAppUserIdOrderBySortingOrderAsc(anyLong())).thenReturn(musicListItemList);
+        Mockito.when(this.musicListItemRepository.countByAppUserId(1L)).thenReturn(3L);
+        Mockito.when(this.musicListItemRepository.countDistinctSortingOrdersByAppUserIdUpTo(1L, 3)).thenReturn(3L);
+        Mockito.when(this.musicListItemRepository.getFirstByAppUserIdAndSortingOrderOrderByIdAsc(eq(1L), anyInt()))
+                .thenAnswer(invocation -> musicListItemList.get(invocation.getArgument(1, Integer.class) - 1));
 
         MusicListItem testGetRandomByAppUserId = this.musicListService.getRandomInAppUserList(1L);
 
-        Mockito.verify(this.musicListItemRepository).getByAppUserIdOrderBySortingOrderAsc(anyLong());
+        Mockito.verify(this.musicListItemRepository, Mockito.never()).getByAppUserIdOrderBySortingOrderAsc(anyLong());
+        Mockito.verify(this.musicListItemRepository, Mockito.never()).getByAppUserIdOrderBySortingOrderAscIdAsc(anyLong(), any(Pageable.class));
         assertNotNull(testGetRandomByAppUserId);
         assertTrue(musicListItemList.contains(testGetRandomByAppUserId));
 
@@ -453,12 +751,190 @@ class MusicListItemServiceImplTest {
     @Test
     void givenAppUserIdWhenGetRandomMusicListItemAndMovieListEmptyShouldReturnNull() {
 
-        Mockito.when(this.musicListItemRepository.getByAppUserIdOrderBySortingOrderAsc(anyLong())).thenReturn(emptyList());
+        Mockito.when(this.musicListItemRepository.countByAppUserId(1L)).thenReturn(0L);
 
         MusicListItem testGetRandomByAppUserId = this.musicListService.getRandomInAppUserList(1L);
 
-        Mockito.verify(this.musicListItemRepository).getByAppUserIdOrderBySortingOrderAsc(anyLong());
+        Mockito.verify(this.musicListItemRepository, Mockito.never()).getFirstByAppUserIdAndSortingOrderOrderByIdAsc(anyLong(), anyInt());
         assertNull(testGetRandomByAppUserId);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenAppUserIdWithGapInSortingOrderWhenGetRandomMusicListItemShouldOnlyPickByOffset() {
+
+        MusicListItem musicListItem = MusicListItem
+                .builder()
+                .musicId(2L)
+                .appUserId(1L)
+                .addedAt(new Date())
+                .sortingOrder(5)
+                .build();
+
+        Mockito.when(this.musicListItemRepository.countByAppUserId(1L)).thenReturn(1L);
+        Mockito.when(this.musicListItemRepository.countDistinctSortingOrdersByAppUserIdUpTo(1L, 1)).thenReturn(0L);
+        Mockito.when(this.musicListItemRepository.getByAppUserIdOrderBySortingOrderAscIdAsc(1L, PageRequest.of(0, 1)))
+                .thenReturn(List.of(musicListItem));
+
+        MusicListItem testGetRandomByAppUserId = this.musicListService.getRandomInAppUserList(1L);
+
+        Mockito.verify(this.musicListItemRepository, Mockito.never()).getFirstByAppUserIdAndSortingOrderOrderByIdAsc(anyLong(), anyInt());
+        assertEquals(musicListItem, testGetRandomByAppUserId);
+    }
+
+    @Test
+    void givenMusicsWhenAddAllShouldSaveNewMusicsWithContiguousSortingOrders() throws Exception {
+
+        MusicAddDTO firstMusicAddDTO = new MusicAddDTO();
+        firstMusicAddDTO.setApiCode("XXX");
+        firstMusicAddDTO.setType(1);
+
+        MusicAddDTO secondMusicAddDTO = new MusicAddDTO();
+        secondMusicAddDTO.setApiCode("YYY");
+        secondMusicAddDTO.setType(2);
+
+        MusicListItemBatchAddDTO batchAddDTO = new MusicListItemBatchAddDTO();
+        batchAddDTO.setMusics(List.of(firstMusicAddDTO, secondMusicAddDTO, firstMusicAddDTO));
+        batchAddDTO.setAppUserId(1L);
+
+        MusicDTO firstMusic = new MusicDTO();
+        firstMusic.setId(1L);
+
+        MusicDTO secondMusic = new MusicDTO();
+        secondMusic.setId(2L);
+
+        MusicBatchDTO musicBatch = new MusicBatchDTO();
+        musicBatch.setMusics(List.of(firstMusic, secondMusic));
+
+        Mockito.when(this.musicConnectorProxy.saveByApiCodes(List.of(firstMusicAddDTO, secondMusicAddDTO)))
+                .thenReturn(musicBatch);
+        Mockito.when(this.musicListItemRepository.getMusicIdsByAppUserIdAndMusicIdIn(1L, List.of(1L, 2L)))
+                .thenReturn(emptyList());
+        Mockito.when(this.musicListItemRepository.getFirstByAppUserIdOrderBySortingOrderDesc(1L)).thenReturn(null);
+        Mockito.when(this.musicListItemRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<MusicListItem> testAddAll = this.musicListService.addAll(batchAddDTO);
+
+        Mockito.verify(this.musicConnectorProxy).saveByApiCodes(List.of(firstMusicAddDTO, secondMusicAddDTO));
+        assertEquals(2, testAddAll.size());
+        assertEquals(1, testAddAll.get(0).getSortingOrder());
+        assertEquals(2, testAddAll.get(1).getSortingOrder());
+    }
+
+    @Test
+    void givenMusicsAlreadyInListWhenAddAllShouldNotSaveAnyMusic() throws Exception {
+
+        MusicAddDTO musicAddDTO = new MusicAddDTO();
+        musicAddDTO.setApiCode("XXX");
+        musicAddDTO.setType(1);
+
+        MusicListItemBatchAddDTO batchAddDTO = new MusicListItemBatchAddDTO();
+        batchAddDTO.setMusics(List.of(musicAddDTO));
+        batchAddDTO.setAppUserId(1L);
+
+        MusicDTO music = new MusicDTO();
+        music.setId(1L);
+
+        MusicBatchDTO musicBatch = new MusicBatchDTO();
+        musicBatch.setMusics(List.of(music));
+
+        Mockito.when(this.musicConnectorProxy.saveByApiCodes(anyList())).thenReturn(musicBatch);
+        Mockito.when(this.musicListItemRepository.getMusicIdsByAppUserIdAndMusicIdIn(1L, List.of(1L))).thenReturn(List.of(1L));
+        Mockito.when(this.musicListItemRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<MusicListItem> testAddAll = this.musicListService.addAll(batchAddDTO);
+
+        assertTrue(testAddAll.isEmpty());
+    }
+
+    @Test
+    void givenImportFileWhenImportByAppUserIdShouldImportResolvedMusicsInBatchAndReportProgress() throws Exception {
+
+        MusicAddDTO firstMusicAddDTO = new MusicAddDTO();
+        firstMusicAddDTO.setApiCode("123");
+        firstMusicAddDTO.setType(1);
+
+        MusicAddDTO secondMusicAddDTO = new MusicAddDTO();
+        secondMusicAddDTO.setApiCode("456");
+        secondMusicAddDTO.setType(2);
+
+        MusicDTO music = new MusicDTO();
+        music.setId(1L);
+
+        MusicBatchErrorDTO musicBatchError = new MusicBatchErrorDTO();
+        musicBatchError.setApiCode("456");
+        musicBatchError.setMessage("Not found");
+
+        MusicBatchDTO musicBatch = new MusicBatchDTO();
+        musicBatch.setMusics(List.of(music));
+        musicBatch.setErrors(List.of(musicBatchError));
+
+        Mockito.when(this.musicListItemRepository.getMusicIdsByAppUserId(1L)).thenReturn(emptyList());
+        Mockito.when(this.musicConnectorProxy.saveByApiCodes(List.of(firstMusicAddDTO, secondMusicAddDTO))).thenReturn(musicBatch);
+        Mockito.when(this.musicListItemRepository.getFirstByAppUserIdOrderBySortingOrderDesc(1L)).thenReturn(null);
+        Mockito.when(this.musicListItemRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ListImportJobDTO importJob = this.musicListService.importByAppUserId(
+                1L,
+                this.toInputStream("apiCode,type\n123,1\n{\"apiCode\":\"456\",\"type\":2}\n123,1\n")
+        );
+
+        this.awaitImportJob(importJob.getJobId());
+
+        ArgumentCaptor<List<MusicListItem>> musicListItemsCaptor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(this.musicListItemRepository).saveAllAndFlush(musicListItemsCaptor.capture());
+
+        assertEquals(1, musicListItemsCaptor.getValue().size());
+        assertEquals(1L, musicListItemsCaptor.getValue().get(0).getMusicId());
+        assertEquals(1, musicListItemsCaptor.getValue().get(0).getSortingOrder());
+
+        ListImportJobDTO testGetImportJob = this.musicListService.getImportJob(1L, importJob.getJobId());
+
+        assertEquals(ListImportJobStatus.COMPLETED, testGetImportJob.getStatus());
+        assertEquals(2, testGetImportJob.getTotal());
+        assertEquals(2, testGetImportJob.getProcessed());
+        assertEquals(1, testGetImportJob.getImported());
+        assertEquals(0, testGetImportJob.getSkipped());
+        assertEquals(1, testGetImportJob.getFailed());
+    }
+
+    @Test
+    void givenImportFileWhenImportByAppUserIdAndServiceNotAvailableShouldMarkJobAsFailed() throws Exception {
+
+        Mockito.when(this.musicListItemRepository.getMusicIdsByAppUserId(1L)).thenReturn(emptyList());
+        Mockito.when(this.musicConnectorProxy.saveByApiCodes(anyList())).thenThrow(new ServiceNotAvailableException("Service not available"));
+
+        ListImportJobDTO importJob = this.musicListService.importByAppUserId(1L, this.toInputStream("123,1\n456,2\n"));
+
+        this.awaitImportJob(importJob.getJobId());
+
+        ListImportJobDTO testGetImportJob = this.musicListService.getImportJob(1L, importJob.getJobId());
+
+        assertEquals(ListImportJobStatus.FAILED, testGetImportJob.getStatus());
+        assertEquals(0, testGetImportJob.getProcessed());
+        Mockito.verify(this.musicListItemRepository, Mockito.never()).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    void givenInvalidOrEmptyImportFileWhenImportByAppUserIdShouldThrowBadRequestException() {
+
+        assertThrows(CustomBadRequestException.class, () -> this.musicListService.importByAppUserId(1L, this.toInputStream("123,album\n")));
+        assertThrows(CustomBadRequestException.class, () -> this.musicListService.importByAppUserId(1L, this.toInputStream("123\n")));
+        assertThrows(CustomBadRequestException.class, () -> this.musicListService.importByAppUserId(1L, this.toInputStream("apiCode,type\n")));
+        Mockito.verifyNoInteractions(this.musicConnectorProxy);
+    }
+
+    private void awaitImportJob(String jobId) throws CustomNotFoundException, InterruptedException {
+
+        ListImportJobStatus status = this.musicListService.getImportJob(1L, jobId).getStatus();
+
+        for (int attempt = 0; attempt < 100 && Boolean.FALSE.equals(IMPORT_FINISHED_STATUSES.contains(status)); attempt++) {
+            Thread.sleep(50);
+            status = this.musicListService.getImportJob(1L, jobId).getStatus();
+        }
+    }
+
+    private InputStream toInputStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,76 @@
+package com.medialistmaker.list.utils;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentityHeaderVerifierTest {
+
+    private static final String SECRET = "secret";
+
+    @Test
+    void givenSignedIdentityHeadersWhenVerifyShouldReturnTokenClaims() throws Exception {
+
+        IdentityHeaderVerifier identityHeaderVerifier = new IdentityHeaderVerifier(Boolean.TRUE, SECRET);
+
+        String expiresAt = String.valueOf(Instant.now().plusSeconds(60).getEpochSecond());
+
+        TokenClaims testVerify = identityHeaderVerifier.verify("1", expiresAt, this.sign("1:" + expiresAt, SECRET));
+
+        assertNotNull(testVerify);
+        assertEquals("1", testVerify.subject());
+        assertEquals(Long.parseLong(expiresAt), testVerify.expiresAt().getEpochSecond());
+    }
+
+    @Test
+    void givenTrustedHeaderModeDisabledWhenVerifyShouldReturnNull() throws Exception {
+
+        IdentityHeaderVerifier identityHeaderVerifier = new IdentityHeaderVerifier(Boolean.FALSE, SECRET);
+
+        String expiresAt = String.valueOf(Instant.now().plusSeconds(60).getEpochSecond());
+
+        assertNull(identityHeaderVerifier.verify("1", expiresAt, this.sign("1:" + expiresAt, SECRET)));
+    }
+
+    @Test
+    void givenForgedSignatureWhenVerifyShouldReturnNull() throws Exception {
+
+        IdentityHeaderVerifier identityHeaderVerifier = new IdentityHeaderVerifier(Boolean.TRUE, SECRET);
+
+        String expiresAt = String.valueOf(Instant.now().plusSeconds(60).getEpochSecond());
+
+        assertNull(identityHeaderVerifier.verify("2", expiresAt, this.sign("1:" + expiresAt, SECRET)));
+        assertNull(identityHeaderVerifier.verify("1", expiresAt, this.sign("1:" + expiresAt, "other")));
+        assertNull(identityHeaderVerifier.verify("1", expiresAt, "not base64 !"));
+    }
+
+    @Test
+    void givenExpiredIdentityHeadersWhenVerifyShouldReturnNull() throws Exception {
+
+        IdentityHeaderVerifier identityHeaderVerifier = new IdentityHeaderVerifier(Boolean.TRUE, SECRET);
+
+        String expiresAt = String.valueOf(Instant.now().minusSeconds(60).getEpochSecond());
+
+        assertNull(identityHeaderVerifier.verify("1", expiresAt, this.sign("1:" + expiresAt, SECRET)));
+    }
+
+    @Test
+    void givenMissingIdentityHeadersWhenVerifyShouldReturnNull() {
+
+        IdentityHeaderVerifier identityHeaderVerifier = new IdentityHeaderVerifier(Boolean.TRUE, SECRET);
+
+        assertNull(identityHeaderVerifier.verify(null, null, null));
+    }
+
+    private String sign(String value, String secret) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,72 @@
+package com.medialistmaker.list.utils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private static final byte[] SECRET_KEY = "test".getBytes(StandardCharsets.UTF_8);
+
+    private final JwtTokenService tokenService = new JwtTokenService();
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    private String token;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtAuthenticationBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup
+    public void setUp() {
+        this.token = Jwts
+                .builder()
+                .setSubject("1")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 3600000))
+                .signWith(SignatureAlgorithm.HS512, SECRET_KEY)
+                .compact();
+
+        this.verifiedTokenCache = new VerifiedTokenCache(new SimpleMeterRegistry(), 10000L);
+        this.verifiedTokenCache.put(this.token, this.tokenService.verify(this.token));
+    }
+
+    @Benchmark
+    public Boolean parsePerClaim() {
+        String username = this.parse().getSubject();
+        Boolean isFormatValid = this.parse() != null;
+        Boolean isSubjectValid = this.parse().getSubject().equals(username);
+        Boolean isExpired = this.parse().getExpiration().before(new Date());
+        return isFormatValid && isSubjectValid && Boolean.FALSE.equals(isExpired);
+    }
+
+    @Benchmark
+    public TokenClaims verifyOnce() {
+        return this.tokenService.verify(this.token);
+    }
+
+    @Benchmark
+    public TokenClaims verifiedTokenCacheHit() {
+        return this.verifiedTokenCache.getIfPresent(this.token);
+    }
+
+    private Claims parse() {
+        return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(this.token).getBody();
+    }
+}
@@ -1,10 +1,12 @@
 package com.medialistmaker.list.utils;
 
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.security.core.userdetails.User;
 
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -18,23 +20,65 @@ class JwtTokenServiceTest {
     }
 
     @Test
-    void givenMalFormedTokenWhenIsTokenValidShouldReturnTrue() {
+    void givenValidTokenWhenVerifyShouldReturnTokenClaims() {
 
-        User user = new User("1", "password", new ArrayList<>());
+        Date issuedAt = new Date();
+        Date expirationDate = new Date(issuedAt.getTime() + 60000);
 
-        Boolean testIsTokenValid = this.tokenService.isTokenValid("test", user);
+        String token = Jwts
+                .builder()
+                .setId("tokenId")
+                .claim(JwtTokenService.USERNAME_CLAIM, "username")
+                .setSubject("1")
+                .setIssuedAt(issuedAt)
+                .setExpiration(expirationDate)
+                .signWith(SignatureAlgorithm.HS512, "test".getBytes(StandardCharsets.UTF_8))
+                .compact();
 
-        assertFalse(testIsTokenValid);
+        TokenClaims testVerify = this.tokenService.verify(token);
+
+        assertNotNull(testVerify);
+        assertEquals("tokenId", testVerify.id());
+        assertEquals("1", testVerify.subject());
+        assertEquals("username", testVerify.username());
+        assertEquals(expirationDate.getTime() / 1000, testVerify.expiresAt().getEpochSecond());
+        assertEquals(issuedAt.getTime() / 1000, testVerify.issuedAt().getEpochSecond());
+    }
+
+    @Test
+    void givenExpiredTokenWhenVerifyShouldReturnNull() {
+
+        String token = this.generateToken(
+                "1",
+                new Date(System.currentTimeMillis() - 120000),
+                new Date(System.currentTimeMillis() - 60000),
+                "test"
+        );
+
+        assertNull(this.tokenService.verify(token));
     }
 
     @Test
-    void givenWrongUserTokenWhenIsTokenValidShouldReturnTrue() {
+    void givenTokenSignedWithAnotherKeyWhenVerifyShouldReturnNull() {
+
+        String token = this.generateToken("1", new Date(), new Date(System.currentTimeMillis() + 60000), "other");
 
-        User user = new User("2", "password", new ArrayList<>());
+        assertNull(this.tokenService.verify(token));
+    }
 
-        Boolean testIsTokenValid = this.tokenService.isTokenValid("test", user);
+    @Test
+    void givenMalFormedTokenWhenVerifyShouldReturnNull() {
+        assertNull(this.tokenService.verify("test"));
+    }
 
-        assertFalse(testIsTokenValid);
+    private String generateToken(String subject, Date issuedAt, Date expirationDate, String secretKey) {
+        return Jwts
+                .builder()
+                .setSubject(subject)
+                .setIssuedAt(issuedAt)
+                .setExpiration(expirationDate)
+                .signWith(SignatureAlgorithm.HS512, secretKey.getBytes(StandardCharsets.UTF_8))
+                .compact();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.medialistmaker.list.utils;
+
+import com.medialistmaker.list.dto.ListImportJobDTO;
+import com.medialistmaker.list.dto.ListImportJobStatus;
+import com.medialistmaker.list.exception.notfoundexception.CustomNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListImportJobRegistryTest {
+
+    ListImportJobRegistry listImportJobRegistry = new ListImportJobRegistry(Duration.ofHours(1));
+
+    @Test
+    void givenAppUserIdAndTotalWhenCreateShouldRegisterPendingJob() throws Exception {
+
+        ListImportJobDTO importJob = this.listImportJobRegistry.create(1L, 10);
+
+        ListImportJobDTO testGetImportJob = this.listImportJobRegistry.getByAppUserIdAndJobId(1L, importJob.getJobId());
+
+        assertEquals(ListImportJobStatus.PENDING, testGetImportJob.getStatus());
+        assertEquals(10, testGetImportJob.getTotal());
+        assertEquals(0, testGetImportJob.getProcessed());
+    }
+
+    @Test
+    void givenUpdatedJobWhenGetByAppUserIdAndJobIdShouldReturnLatestProgress() throws Exception {
+
+        ListImportJobDTO importJob = this.listImportJobRegistry.create(1L, 10);
+
+        this.listImportJobRegistry.update(importJob.toBuilder().status(ListImportJobStatus.RUNNING).processed(5).build());
+
+        ListImportJobDTO testGetImportJob = this.listImportJobRegistry.getByAppUserIdAndJobId(1L, importJob.getJobId());
+
+        assertEquals(ListImportJobStatus.RUNNING, testGetImportJob.getStatus());
+        assertEquals(5, testGetImportJob.getProcessed());
+    }
+
+    @Test
+    void givenJobOfAnotherAppUserWhenGetByAppUserIdAndJobIdShouldThrowNotFoundException() {
+
+        ListImportJobDTO importJob = this.listImportJobRegistry.create(1L, 10);
+
+        assertThrows(CustomNotFoundException.class, () -> this.listImportJobRegistry.getByAppUserIdAndJobId(2L, importJob.getJobId()));
+        assertThrows(CustomNotFoundException.class, () -> this.listImportJobRegistry.getByAppUserIdAndJobId(1L, "unknown"));
+    }
+}
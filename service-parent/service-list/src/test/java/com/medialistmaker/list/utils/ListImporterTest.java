@@ -0,0 +1,182 @@
+package com.medialistmaker.list.utils;
+
+import com.medialistmaker.list.domain.MovieListItem;
+import com.medialistmaker.list.dto.ListImportJobDTO;
+import com.medialistmaker.list.dto.ListImportJobStatus;
+import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
+import com.medialistmaker.list.exception.notfoundexception.CustomNotFoundException;
+import com.medialistmaker.list.exception.toomanyrequestsexception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+
+class ListImporterTest {
+
+    ExecutorService importExecutor = Executors.newSingleThreadExecutor();
+
+    ListImporter listImporter = new ListImporter(new ListImportJobRegistry(Duration.ofHours(1)), this.importExecutor);
+
+    ListImportHandler<String, MovieListItem> importHandler = Mockito.mock(ListImportHandler.class);
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        Mockito.when(this.importHandler.getMediaName()).thenReturn("movie");
+        Mockito.when(this.importHandler.parseLine(anyString(), anyInt())).thenAnswer(invocation -> {
+            String line = invocation.getArgument(0);
+            if (line.equals("invalid")) {
+                throw new CustomBadRequestException("Invalid import line " + invocation.getArgument(1));
+            }
+            return line.isEmpty() ? null : line;
+        });
+        Mockito.when(this.importHandler.getMediaIdsInList(1L)).thenReturn(emptyList());
+        Mockito.when(this.importHandler.saveMedias(anyList())).thenAnswer(invocation -> invocation
+                .<List<String>>getArgument(0)
+                .stream()
+                .map(Long::valueOf)
+                .toList());
+        Mockito.when(this.importHandler.createListItem(eq(1L), anyLong(), any(Date.class))).thenAnswer(invocation -> MovieListItem
+                .builder()
+                .appUserId(invocation.getArgument(0))
+                .movieId(invocation.getArgument(1))
+                .addedAt(invocation.getArgument(2))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.importExecutor.shutdownNow();
+    }
+
+    @Test
+    void givenImportLargerThanOneChunkWhenStartShouldImportEveryChunk() throws Exception {
+
+        Mockito.when(this.importHandler.append(eq(1L), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        ListImportJobDTO importJob = this.listImporter.start(1L, this.toInputStream(IntStream.rangeClosed(1, 750)), this.importHandler);
+
+        ListImportJobDTO testGetJob = this.awaitJob(importJob.getJobId());
+
+        assertEquals(ListImportJobStatus.COMPLETED, testGetJob.getStatus());
+        assertEquals(750, testGetJob.getTotal());
+        assertEquals(750, testGetJob.getProcessed());
+        assertEquals(750, testGetJob.getImported());
+        Mockito.verify(this.importHandler, Mockito.times(2)).append(eq(1L), anyList());
+    }
+
+    @Test
+    void givenChunkConflictingWithConcurrentAddWhenStartShouldImportRowByRowAndCountOnlyFailedRows() throws Exception {
+
+        Mockito.when(this.importHandler.append(eq(1L), anyList())).thenAnswer(invocation -> {
+            List<MovieListItem> movieListItems = invocation.getArgument(1);
+            if (movieListItems.size() > 1 || movieListItems.get(0).getMovieId().equals(2L)) {
+                throw new DataIntegrityViolationException("Duplicate");
+            }
+            return movieListItems;
+        });
+
+        ListImportJobDTO importJob = this.listImporter.start(1L, this.toInputStream(IntStream.rangeClosed(1, 3)), this.importHandler);
+
+        ListImportJobDTO testGetJob = this.awaitJob(importJob.getJobId());
+
+        assertEquals(ListImportJobStatus.COMPLETED, testGetJob.getStatus());
+        assertEquals(3, testGetJob.getProcessed());
+        assertEquals(2, testGetJob.getImported());
+        assertEquals(0, testGetJob.getSkipped());
+        assertEquals(1, testGetJob.getFailed());
+        Mockito.verify(this.importHandler, Mockito.times(4)).append(eq(1L), anyList());
+    }
+
+    @Test
+    void givenInvalidLineAfterFirstChunkWhenStartShouldThrowBadRequestAndFailJob() throws Exception {
+
+        Mockito.when(this.importHandler.append(eq(1L), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        String content = IntStream.rangeClosed(1, 500).mapToObj(String::valueOf).collect(Collectors.joining("\n")) + "\ninvalid\n";
+
+        assertThrows(
+                CustomBadRequestException.class,
+                () -> this.listImporter.start(1L, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), this.importHandler)
+        );
+        Mockito.verify(this.importHandler, Mockito.timeout(5000)).append(eq(1L), anyList());
+    }
+
+    @Test
+    void givenImportLargerThanMaxSizeWhenStartShouldThrowBadRequestException() {
+
+        Mockito.when(this.importHandler.append(eq(1L), anyList())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        assertThrows(
+                CustomBadRequestException.class,
+                () -> this.listImporter.start(1L, this.toInputStream(IntStream.rangeClosed(1, 10001)), this.importHandler)
+        );
+    }
+
+    @Test
+    void givenEmptyImportWhenStartShouldThrowBadRequestWithoutStartingJob() {
+
+        assertThrows(
+                CustomBadRequestException.class,
+                () -> this.listImporter.start(1L, this.toInputStream(IntStream.empty()), this.importHandler)
+        );
+        Mockito.verify(this.importHandler, Mockito.never()).getMediaIdsInList(anyLong());
+    }
+
+    @Test
+    void givenAllImportWorkersBusyWhenStartShouldThrowTooManyRequestsException() {
+
+        ListImporter saturatedListImporter = new ListImporter(
+                new ListImportJobRegistry(Duration.ofHours(1)),
+                runnable -> {
+                    throw new RejectedExecutionException();
+                }
+        );
+
+        assertThrows(
+                TooManyRequestsException.class,
+                () -> saturatedListImporter.start(1L, this.toInputStream(IntStream.rangeClosed(1, 3)), this.importHandler)
+        );
+        Mockito.verify(this.importHandler, Mockito.never()).getMediaIdsInList(anyLong());
+    }
+
+    private ListImportJobDTO awaitJob(String jobId) throws CustomNotFoundException, InterruptedException {
+
+        ListImportJobDTO importJob = this.listImporter.getJob(1L, jobId);
+
+        for (int attempt = 0; attempt < 100 && Boolean.FALSE.equals(this.isFinished(importJob)); attempt++) {
+            Thread.sleep(50);
+            importJob = this.listImporter.getJob(1L, jobId);
+        }
+
+        return importJob;
+    }
+
+    private Boolean isFinished(ListImportJobDTO importJob) {
+        return ListImportJobStatus.COMPLETED.equals(importJob.getStatus()) || ListImportJobStatus.FAILED.equals(importJob.getStatus());
+    }
+
+    private InputStream toInputStream(IntStream mediaIds) {
+        return new ByteArrayInputStream(mediaIds
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining("\n"))
+                .getBytes(StandardCharsets.UTF_8));
+    }
+}
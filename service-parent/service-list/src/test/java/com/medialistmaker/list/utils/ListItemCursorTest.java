@@ -0,0 +1,73 @@
+package com.medialistmaker.list.utils;
+
+import com.medialistmaker.list.exception.badrequestexception.CustomBadRequestException;
+import com.medialistmaker.list.repository.MovieListItemRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListItemCursorTest {
+
+    ListItemCursor listItemCursor = new ListItemCursor();
+
+    @Test
+    void givenSortingOrderAndIdWhenEncodeAndDecodeShouldReturnSamePosition() throws Exception {
+
+        String cursor = this.listItemCursor.encode(42, 7L);
+
+        assertEquals(cursor, this.listItemCursor.encode(42, 7L));
+        assertEquals(new ListItemPosition(42, 7L), this.listItemCursor.decode(cursor));
+    }
+
+    @Test
+    void givenNoCursorWhenDecodeShouldReturnNull() throws Exception {
+
+        assertNull(this.listItemCursor.decode(null));
+        assertNull(this.listItemCursor.decode(""));
+    }
+
+    @Test
+    void givenInvalidCursorWhenDecodeShouldThrowBadRequestException() {
+
+        assertThrows(CustomBadRequestException.class, () -> this.listItemCursor.decode("not a cursor"));
+        assertThrows(CustomBadRequestException.class, () -> this.listItemCursor.decode("NDI"));
+        assertThrows(CustomBadRequestException.class, () -> this.listItemCursor.decode("c286YWJj"));
+        assertThrows(CustomBadRequestException.class, () -> this.listItemCursor.decode("c286NDI"));
+    }
+
+    @Test
+    void givenNoCursorWhenResolveShouldReturnStartOfList() throws Exception {
+
+        MovieListItemRepository movieListItemRepository = Mockito.mock(MovieListItemRepository.class);
+
+        assertEquals(ListItemPosition.START, this.listItemCursor.resolve(null, 1L, movieListItemRepository));
+        Mockito.verifyNoInteractions(movieListItemRepository);
+    }
+
+    @Test
+    void givenCursorOnMovedItemWhenResolveShouldReturnItemCurrentPosition() throws Exception {
+
+        MovieListItemRepository movieListItemRepository = Mockito.mock(MovieListItemRepository.class);
+
+        Mockito.when(movieListItemRepository.getSortingOrderByAppUserIdAndId(1L, 7L)).thenReturn(3);
+
+        assertEquals(
+                new ListItemPosition(3, 7L),
+                this.listItemCursor.resolve(this.listItemCursor.encode(4, 7L), 1L, movieListItemRepository)
+        );
+    }
+
+    @Test
+    void givenCursorOnDeletedItemWhenResolveShouldReturnPositionBeforeItsFormerSortingOrder() throws Exception {
+
+        MovieListItemRepository movieListItemRepository = Mockito.mock(MovieListItemRepository.class);
+
+        Mockito.when(movieListItemRepository.getSortingOrderByAppUserIdAndId(1L, 7L)).thenReturn(null);
+
+        assertEquals(
+                new ListItemPosition(3, Long.MAX_VALUE),
+                this.listItemCursor.resolve(this.listItemCursor.encode(4, 7L), 1L, movieListItemRepository)
+        );
+    }
+}
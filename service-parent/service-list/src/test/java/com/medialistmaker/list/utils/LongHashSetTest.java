@@ -0,0 +1,39 @@
+package com.medialistmaker.list.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongHashSetTest {
+
+    @Test
+    void givenValuesWhenAddShouldOnlyAddEachValueOnce() {
+
+        LongHashSet longHashSet = new LongHashSet(4);
+
+        assertTrue(longHashSet.add(1L));
+        assertTrue(longHashSet.add(0L));
+        assertTrue(longHashSet.add(-1L));
+        assertFalse(longHashSet.add(1L));
+        assertFalse(longHashSet.add(0L));
+
+        assertEquals(3, longHashSet.size());
+        assertTrue(longHashSet.contains(0L));
+        assertTrue(longHashSet.contains(-1L));
+        assertFalse(longHashSet.contains(2L));
+    }
+
+    @Test
+    void givenMoreValuesThanExpectedSizeWhenAddShouldGrowAndKeepAllValues() {
+
+        LongHashSet longHashSet = new LongHashSet(1);
+
+        LongStream.rangeClosed(1, 10000).forEach(value -> longHashSet.add(value * 1024));
+
+        assertEquals(10000, longHashSet.size());
+        assertTrue(LongStream.rangeClosed(1, 10000).allMatch(value -> longHashSet.contains(value * 1024)));
+        assertFalse(longHashSet.contains(1023L));
+    }
+}
@@ -0,0 +1,41 @@
+package com.medialistmaker.list.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenDenyListTest {
+
+    @Test
+    void givenEmptyDenyListWhenIsDeniedShouldReturnFalse() {
+
+        TokenDenyList tokenDenyList = new TokenDenyList(new String[0], new String[0]);
+
+        assertFalse(tokenDenyList.isDenied(this.getTokenClaims("tokenId", "1")));
+    }
+
+    @Test
+    void givenDeniedTokenIdWhenIsDeniedShouldReturnTrue() {
+
+        TokenDenyList tokenDenyList = new TokenDenyList(new String[]{"tokenId"}, new String[0]);
+
+        assertTrue(tokenDenyList.isDenied(this.getTokenClaims("tokenId", "1")));
+        assertFalse(tokenDenyList.isDenied(this.getTokenClaims("otherTokenId", "1")));
+        assertFalse(tokenDenyList.isDenied(this.getTokenClaims(null, "1")));
+    }
+
+    @Test
+    void givenDeniedSubjectWhenIsDeniedShouldReturnTrue() {
+
+        TokenDenyList tokenDenyList = new TokenDenyList(new String[0], new String[]{"1"});
+
+        assertTrue(tokenDenyList.isDenied(this.getTokenClaims("tokenId", "1")));
+        assertFalse(tokenDenyList.isDenied(this.getTokenClaims("tokenId", "2")));
+    }
+
+    private TokenClaims getTokenClaims(String tokenId, String subject) {
+        return new TokenClaims(tokenId, subject, "username", Instant.now().plusSeconds(60), Instant.now());
+    }
+}
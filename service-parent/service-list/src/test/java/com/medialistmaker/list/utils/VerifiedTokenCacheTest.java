@@ -0,0 +1,67 @@
+package com.medialistmaker.list.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void beforeAllTests() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.verifiedTokenCache = new VerifiedTokenCache(this.meterRegistry, 100L);
+    }
+
+    @Test
+    void givenVerifiedTokenWhenGetIfPresentShouldReturnCachedTokenClaims() {
+
+        TokenClaims tokenClaims = this.getTokenClaims(Instant.now().plusSeconds(60));
+
+        this.verifiedTokenCache.put("token", tokenClaims);
+
+        assertEquals(tokenClaims, this.verifiedTokenCache.getIfPresent("token"));
+        assertNull(this.verifiedTokenCache.getIfPresent("otherToken"));
+    }
+
+    @Test
+    void givenExpiredTokenWhenPutShouldNotCacheIt() {
+
+        this.verifiedTokenCache.put("token", this.getTokenClaims(Instant.now().minusSeconds(1)));
+
+        assertNull(this.verifiedTokenCache.getIfPresent("token"));
+    }
+
+    @Test
+    void givenTokenAboutToExpireWhenGetIfPresentAfterExpirationShouldReturnNull() throws Exception {
+
+        this.verifiedTokenCache.put("token", this.getTokenClaims(Instant.now().plusMillis(50)));
+
+        Thread.sleep(100);
+
+        assertNull(this.verifiedTokenCache.getIfPresent("token"));
+    }
+
+    @Test
+    void givenLookupsWhenGetIfPresentShouldRecordHitsAndMisses() {
+
+        this.verifiedTokenCache.put("token", this.getTokenClaims(Instant.now().plusSeconds(60)));
+
+        this.verifiedTokenCache.getIfPresent("token");
+        this.verifiedTokenCache.getIfPresent("otherToken");
+
+        assertEquals(1D, this.meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1D, this.meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    private TokenClaims getTokenClaims(Instant expiresAt) {
+        return new TokenClaims("tokenId", "1", "username", expiresAt, Instant.now());
+    }
+}
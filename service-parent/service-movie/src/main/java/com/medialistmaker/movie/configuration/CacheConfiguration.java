@@ -0,0 +1,35 @@
+package com.medialistmaker.movie.configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    public static final String OMDB_MOVIE_CACHE = "omdbMovies";
+
+    public static final String OMDB_SEARCH_CACHE = "omdbSearches";
+
+    @Value("${cache.omdb.movies.spec:maximumSize=10000,expireAfterWrite=24h,recordStats}")
+    private String omdbMovieCacheSpec;
+
+    @Value("${cache.omdb.searches.spec:maximumSize=2000,expireAfterWrite=1h,recordStats}")
+    private String omdbSearchCacheSpec;
+
+    @Bean
+    public CacheManager cacheManager() {
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+
+        cacheManager.registerCustomCache(OMDB_MOVIE_CACHE, Caffeine.from(this.omdbMovieCacheSpec).build());
+        cacheManager.registerCustomCache(OMDB_SEARCH_CACHE, Caffeine.from(this.omdbSearchCacheSpec).build());
+
+        return cacheManager;
+    }
+}
@@ -0,0 +1,23 @@
+package com.medialistmaker.movie.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class ExecutorConfiguration {
+
+    public static final String OMDB_EXECUTOR = "omdbExecutor";
+
+    @Value("${omdb.batch.parallelism:8}")
+    private Integer omdbParallelism;
+
+    @Bean(name = OMDB_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService omdbExecutor() {
+        return Executors.newFixedThreadPool(this.omdbParallelism, new CustomizableThreadFactory("omdb-batch-"));
+    }
+}
@@ -1,10 +1,12 @@
 package com.medialistmaker.movie.connector.omdb;
 
+import com.medialistmaker.movie.configuration.CacheConfiguration;
 import com.medialistmaker.movie.dto.externalapi.omdbapi.collection.MovieElementListDTO;
 import com.medialistmaker.movie.dto.externalapi.omdbapi.item.MovieElementDTO;
 import com.medialistmaker.movie.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.movie.exception.servicenotavailableexception.ServiceNotAvailableException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -21,10 +23,13 @@ public class OmdbConnectorProxy {
         this.omdbConnector = omdbConnector;
     }
 
+    //OMDb answers unknown codes and empty searches with a 200 and "Response":"False", which must not be cached
+    @Cacheable(value = CacheConfiguration.OMDB_MOVIE_CACHE, unless = "#result == null || 'False'.equals(#result.response)")
     public MovieElementDTO getByApiCode(String apiCode) throws CustomBadRequestException, ServiceNotAvailableException {
         return this.omdbConnector.getMovieByApiCode(apiCode, omdbApiKey, "full");
     }
 
+    @Cacheable(value = CacheConfiguration.OMDB_SEARCH_CACHE, unless = "#result == null || 'False'.equals(#result.response)")
     public MovieElementListDTO getByQuery(String query, String year, Integer page) throws CustomBadRequestException, ServiceNotAvailableException {
         return this.omdbConnector.getMoviesByQuery(query, omdbApiKey, "movie", year, page);
     }
@@ -1,5 +1,8 @@
 package com.medialistmaker.movie.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medialistmaker.movie.domain.Movie;
 import com.medialistmaker.movie.dto.MovieAddDTO;
 import com.medialistmaker.movie.dto.MovieDTO;
 import com.medialistmaker.movie.exception.badrequestexception.CustomBadRequestException;
@@ -8,9 +11,12 @@ import com.medialistmaker.movie.exception.servicenotavailableexception.ServiceNo
 import com.medialistmaker.movie.service.movie.MovieServiceImpl;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.Iterator;
 import java.util.List;
 
 @RestController
@@ -21,12 +27,16 @@ public class MovieController {
 
     private final MovieServiceImpl movieService;
 
+    private final ObjectMapper objectMapper;
+
     public MovieController(
             ModelMapper modelMapper,
-            MovieServiceImpl movieService
+            MovieServiceImpl movieService,
+            ObjectMapper objectMapper
     ) {
         this.modelMapper = modelMapper;
         this.movieService = movieService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
@@ -41,6 +51,26 @@ public class MovieController {
         );
     }
 
+    @PostMapping(value = "/browse", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamByIds(@RequestBody List<Long> movieIds) {
+
+        StreamingResponseBody movieList = outputStream -> {
+            try (JsonGenerator jsonGenerator = this.objectMapper.getFactory().createGenerator(outputStream)) {
+                jsonGenerator.writeStartArray();
+
+                Iterator<Movie> movies = this.movieService.streamByIds(movieIds).iterator();
+
+                while (movies.hasNext()) {
+                    jsonGenerator.writeObject(this.modelMapper.map(movies.next(), MovieDTO.class));
+                }
+
+                jsonGenerator.writeEndArray();
+            }
+        };
+
+        return new ResponseEntity<>(movieList, HttpStatus.OK);
+    }
+
     @PostMapping
     public ResponseEntity<MovieDTO> addFromApiCode(@RequestBody MovieAddDTO movieAddDTO)
             throws CustomBadRequestException, ServiceNotAvailableException {
@@ -52,6 +82,19 @@ public class MovieController {
 
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<MovieDTO>> addFromApiCodes(@RequestBody List<String> apiCodes)
+            throws ServiceNotAvailableException {
+
+        return new ResponseEntity<>(
+                this.movieService.addByApiCodes(apiCodes)
+                        .stream()
+                        .map(movie -> this.modelMapper.map(movie, MovieDTO.class))
+                        .toList(),
+                HttpStatus.CREATED
+        );
+    }
+
     @GetMapping("/apicodes/{apicode}")
     public ResponseEntity<MovieDTO> readByApiCode(@PathVariable("apicode") String apiCode)
             throws CustomNotFoundException {
@@ -38,8 +38,12 @@ public class OmdbApiController {
 
         Integer page = nextIndex.equals(0) || nextIndex < OMDB_ELEMENT_PER_PAGE ? 1 : nextIndex / OMDB_ELEMENT_PER_PAGE;
 
-        MovieElementListDTO results = this.omdbConnectorProxy.getByQuery(movieName, year, page);
+        MovieElementListDTO queryResults = this.omdbConnectorProxy.getByQuery(movieName, year, page);
 
+        //Query results are cached and shared between requests, so the pagination is set on a copy
+        MovieElementListDTO results = new MovieElementListDTO();
+        results.setSearchResults(queryResults.getSearchResults());
+        results.setTotalResults(queryResults.getTotalResults());
         results.setCurrentIndex(index);
         results.setElementsPerPage(OMDB_ELEMENT_PER_PAGE);
 
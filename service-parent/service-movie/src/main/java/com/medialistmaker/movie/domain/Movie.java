@@ -18,7 +18,7 @@ public class Movie {
     }
 
     @Id
-    @SequenceGenerator(name = "movie_id_sequence", sequenceName = "movie_id_sequence")
+    @SequenceGenerator(name = "movie_id_sequence", sequenceName = "movie_id_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "movie_id_sequence")
     private Long id;
 
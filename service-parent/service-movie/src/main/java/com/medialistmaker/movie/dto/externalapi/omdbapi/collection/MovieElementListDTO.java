@@ -1,5 +1,6 @@
 package com.medialistmaker.movie.dto.externalapi.omdbapi.collection;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
@@ -16,6 +17,8 @@ public class MovieElementListDTO {
 
     protected Integer elementsPerPage;
 
+    private String response;
+
     @JsonProperty("searchResults")
     public List<MovieElementListItemDTO> getSearchResults() {
         return searchResults;
@@ -26,4 +29,14 @@ public class MovieElementListDTO {
         this.searchResults = searchResults;
     }
 
+    @JsonIgnore
+    public String getResponse() {
+        return response;
+    }
+
+    @JsonProperty("Response")
+    public void setResponse(String response) {
+        this.response = response;
+    }
+
 }
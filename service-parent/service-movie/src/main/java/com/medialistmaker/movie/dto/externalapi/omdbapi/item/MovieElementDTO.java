@@ -1,5 +1,6 @@
 package com.medialistmaker.movie.dto.externalapi.omdbapi.item;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
@@ -29,6 +30,8 @@ public class MovieElementDTO {
 
     private String pictureUrl;
 
+    private String response;
+
     @JsonProperty("apiCode")
     public String getApiCode() {
         return apiCode;
@@ -123,4 +126,14 @@ public class MovieElementDTO {
     public void setMainActors(String mainActors) {
         this.mainActors = mainActors;
     }
+
+    @JsonIgnore
+    public String getResponse() {
+        return response;
+    }
+
+    @JsonProperty("Response")
+    public void setResponse(String response) {
+        this.response = response;
+    }
 }
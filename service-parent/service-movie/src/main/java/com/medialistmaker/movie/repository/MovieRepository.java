@@ -6,13 +6,16 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface MovieRepository extends JpaRepository<Movie, Long> {
+public interface MovieRepository extends JpaRepository<Movie, Long>, MovieRepositoryCustom {
 
     Movie getByApiCode(String apiCode);
 
+    List<Movie> getByApiCodeIn(Collection<String> apiCodes);
+
     @Query("SELECT m FROM Movie m WHERE m.id IN(:movieIds)")
     List<Movie> getByIds(@Param("movieIds") List<Long> movieIds);
 }
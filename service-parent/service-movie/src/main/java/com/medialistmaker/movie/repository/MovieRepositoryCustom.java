@@ -0,0 +1,8 @@
+package com.medialistmaker.movie.repository;
+
+import com.medialistmaker.movie.domain.Movie;
+
+public interface MovieRepositoryCustom {
+
+    Movie insertIfAbsent(Movie movie);
+}
@@ -0,0 +1,46 @@
+package com.medialistmaker.movie.repository;
+
+import com.medialistmaker.movie.domain.Movie;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class MovieRepositoryCustomImpl implements MovieRepositoryCustom {
+
+    private static final String INSERT_IF_ABSENT_QUERY = "INSERT INTO movie (id, title, api_code, picture_url, released_at) " +
+            "VALUES (:id, :title, :apiCode, :pictureUrl, :releasedAt) " +
+            "ON CONFLICT (api_code) DO NOTHING RETURNING *";
+
+    private final EntityManager entityManager;
+
+    public MovieRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public Movie insertIfAbsent(Movie movie) {
+
+        //The id comes from the entity's own generator so native and Hibernate inserts share one pooled id range
+        SharedSessionContractImplementor session = this.entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator idGenerator = (IdentifierGenerator) session
+                .getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(Movie.class)
+                .getGenerator();
+
+        List<?> insertedMovies = this.entityManager
+                .createNativeQuery(INSERT_IF_ABSENT_QUERY, Movie.class)
+                .setParameter("id", idGenerator.generate(session, movie))
+                .setParameter("title", movie.getTitle())
+                .setParameter("apiCode", movie.getApiCode())
+                .setParameter("pictureUrl", movie.getPictureUrl())
+                .setParameter("releasedAt", movie.getReleasedAt())
+                .getResultList();
+
+        return insertedMovies.isEmpty() ? null : (Movie) insertedMovies.get(0);
+    }
+}
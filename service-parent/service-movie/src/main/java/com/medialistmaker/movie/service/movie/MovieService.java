@@ -6,17 +6,22 @@ import com.medialistmaker.movie.exception.notfoundexception.CustomNotFoundExcept
 import com.medialistmaker.movie.exception.servicenotavailableexception.ServiceNotAvailableException;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface MovieService {
 
     List<Movie> browseByIds(List<Long> movieIds);
 
+    Stream<Movie> streamByIds(List<Long> movieIds);
+
     Movie readById(Long movieId) throws CustomNotFoundException;
 
     Movie readByApiCode(String apiCode) throws CustomNotFoundException;
 
     Movie addByApiCode(String apiCode) throws CustomBadRequestException, ServiceNotAvailableException;
 
+    List<Movie> addByApiCodes(List<String> apiCodes) throws ServiceNotAvailableException;
+
     Movie deleteById(Long movieId) throws CustomNotFoundException;
 
 
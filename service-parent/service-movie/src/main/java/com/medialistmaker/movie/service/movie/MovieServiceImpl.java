@@ -1,5 +1,6 @@
 package com.medialistmaker.movie.service.movie;
 
+import com.medialistmaker.movie.configuration.ExecutorConfiguration;
 import com.medialistmaker.movie.connector.omdb.OmdbConnectorProxy;
 import com.medialistmaker.movie.domain.Movie;
 import com.medialistmaker.movie.dto.externalapi.omdbapi.item.MovieElementDTO;
@@ -8,13 +9,21 @@ import com.medialistmaker.movie.exception.notfoundexception.CustomNotFoundExcept
 import com.medialistmaker.movie.exception.servicenotavailableexception.ServiceNotAvailableException;
 import com.medialistmaker.movie.repository.MovieRepository;
 import com.medialistmaker.movie.utils.CustomEntityValidator;
+import com.medialistmaker.movie.utils.SortingUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -23,6 +32,8 @@ import static java.util.Objects.nonNull;
 @Slf4j
 public class MovieServiceImpl implements MovieService {
 
+    private static final Integer BROWSE_CHUNK_SIZE = 500;
+
     private final ModelMapper modelMapper;
 
     private final MovieRepository movieRepository;
@@ -31,25 +42,47 @@ public class MovieServiceImpl implements MovieService {
 
     private final CustomEntityValidator<Movie> movieValidator;
 
+    private final SortingUtils sortingUtils;
+
+    private final ExecutorService omdbExecutor;
+
     public MovieServiceImpl(
             ModelMapper modelMapper,
             MovieRepository movieRepository,
             OmdbConnectorProxy omdbConnectorProxy,
-            CustomEntityValidator<Movie> movieValidator
+            CustomEntityValidator<Movie> movieValidator,
+            SortingUtils sortingUtils,
+            @Qualifier(ExecutorConfiguration.OMDB_EXECUTOR) ExecutorService omdbExecutor
     ) {
         this.modelMapper = modelMapper;
         this.movieRepository = movieRepository;
         this.omdbConnectorProxy = omdbConnectorProxy;
         this.movieValidator = movieValidator;
+        this.sortingUtils = sortingUtils;
+        this.omdbExecutor = omdbExecutor;
     }
 
     @Override
     public List<Movie> browseByIds(List<Long> movieIds) {
         List<Movie> movieList =  this.movieRepository.getByIds(movieIds);
 
-        movieList.sort(Comparator.comparingInt(movie -> movieIds.indexOf(movie.getId())));
+        return this.sortingUtils.sortByIdOrder(movieList, movieIds, Movie::getId);
+    }
+
+    @Override
+    public Stream<Movie> streamByIds(List<Long> movieIds) {
+
+        List<Long> distinctMovieIds = new ArrayList<>(new LinkedHashSet<>(movieIds));
+
+        int chunkCount = (distinctMovieIds.size() + BROWSE_CHUNK_SIZE - 1) / BROWSE_CHUNK_SIZE;
 
-        return movieList;
+        return IntStream
+                .range(0, chunkCount)
+                .mapToObj(chunk -> distinctMovieIds.subList(
+                        chunk * BROWSE_CHUNK_SIZE,
+                        Math.min((chunk + 1) * BROWSE_CHUNK_SIZE, distinctMovieIds.size())
+                ))
+                .flatMap(chunkMovieIds -> this.browseByIds(chunkMovieIds).stream());
     }
 
     @Override
@@ -99,6 +132,103 @@ public class MovieServiceImpl implements MovieService {
         return this.add(movie);
     }
 
+    @Override
+    public List<Movie> addByApiCodes(List<String> apiCodes) throws ServiceNotAvailableException {
+
+        List<String> distinctApiCodes = new ArrayList<>(new LinkedHashSet<>(apiCodes));
+
+        Map<String, Movie> moviesByApiCode = this.movieRepository
+                .getByApiCodeIn(distinctApiCodes)
+                .stream()
+                .collect(Collectors.toMap(Movie::getApiCode, Function.identity(), (first, second) -> first, HashMap::new));
+
+        List<String> missingApiCodes = distinctApiCodes
+                .stream()
+                .filter(apiCode -> Boolean.FALSE.equals(moviesByApiCode.containsKey(apiCode)))
+                .toList();
+
+        List<Movie> moviesToAdd = new ArrayList<>();
+
+        for (Movie movie : this.fetchByApiCodes(missingApiCodes)) {
+
+            List<String> movieErrors = this.movieValidator.validateEntity(movie);
+
+            if (Boolean.FALSE.equals(movieErrors.isEmpty())) {
+                log.error("Movie with api code {} skipped: {}", movie.getApiCode(), movieErrors);
+                continue;
+            }
+
+            moviesToAdd.add(movie);
+        }
+
+        List<Movie> addedMovies;
+
+        try {
+            addedMovies = this.movieRepository.saveAll(moviesToAdd);
+        } catch (DataIntegrityViolationException e) {
+            log.info("Some movies were added concurrently, adding them one by one");
+            addedMovies = moviesToAdd.stream().map(this::addIfAbsent).toList();
+        }
+
+        addedMovies.forEach(movie -> moviesByApiCode.put(movie.getApiCode(), movie));
+
+        return distinctApiCodes
+                .stream()
+                .map(moviesByApiCode::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<Movie> fetchByApiCodes(List<String> apiCodes) throws ServiceNotAvailableException {
+
+        List<Future<MovieElementDTO>> fetchedMovies = apiCodes
+                .stream()
+                .map(apiCode -> this.omdbExecutor.submit(() -> this.omdbConnectorProxy.getByApiCode(apiCode)))
+                .toList();
+
+        List<Movie> movies = new ArrayList<>();
+
+        try {
+            for (int index = 0; index < fetchedMovies.size(); index++) {
+
+                MovieElementDTO movieElementDTO = this.getFetchedMovie(apiCodes.get(index), fetchedMovies.get(index));
+
+                if (nonNull(movieElementDTO)) {
+                    movies.add(this.modelMapper.map(movieElementDTO, Movie.class));
+                }
+            }
+        } catch (ServiceNotAvailableException e) {
+            fetchedMovies.forEach(fetchedMovie -> fetchedMovie.cancel(true));
+            throw e;
+        }
+
+        return movies;
+    }
+
+    private MovieElementDTO getFetchedMovie(String apiCode, Future<MovieElementDTO> fetchedMovie)
+            throws ServiceNotAvailableException {
+
+        try {
+            return fetchedMovie.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceNotAvailableException("Service not available");
+        } catch (ExecutionException e) {
+
+            if (e.getCause() instanceof CustomBadRequestException) {
+                log.error("Movie with api code {} skipped: {}", apiCode, e.getCause().getMessage());
+                return null;
+            }
+
+            if (e.getCause() instanceof ServiceNotAvailableException serviceNotAvailableException) {
+                throw serviceNotAvailableException;
+            }
+
+            log.error("Error on fetching movie with api code {}", apiCode, e.getCause());
+            throw new ServiceNotAvailableException("Service not available");
+        }
+    }
+
     private Movie add(Movie movie) throws CustomBadRequestException {
 
         List<String> movieErrors = this.movieValidator.validateEntity(movie);
@@ -108,7 +238,18 @@ public class MovieServiceImpl implements MovieService {
             throw new CustomBadRequestException("Bad request", movieErrors);
         }
 
-        return this.movieRepository.save(movie);
+        return this.addIfAbsent(movie);
+    }
+
+    private Movie addIfAbsent(Movie movie) {
+
+        Movie insertedMovie = this.movieRepository.insertIfAbsent(movie);
+
+        if (nonNull(insertedMovie)) {
+            return insertedMovie;
+        }
+
+        return this.movieRepository.getByApiCode(movie.getApiCode());
     }
 
     @Override
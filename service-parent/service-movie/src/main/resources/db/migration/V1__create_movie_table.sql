@@ -0,0 +1,11 @@
+CREATE SEQUENCE IF NOT EXISTS movie_id_sequence START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS movie
+(
+    id          BIGINT  NOT NULL,
+    title       VARCHAR(255),
+    api_code    VARCHAR(255),
+    picture_url VARCHAR(255),
+    released_at INTEGER NOT NULL,
+    CONSTRAINT movie_pkey PRIMARY KEY (id)
+);
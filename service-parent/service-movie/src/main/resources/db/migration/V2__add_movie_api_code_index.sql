@@ -0,0 +1,10 @@
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT api_code FROM movie GROUP BY api_code HAVING COUNT(*) > 1) THEN
+            RAISE EXCEPTION 'movie contains duplicated api codes, merge them and remap movie_list_item.movie_id in service-list before migrating';
+        END IF;
+    END
+$$;
+
+CREATE UNIQUE INDEX movie_api_code_key ON movie (api_code);
@@ -0,0 +1,86 @@
+package com.medialistmaker.movie.connector.omdb;
+
+import com.medialistmaker.movie.configuration.CacheConfiguration;
+import com.medialistmaker.movie.dto.externalapi.omdbapi.collection.MovieElementListDTO;
+import com.medialistmaker.movie.dto.externalapi.omdbapi.item.MovieElementDTO;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+@SpringJUnitConfig({CacheConfiguration.class, OmdbConnectorProxy.class})
+@TestPropertySource(properties = "omdb.apikey=test")
+class OmdbConnectorProxyCacheTest {
+
+    @Autowired
+    OmdbConnectorProxy omdbConnectorProxy;
+
+    @MockBean
+    OmdbConnector omdbConnector;
+
+    @Test
+    void givenSameApiCodeWhenGetByApiCodeTwiceShouldCallOmdbOnce() throws Exception {
+
+        MovieElementDTO movieElementDTO = new MovieElementDTO();
+        movieElementDTO.setApiCode("XXXX");
+
+        Mockito.when(this.omdbConnector.getMovieByApiCode(anyString(), anyString(), anyString())).thenReturn(movieElementDTO);
+
+        this.omdbConnectorProxy.getByApiCode("XXXX");
+        MovieElementDTO testGetByApiCode = this.omdbConnectorProxy.getByApiCode("XXXX");
+
+        Mockito.verify(this.omdbConnector, Mockito.times(1)).getMovieByApiCode("XXXX", "test", "full");
+        assertEquals(movieElementDTO, testGetByApiCode);
+    }
+
+    @Test
+    void givenDifferentPagesWhenGetByQueryShouldCallOmdbForEachPage() throws Exception {
+
+        Mockito
+                .when(this.omdbConnector.getMoviesByQuery(anyString(), anyString(), anyString(), any(), any()))
+                .thenReturn(new MovieElementListDTO());
+
+        this.omdbConnectorProxy.getByQuery("movie", null, 1);
+        this.omdbConnectorProxy.getByQuery("movie", null, 1);
+        this.omdbConnectorProxy.getByQuery("movie", null, 2);
+
+        Mockito.verify(this.omdbConnector, Mockito.times(1)).getMoviesByQuery("movie", "test", "movie", null, 1);
+        Mockito.verify(this.omdbConnector, Mockito.times(1)).getMoviesByQuery("movie", "test", "movie", null, 2);
+    }
+
+    @Test
+    void givenFalseOmdbResponseWhenGetByApiCodeTwiceShouldCallOmdbTwice() throws Exception {
+
+        MovieElementDTO movieElementDTO = new MovieElementDTO();
+        movieElementDTO.setResponse("False");
+
+        Mockito.when(this.omdbConnector.getMovieByApiCode(anyString(), anyString(), anyString())).thenReturn(movieElementDTO);
+
+        this.omdbConnectorProxy.getByApiCode("YYYY");
+        this.omdbConnectorProxy.getByApiCode("YYYY");
+
+        Mockito.verify(this.omdbConnector, Mockito.times(2)).getMovieByApiCode("YYYY", "test", "full");
+    }
+
+    @Test
+    void givenFalseOmdbResponseWhenGetByQueryTwiceShouldCallOmdbTwice() throws Exception {
+
+        MovieElementListDTO movieElementListDTO = new MovieElementListDTO();
+        movieElementListDTO.setResponse("False");
+
+        Mockito
+                .when(this.omdbConnector.getMoviesByQuery(anyString(), anyString(), anyString(), any(), any()))
+                .thenReturn(movieElementListDTO);
+
+        this.omdbConnectorProxy.getByQuery("unknown", null, 1);
+        this.omdbConnectorProxy.getByQuery("unknown", null, 1);
+
+        Mockito.verify(this.omdbConnector, Mockito.times(2)).getMoviesByQuery("unknown", "test", "movie", null, 1);
+    }
+}
@@ -17,16 +17,20 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(MovieController.class)
@@ -41,6 +45,43 @@ class MovieControllerTest {
     @MockBean
     MovieServiceImpl movieService;
 
+    @Test
+    void givenIdListWhenStreamByIdsShouldStreamRelatedMovieDTOListAndReturn200() throws Exception {
+
+        Movie firstMovie = Movie
+                .builder()
+                .id(1L)
+                .title("First movie")
+                .build();
+
+        Movie secondMovie = Movie
+                .builder()
+                .id(2L)
+                .title("Second movie")
+                .build();
+
+        Mockito.when(this.movieService.streamByIds(List.of(1L, 2L))).thenReturn(Stream.of(firstMovie, secondMovie));
+
+        MvcResult asyncResult = this.mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .post("/api/movies/browse")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[1,2]")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc
+                .perform(asyncDispatch(asyncResult))
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$", hasSize(2)),
+                        jsonPath("$[0].id", equalTo(1)),
+                        jsonPath("$[1].title", equalTo("Second movie"))
+                );
+    }
+
     @Test
     void givenIdListWhenBrowseByIdsShouldReturnRelatedMovieDTOListAndReturn200() throws Exception {
 
@@ -305,4 +346,26 @@ class MovieControllerTest {
                 );
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenApiCodesWhenAddByApiCodesShouldSaveAndReturnRelatedMoviesAndReturn201() throws Exception {
+
+        Movie firstMovie = Movie.builder().id(1L).apiCode("0001").pictureUrl("test.com").releasedAt(1993).build();
+        Movie secondMovie = Movie.builder().id(2L).apiCode("0002").pictureUrl("test.com").releasedAt(1994).build();
+
+        Mockito.when(this.movieService.addByApiCodes(List.of("0001", "0002"))).thenReturn(List.of(firstMovie, secondMovie));
+
+        this.mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .post("/api/movies/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(new ObjectMapper().writeValueAsString(List.of("0001", "0002")))
+                )
+                .andDo(print())
+                .andExpectAll(
+                        status().isCreated(),
+                        jsonPath("$", hasSize(2)),
+                        jsonPath("$[1].apiCode", equalTo(secondMovie.getApiCode()))
+                );
+    }
+}
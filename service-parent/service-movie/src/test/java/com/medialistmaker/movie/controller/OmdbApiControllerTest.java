@@ -22,6 +22,7 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -82,6 +83,36 @@ class OmdbApiControllerTest {
                 );
     }
 
+    @Test
+    void givenMovieNameWhenGetByMovieNameShouldNotChangeCachedMovieListAndReturn200() throws Exception {
+
+        MovieElementListDTO listDTO = new MovieElementListDTO();
+        listDTO.setTotalResults(0);
+        listDTO.setSearchResults(new ArrayList<>());
+
+        Mockito
+                .when(this.omdbConnectorProxy.getByQuery(anyString(), any() , anyInt()))
+                .thenReturn(listDTO);
+
+        this.mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .get(
+                                        "/api/movies/omdbapi"
+                                )
+                                .param("name", "test")
+                                .param("index", "20")
+                )
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.currentIndex", equalTo(20)),
+                        jsonPath("$.elementsPerPage", equalTo(10))
+                );
+
+        assertNull(listDTO.getCurrentIndex());
+        assertNull(listDTO.getElementsPerPage());
+    }
+
     @Test
     void givenMovieNameWhenGetByMovieNameAndApiNotAvailableShouldReturn400() throws Exception {
 
@@ -74,4 +74,69 @@ class MovieRepositoryTest {
         assertEquals(2, testGetByIdList.size());
         assertTrue(testGetByIdList.containsAll(List.of(firstMovie, secondMovie)));
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenNewApiCodeWhenInsertIfAbsentShouldInsertAndReturnMovie() {
+
+        Movie movie = Movie
+                .builder()
+                .apiCode("Api code 1")
+                .title("Movie 1")
+                .releasedAt(2020)
+                .pictureUrl("http://test.com")
+                .build();
+
+        Movie testInsertIfAbsent = this.movieRepository.insertIfAbsent(movie);
+
+        assertNotNull(testInsertIfAbsent);
+        assertNotNull(testInsertIfAbsent.getId());
+        assertEquals("Api code 1", testInsertIfAbsent.getApiCode());
+        assertEquals(testInsertIfAbsent, this.movieRepository.getByApiCode("Api code 1"));
+    }
+
+    @Test
+    void givenExistingApiCodeWhenInsertIfAbsentShouldNotInsertAndReturnNull() {
+
+        Movie movie = Movie
+                .builder()
+                .apiCode("Api code 1")
+                .title("Movie 1")
+                .releasedAt(2020)
+                .pictureUrl("http://test.com")
+                .build();
+
+        this.movieRepository.saveAndFlush(movie);
+
+        Movie sameMovie = Movie
+                .builder()
+                .apiCode("Api code 1")
+                .title("Movie 1 again")
+                .releasedAt(2020)
+                .pictureUrl("http://test.com")
+                .build();
+
+        assertNull(this.movieRepository.insertIfAbsent(sameMovie));
+        assertEquals(1, this.movieRepository.getByApiCodeIn(List.of("Api code 1")).size());
+    }
+
+    @Test
+    void givenSeveralMoviesWhenInsertIfAbsentAndSaveShouldShareOnePooledIdRange() {
+
+        Movie firstMovie = this.movieRepository.insertIfAbsent(this.createMovie("Api code 1"));
+        Movie secondMovie = this.movieRepository.insertIfAbsent(this.createMovie("Api code 2"));
+        Movie thirdMovie = this.movieRepository.saveAndFlush(this.createMovie("Api code 3"));
+
+        assertEquals(firstMovie.getId() + 1, secondMovie.getId());
+        assertEquals(secondMovie.getId() + 1, thirdMovie.getId());
+    }
+
+    private Movie createMovie(String apiCode) {
+        return Movie
+                .builder()
+                .apiCode(apiCode)
+                .title("Movie")
+                .releasedAt(2020)
+                .pictureUrl("http://test.com")
+                .build();
+    }
+}
@@ -8,6 +8,7 @@ import com.medialistmaker.movie.exception.notfoundexception.CustomNotFoundExcept
 import com.medialistmaker.movie.exception.servicenotavailableexception.ServiceNotAvailableException;
 import com.medialistmaker.movie.repository.MovieRepository;
 import com.medialistmaker.movie.utils.CustomEntityValidator;
+import com.medialistmaker.movie.utils.SortingUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -16,10 +17,16 @@ import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -39,9 +46,44 @@ class MovieServiceImplTest {
     @Spy
     ModelMapper modelMapper;
 
+    @Spy
+    SortingUtils sortingUtils;
+
+    @Spy
+    ExecutorService omdbExecutor = Executors.newFixedThreadPool(2);
+
     @InjectMocks
     MovieServiceImpl movieService;
 
+    @Test
+    void givenLargeIdListWhenStreamByIdsShouldQueryByChunksAndReturnDistinctMoviesInRequestedOrder() {
+
+        List<Long> movieIds = new ArrayList<>(LongStream.rangeClosed(1, 1200).boxed().toList());
+        movieIds.add(1L);
+
+        Mockito.when(this.movieRepository.getByIds(anyList())).thenAnswer(invocation -> {
+            List<Long> chunkMovieIds = invocation.getArgument(0);
+            return chunkMovieIds.stream().map(id -> Movie.builder().id(id).build()).toList();
+        });
+
+        List<Movie> testStreamByIds = this.movieService.streamByIds(movieIds).toList();
+
+        Mockito.verify(this.movieRepository).getByIds(LongStream.rangeClosed(1, 500).boxed().toList());
+        Mockito.verify(this.movieRepository).getByIds(LongStream.rangeClosed(501, 1000).boxed().toList());
+        Mockito.verify(this.movieRepository).getByIds(LongStream.rangeClosed(1001, 1200).boxed().toList());
+        assertEquals(1200, testStreamByIds.size());
+        assertEquals(1L, testStreamByIds.get(0).getId());
+        assertEquals(1200L, testStreamByIds.get(1199).getId());
+    }
+
+    @Test
+    void givenIdListWhenStreamByIdsShouldNotQueryBeforeConsumption() {
+
+        this.movieService.streamByIds(List.of(1L, 2L));
+
+        Mockito.verify(this.movieRepository, Mockito.never()).getByIds(anyList());
+    }
+
     @Test
     void givenIdListWhenBrowseByIdsShouldReturnRelatedMovieList() {
 
@@ -185,13 +227,13 @@ class MovieServiceImplTest {
         Mockito.when(this.movieRepository.getByApiCode(anyString())).thenReturn(null);
         Mockito.when(this.connectorProxy.getByApiCode(anyString())).thenReturn(elementDTO);
         Mockito.when(this.movieEntityValidator.validateEntity(any())).thenReturn(new ArrayList<>());
-        Mockito.when(this.movieRepository.save(any())).thenReturn(movie);
+        Mockito.when(this.movieRepository.insertIfAbsent(any())).thenReturn(movie);
 
         Movie testAddByApiCode = this.movieService.addByApiCode("test");
 
         Mockito.verify(this.movieRepository).getByApiCode(anyString());
         Mockito.verify(this.connectorProxy).getByApiCode(anyString());
-        Mockito.verify(this.movieRepository).save(any());
+        Mockito.verify(this.movieRepository).insertIfAbsent(any());
         assertNotNull(testAddByApiCode);
         assertEquals(elementDTO.getApiCode(), testAddByApiCode.getApiCode());
 
@@ -235,4 +277,129 @@ class MovieServiceImplTest {
         assertEquals(movie.getApiCode(), testAddByApiCode.getApiCode());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenApiCodesWhenAddByApiCodesShouldFetchOnlyMissingMoviesAndSaveThemAtOnce() throws Exception {
+
+        Movie existingMovie = Movie.builder().id(1L).apiCode("0001").pictureUrl("test.com").releasedAt(1993).build();
+
+        MovieElementDTO elementDTO = new MovieElementDTO();
+        elementDTO.setTitle("Movie title");
+        elementDTO.setApiCode("0002");
+        elementDTO.setPictureUrl("www.picture.com");
+
+        Mockito.when(this.movieRepository.getByApiCodeIn(List.of("0002", "0001"))).thenReturn(List.of(existingMovie));
+        Mockito.when(this.connectorProxy.getByApiCode("0002")).thenReturn(elementDTO);
+        Mockito.when(this.movieEntityValidator.validateEntity(any())).thenReturn(new ArrayList<>());
+        Mockito.when(this.movieRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Movie> testAddByApiCodes = this.movieService.addByApiCodes(List.of("0002", "0001", "0002"));
+
+        Mockito.verify(this.connectorProxy, Mockito.never()).getByApiCode("0001");
+        Mockito.verify(this.movieRepository, Mockito.never()).getByApiCode(anyString());
+        Mockito.verify(this.movieRepository, Mockito.never()).save(any());
+        assertEquals(2, testAddByApiCodes.size());
+        assertEquals("0002", testAddByApiCodes.get(0).getApiCode());
+        assertEquals(existingMovie, testAddByApiCodes.get(1));
+    }
+
+    @Test
+    void givenApiCodesWhenAddByApiCodesShouldFetchMissingMoviesConcurrently() throws Exception {
+
+        CountDownLatch bothFetchesStarted = new CountDownLatch(2);
+
+        Mockito.when(this.movieRepository.getByApiCodeIn(anyList())).thenReturn(new ArrayList<>());
+        Mockito.when(this.connectorProxy.getByApiCode(anyString())).thenAnswer(invocation -> {
+            bothFetchesStarted.countDown();
+
+            if (Boolean.FALSE.equals(bothFetchesStarted.await(5, TimeUnit.SECONDS))) {
+                return null;
+            }
+
+            MovieElementDTO elementDTO = new MovieElementDTO();
+            elementDTO.setApiCode(invocation.getArgument(0));
+            return elementDTO;
+        });
+        Mockito.when(this.movieEntityValidator.validateEntity(any())).thenReturn(new ArrayList<>());
+        Mockito.when(this.movieRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Movie> testAddByApiCodes = this.movieService.addByApiCodes(List.of("0001", "0002"));
+
+        assertEquals(2, testAddByApiCodes.size());
+    }
+
+    @Test
+    void givenApiCodesWithInvalidOneWhenAddByApiCodesShouldSkipInvalidMovie() throws Exception {
+
+        MovieElementDTO elementDTO = new MovieElementDTO();
+        elementDTO.setApiCode("0001");
+
+        Mockito.when(this.movieRepository.getByApiCodeIn(anyList())).thenReturn(new ArrayList<>());
+        Mockito.when(this.connectorProxy.getByApiCode("0001")).thenReturn(elementDTO);
+        Mockito.when(this.connectorProxy.getByApiCode("0002")).thenThrow(CustomBadRequestException.class);
+        Mockito.when(this.connectorProxy.getByApiCode("0003")).thenReturn(null);
+        Mockito.when(this.movieEntityValidator.validateEntity(any())).thenReturn(new ArrayList<>());
+        Mockito.when(this.movieRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Movie> testAddByApiCodes = this.movieService.addByApiCodes(List.of("0001", "0002", "0003"));
+
+        assertEquals(1, testAddByApiCodes.size());
+        assertEquals("0001", testAddByApiCodes.get(0).getApiCode());
+    }
+
+    @Test
+    void givenApiCodesWhenAddByApiCodesAndApiNotAvailableShouldThrowServiceNotAvailableException() throws Exception {
+
+        Mockito.when(this.movieRepository.getByApiCodeIn(anyList())).thenReturn(new ArrayList<>());
+        Mockito.when(this.connectorProxy.getByApiCode(anyString())).thenThrow(ServiceNotAvailableException.class);
+
+        assertThrows(ServiceNotAvailableException.class, () -> this.movieService.addByApiCodes(List.of("0001", "0002")));
+        Mockito.verify(this.movieRepository, Mockito.never()).saveAll(anyList());
+    }
+
+    @Test
+    void givenApiCodeAddedConcurrentlyWhenAddByApiCodeShouldReturnStoredMovie() throws Exception {
+
+        MovieElementDTO elementDTO = new MovieElementDTO();
+        elementDTO.setApiCode("0001");
+
+        Movie storedMovie = Movie.builder().id(1L).apiCode("0001").pictureUrl("test.com").releasedAt(1993).build();
+
+        Mockito.when(this.movieRepository.getByApiCode("0001")).thenReturn(null, storedMovie);
+        Mockito.when(this.connectorProxy.getByApiCode("0001")).thenReturn(elementDTO);
+        Mockito.when(this.movieEntityValidator.validateEntity(any())).thenReturn(new ArrayList<>());
+        Mockito.when(this.movieRepository.insertIfAbsent(any())).thenReturn(null);
+
+        Movie testAddByApiCode = this.movieService.addByApiCode("0001");
+
+        Mockito.verify(this.movieRepository).insertIfAbsent(any());
+        Mockito.verify(this.movieRepository, Mockito.times(2)).getByApiCode("0001");
+        assertEquals(storedMovie, testAddByApiCode);
+    }
+
+    @Test
+    void givenApiCodesAddedConcurrentlyWhenAddByApiCodesShouldInsertMissingMoviesOneByOne() throws Exception {
+
+        MovieElementDTO firstElementDTO = new MovieElementDTO();
+        firstElementDTO.setApiCode("0001");
+
+        MovieElementDTO secondElementDTO = new MovieElementDTO();
+        secondElementDTO.setApiCode("0002");
+
+        Movie firstMovie = Movie.builder().id(1L).apiCode("0001").build();
+        Movie storedSecondMovie = Movie.builder().id(2L).apiCode("0002").build();
+
+        Mockito.when(this.movieRepository.getByApiCodeIn(anyList())).thenReturn(new ArrayList<>());
+        Mockito.when(this.connectorProxy.getByApiCode("0001")).thenReturn(firstElementDTO);
+        Mockito.when(this.connectorProxy.getByApiCode("0002")).thenReturn(secondElementDTO);
+        Mockito.when(this.movieEntityValidator.validateEntity(any())).thenReturn(new ArrayList<>());
+        Mockito.when(this.movieRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("Duplicate key"));
+        Mockito.when(this.movieRepository.insertIfAbsent(any())).thenReturn(firstMovie, (Movie) null);
+        Mockito.when(this.movieRepository.getByApiCode("0002")).thenReturn(storedSecondMovie);
+
+        List<Movie> testAddByApiCodes = this.movieService.addByApiCodes(List.of("0001", "0002"));
+
+        Mockito.verify(this.movieRepository, Mockito.times(2)).insertIfAbsent(any());
+        assertEquals(List.of(firstMovie, storedSecondMovie), testAddByApiCodes);
+    }
+}
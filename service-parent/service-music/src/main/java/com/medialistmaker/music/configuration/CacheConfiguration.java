@@ -0,0 +1,61 @@
+package com.medialistmaker.music.configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+//DeezerAlbumConnectorProxy and DeezerSongConnectorProxy implement DeezerConnector but are injected by class,
+//so their cache proxies must be CGLIB subclasses rather than JDK interface proxies
+@EnableCaching(proxyTargetClass = true)
+public class CacheConfiguration {
+
+    public static final String DEEZER_ALBUM_CACHE = "deezerAlbums";
+
+    public static final String DEEZER_TRACKLIST_CACHE = "deezerTrackLists";
+
+    public static final String DEEZER_SONG_CACHE = "deezerSongs";
+
+    public static final String DEEZER_ARTIST_ALBUMS_CACHE = "deezerArtistAlbums";
+
+    public static final String DEEZER_ALBUM_SEARCH_CACHE = "deezerAlbumSearches";
+
+    public static final String DEEZER_SONG_SEARCH_CACHE = "deezerSongSearches";
+
+    @Value("${cache.deezer.albums.spec:maximumSize=10000,expireAfterWrite=24h,recordStats}")
+    private String deezerAlbumCacheSpec;
+
+    @Value("${cache.deezer.tracklists.spec:maximumSize=10000,expireAfterWrite=24h,recordStats}")
+    private String deezerTrackListCacheSpec;
+
+    @Value("${cache.deezer.songs.spec:maximumSize=20000,expireAfterWrite=24h,recordStats}")
+    private String deezerSongCacheSpec;
+
+    @Value("${cache.deezer.artist-albums.spec:maximumSize=5000,expireAfterWrite=6h,recordStats}")
+    private String deezerArtistAlbumsCacheSpec;
+
+    @Value("${cache.deezer.searches.spec:maximumSize=2000,expireAfterWrite=1h,recordStats}")
+    private String deezerSearchCacheSpec;
+
+    @Bean
+    public CacheManager cacheManager() {
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+
+        cacheManager.registerCustomCache(DEEZER_ALBUM_CACHE, Caffeine.from(this.deezerAlbumCacheSpec).build());
+        cacheManager.registerCustomCache(DEEZER_TRACKLIST_CACHE, Caffeine.from(this.deezerTrackListCacheSpec).build());
+        cacheManager.registerCustomCache(DEEZER_SONG_CACHE, Caffeine.from(this.deezerSongCacheSpec).build());
+        cacheManager.registerCustomCache(
+                DEEZER_ARTIST_ALBUMS_CACHE,
+                Caffeine.from(this.deezerArtistAlbumsCacheSpec).build()
+        );
+        cacheManager.registerCustomCache(DEEZER_ALBUM_SEARCH_CACHE, Caffeine.from(this.deezerSearchCacheSpec).build());
+        cacheManager.registerCustomCache(DEEZER_SONG_SEARCH_CACHE, Caffeine.from(this.deezerSearchCacheSpec).build());
+
+        return cacheManager;
+    }
+}
@@ -0,0 +1,23 @@
+package com.medialistmaker.music.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class ExecutorConfiguration {
+
+    public static final String DEEZER_EXECUTOR = "deezerExecutor";
+
+    @Value("${deezer.batch.parallelism:8}")
+    private Integer deezerParallelism;
+
+    @Bean(name = DEEZER_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService deezerExecutor() {
+        return Executors.newFixedThreadPool(this.deezerParallelism, new CustomizableThreadFactory("deezer-batch-"));
+    }
+}
@@ -1,10 +1,12 @@
 package com.medialistmaker.music.connector.deezer.album;
 
+import com.medialistmaker.music.configuration.CacheConfiguration;
 import com.medialistmaker.music.connector.deezer.DeezerConnector;
 import com.medialistmaker.music.dto.externalapi.deezerapi.AlbumElementDTO;
 import com.medialistmaker.music.dto.externalapi.deezerapi.TrackListDTO;
 import com.medialistmaker.music.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.music.exception.servicenotavailableexception.ServiceNotAvailableException;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.PathVariable;
 
@@ -19,6 +21,7 @@ public class DeezerAlbumConnectorProxy implements DeezerConnector<AlbumElementDT
         this.deezerAlbumConnector = deezerAlbumConnector;
     }
 
+    @Cacheable(value = CacheConfiguration.DEEZER_ALBUM_CACHE, sync = true)
     public AlbumElementDTO getByApiCode(String apiCode) throws CustomBadRequestException, ServiceNotAvailableException {
         return this.deezerAlbumConnector.getByApiCode(apiCode);
     }
@@ -1,7 +1,9 @@
 package com.medialistmaker.music.connector.deezer.artist;
 
+import com.medialistmaker.music.configuration.CacheConfiguration;
 import com.medialistmaker.music.dto.externalapi.deezerapi.AlbumListDTO;
 import com.medialistmaker.music.exception.badrequestexception.CustomBadRequestException;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -15,6 +17,7 @@ public class DeezerArtistConnectorProxy {
         this.deezerArtistConnector = deezerArtistConnector;
     }
 
+    @Cacheable(value = CacheConfiguration.DEEZER_ARTIST_ALBUMS_CACHE, sync = true)
     public AlbumListDTO getAlbumListByArtistId(Long artistId) throws CustomBadRequestException {
         return this.deezerArtistConnector.getAlbumListByArtistId(artistId);
     }
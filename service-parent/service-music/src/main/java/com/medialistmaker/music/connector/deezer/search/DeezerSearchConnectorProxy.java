@@ -1,8 +1,10 @@
 package com.medialistmaker.music.connector.deezer.search;
 
+import com.medialistmaker.music.configuration.CacheConfiguration;
 import com.medialistmaker.music.dto.externalapi.deezerapi.search.list.AlbumSearchListDTO;
 import com.medialistmaker.music.dto.externalapi.deezerapi.search.list.SongSearchListDTO;
 import com.medialistmaker.music.exception.badrequestexception.CustomBadRequestException;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -16,6 +18,7 @@ public class DeezerSearchConnectorProxy {
         this.deezerSearchConnector = deezerSearchConnector;
     }
 
+    @Cacheable(value = CacheConfiguration.DEEZER_ALBUM_SEARCH_CACHE, sync = true)
     public AlbumSearchListDTO getAlbumByQuery(String query, Integer index) throws CustomBadRequestException {
         return this.deezerSearchConnector.getAlbumByQuery(query, index);
     }
@@ -24,6 +27,7 @@ public class DeezerSearchConnectorProxy {
         return this.deezerSearchConnector.getAlbumByQuery(query, 0);
     }
 
+    @Cacheable(value = CacheConfiguration.DEEZER_SONG_SEARCH_CACHE, sync = true)
     public SongSearchListDTO getSongByQuery(String query) throws CustomBadRequestException {
         return this.deezerSearchConnector.getSongByQuery(query);
     }
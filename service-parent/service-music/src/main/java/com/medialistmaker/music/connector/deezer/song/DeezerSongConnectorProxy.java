@@ -1,9 +1,11 @@
 package com.medialistmaker.music.connector.deezer.song;
 
+import com.medialistmaker.music.configuration.CacheConfiguration;
 import com.medialistmaker.music.connector.deezer.DeezerConnector;
 import com.medialistmaker.music.dto.externalapi.deezerapi.SongElementDTO;
 import com.medialistmaker.music.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.music.exception.servicenotavailableexception.ServiceNotAvailableException;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -17,6 +19,7 @@ public class DeezerSongConnectorProxy implements DeezerConnector<SongElementDTO>
         this.deezerSongConnector = deezerSongConnector;
     }
 
+    @Cacheable(value = CacheConfiguration.DEEZER_SONG_CACHE, sync = true)
     public SongElementDTO getByApiCode(String apiCode) throws CustomBadRequestException, ServiceNotAvailableException {
         return this.deezerSongConnector.getByApiCode(apiCode);
     }
@@ -1,6 +1,10 @@
 package com.medialistmaker.music.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medialistmaker.music.domain.Music;
 import com.medialistmaker.music.dto.MusicAddDTO;
+import com.medialistmaker.music.dto.MusicBatchDTO;
 import com.medialistmaker.music.dto.MusicDTO;
 import com.medialistmaker.music.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.music.exception.notfoundexception.CustomNotFoundException;
@@ -8,9 +12,12 @@ import com.medialistmaker.music.exception.servicenotavailableexception.ServiceNo
 import com.medialistmaker.music.service.music.MusicServiceImpl;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.Iterator;
 import java.util.List;
 
 @RestController
@@ -21,12 +28,16 @@ public class MusicController {
 
     private final ModelMapper modelMapper;
 
+    private final ObjectMapper objectMapper;
+
     public MusicController(
             MusicServiceImpl musicService,
-            ModelMapper modelMapper
+            ModelMapper modelMapper,
+            ObjectMapper objectMapper
     ) {
         this.musicService = musicService;
         this.modelMapper = modelMapper;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
@@ -41,6 +52,26 @@ public class MusicController {
         );
     }
 
+    @PostMapping(value = "/browse", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamByIds(@RequestBody List<Long> musicIds) {
+
+        StreamingResponseBody musicList = outputStream -> {
+            try (JsonGenerator jsonGenerator = this.objectMapper.getFactory().createGenerator(outputStream)) {
+                jsonGenerator.writeStartArray();
+
+                Iterator<Music> musics = this.musicService.streamByIds(musicIds).iterator();
+
+                while (musics.hasNext()) {
+                    jsonGenerator.writeObject(this.modelMapper.map(musics.next(), MusicDTO.class));
+                }
+
+                jsonGenerator.writeEndArray();
+            }
+        };
+
+        return new ResponseEntity<>(musicList, HttpStatus.OK);
+    }
+
     @GetMapping("/types/{type}")
     public ResponseEntity<List<MusicDTO>> browseByType(@PathVariable("type") Integer type) {
 
@@ -89,6 +120,13 @@ public class MusicController {
 
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<MusicBatchDTO> addFromApiCodes(@RequestBody List<MusicAddDTO> musicAddDTOs)
+            throws ServiceNotAvailableException {
+
+        return new ResponseEntity<>(this.musicService.addByApiCodes(musicAddDTOs), HttpStatus.CREATED);
+    }
+
     @DeleteMapping("/{musicId}")
     public ResponseEntity<MusicDTO> deleteById(@PathVariable("musicId") Long musicId) throws CustomNotFoundException {
 
@@ -3,14 +3,13 @@ package com.medialistmaker.music.controller.deezerapi;
 import com.medialistmaker.music.connector.deezer.album.DeezerAlbumConnectorProxy;
 import com.medialistmaker.music.connector.deezer.search.DeezerSearchConnectorProxy;
 import com.medialistmaker.music.dto.externalapi.deezerapi.AlbumElementDTO;
-import com.medialistmaker.music.dto.externalapi.deezerapi.SongElementDTO;
 import com.medialistmaker.music.dto.externalapi.deezerapi.TrackListDTO;
 import com.medialistmaker.music.dto.externalapi.deezerapi.search.list.AlbumSearchListDTO;
 import com.medialistmaker.music.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.music.exception.notfoundexception.CustomNotFoundException;
 import com.medialistmaker.music.exception.servicenotavailableexception.ServiceNotAvailableException;
+import com.medialistmaker.music.service.tracklist.TrackListService;
 import com.medialistmaker.music.utils.DeezerParameterFormatter;
-import com.medialistmaker.music.utils.MathUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -28,19 +27,19 @@ public class AlbumController {
 
     private final DeezerAlbumConnectorProxy albumConnectorProxy;
 
-    private final MathUtils mathUtils;
+    private final TrackListService trackListService;
 
     private final DeezerParameterFormatter parameterFormatter;
 
     public AlbumController(
             DeezerSearchConnectorProxy albumSearchConnectorProxy,
             DeezerAlbumConnectorProxy albumConnectorProxy,
-            MathUtils mathUtils,
+            TrackListService trackListService,
             DeezerParameterFormatter parameterFormatter
     ) {
         this.albumSearchConnectorProxy = albumSearchConnectorProxy;
         this.albumConnectorProxy = albumConnectorProxy;
-        this.mathUtils = mathUtils;
+        this.trackListService = trackListService;
         this.parameterFormatter = parameterFormatter;
     }
 
@@ -57,9 +56,13 @@ public class AlbumController {
         params.put("artist", artist);
         params.put("label", label);
 
-        AlbumSearchListDTO searchListDTO = this.albumSearchConnectorProxy
+        AlbumSearchListDTO queryResults = this.albumSearchConnectorProxy
                 .getAlbumByQuery(this.parameterFormatter.formatParams(params), currentIndex);
 
+        //Query results are cached and shared between requests, so the pagination is set on a copy
+        AlbumSearchListDTO searchListDTO = new AlbumSearchListDTO();
+        searchListDTO.setSearchResults(queryResults.getSearchResults());
+        searchListDTO.setTotalResults(queryResults.getTotalResults());
         searchListDTO.setCurrentIndex(currentIndex);
 
         searchListDTO.setElementsPerPage(searchListDTO.getSearchResults().size());
@@ -89,17 +92,6 @@ public class AlbumController {
     public ResponseEntity<TrackListDTO> getTrackListByAlbumApiCode(@PathVariable("apicode") String apiCode)
             throws ServiceNotAvailableException, CustomBadRequestException {
 
-        TrackListDTO trackListDTO = this.albumConnectorProxy.getTrackListByAlbumApiCode(apiCode);
-
-        trackListDTO.getSongList().forEach(songElementDTO -> songElementDTO.setDuration(songElementDTO.getDuration() * 1000));
-
-        int totalSongDurationInSeconds = trackListDTO.getSongList().stream().mapToInt(SongElementDTO::getDuration).sum();
-
-        Integer averageAlbumPopularity = this.mathUtils.calculateAverageOfList(trackListDTO.getSongList().stream().mapToInt(SongElementDTO::getRank).toArray());
-
-        trackListDTO.setTotalDurationInEpochMilli((long) totalSongDurationInSeconds);
-        trackListDTO.setAlbumPopularityRate(((averageAlbumPopularity/1000000D) * 100));
-
-        return new ResponseEntity<>(trackListDTO, HttpStatus.OK);
+        return new ResponseEntity<>(this.trackListService.getByAlbumApiCode(apiCode), HttpStatus.OK);
     }
 }
@@ -1,7 +1,7 @@
 package com.medialistmaker.music.controller.deezerapi;
 
 import com.medialistmaker.music.connector.deezer.search.DeezerSearchConnectorProxy;
-import com.medialistmaker.music.connector.deezer.song.DeezerSongConnector;
+import com.medialistmaker.music.connector.deezer.song.DeezerSongConnectorProxy;
 import com.medialistmaker.music.dto.externalapi.deezerapi.SongElementDTO;
 import com.medialistmaker.music.dto.externalapi.deezerapi.search.list.SongSearchListDTO;
 import com.medialistmaker.music.exception.badrequestexception.CustomBadRequestException;
@@ -16,14 +16,14 @@ public class SongController {
 
     private final DeezerSearchConnectorProxy songConnectorProxy;
 
-    private final DeezerSongConnector deezerSongConnector;
+    private final DeezerSongConnectorProxy deezerSongConnectorProxy;
 
     public SongController(
             DeezerSearchConnectorProxy songConnectorProxy,
-            DeezerSongConnector deezerSongConnector
+            DeezerSongConnectorProxy deezerSongConnectorProxy
     ) {
         this.songConnectorProxy = songConnectorProxy;
-        this.deezerSongConnector = deezerSongConnector;
+        this.deezerSongConnectorProxy = deezerSongConnectorProxy;
     }
 
     @GetMapping
@@ -41,7 +41,7 @@ public class SongController {
     public ResponseEntity<SongElementDTO> getByApiCode(@PathVariable("apicode") String apiCode)
             throws CustomBadRequestException, ServiceNotAvailableException {
 
-        return new ResponseEntity<>(this.deezerSongConnector.getByApiCode(apiCode), HttpStatus.OK);
+        return new ResponseEntity<>(this.deezerSongConnectorProxy.getByApiCode(apiCode), HttpStatus.OK);
 
     }
 }
@@ -18,7 +18,7 @@ public class Music {
     }
 
     @Id
-    @SequenceGenerator(name = "music_id_sequence", sequenceName = "music_id_sequence")
+    @SequenceGenerator(name = "music_id_sequence", sequenceName = "music_id_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "music_id_sequence")
     private Long id;
 
@@ -0,0 +1,21 @@
+package com.medialistmaker.music.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class MusicBatchDTO {
+
+    public MusicBatchDTO() {
+        //Private constructor
+    }
+
+    private List<MusicDTO> musics;
+
+    private List<MusicBatchErrorDTO> errors;
+}
@@ -0,0 +1,25 @@
+package com.medialistmaker.music.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class MusicBatchErrorDTO {
+
+    public MusicBatchErrorDTO() {
+        //Private constructor
+    }
+
+    private String apiCode;
+
+    private Integer type;
+
+    private String message;
+
+    private List<String> errorList;
+}
@@ -6,10 +6,11 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface MusicRepository extends JpaRepository<Music, Long> {
+public interface MusicRepository extends JpaRepository<Music, Long>, MusicRepositoryCustom {
 
     List<Music> getByType(Integer type);
 
@@ -17,4 +18,6 @@ public interface MusicRepository extends JpaRepository<Music, Long> {
     List<Music> getByIds(@Param("musicIds") List<Long> musicIds);
 
     Music getByApiCodeAndType(String apiCode, Integer type);
+
+    List<Music> getByApiCodeIn(Collection<String> apiCodes);
 }
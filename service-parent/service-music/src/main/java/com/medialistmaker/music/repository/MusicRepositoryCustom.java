@@ -0,0 +1,8 @@
+package com.medialistmaker.music.repository;
+
+import com.medialistmaker.music.domain.Music;
+
+public interface MusicRepositoryCustom {
+
+    Music insertIfAbsent(Music music);
+}
@@ -0,0 +1,48 @@
+package com.medialistmaker.music.repository;
+
+import com.medialistmaker.music.domain.Music;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class MusicRepositoryCustomImpl implements MusicRepositoryCustom {
+
+    private static final String INSERT_IF_ABSENT_QUERY = "INSERT INTO music (id, title, artist_name, released_at, picture_url, api_code, type) " +
+            "VALUES (:id, :title, :artistName, :releasedAt, :pictureUrl, :apiCode, :type) " +
+            "ON CONFLICT (api_code, type) DO NOTHING RETURNING *";
+
+    private final EntityManager entityManager;
+
+    public MusicRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public Music insertIfAbsent(Music music) {
+
+        //The id comes from the entity's own generator so native and Hibernate inserts share one pooled id range
+        SharedSessionContractImplementor session = this.entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator idGenerator = (IdentifierGenerator) session
+                .getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(Music.class)
+                .getGenerator();
+
+        List<?> insertedMusics = this.entityManager
+                .createNativeQuery(INSERT_IF_ABSENT_QUERY, Music.class)
+                .setParameter("id", idGenerator.generate(session, music))
+                .setParameter("title", music.getTitle())
+                .setParameter("artistName", music.getArtistName())
+                .setParameter("releasedAt", music.getReleasedAt())
+                .setParameter("pictureUrl", music.getPictureUrl())
+                .setParameter("apiCode", music.getApiCode())
+                .setParameter("type", music.getType())
+                .getResultList();
+
+        return insertedMusics.isEmpty() ? null : (Music) insertedMusics.get(0);
+    }
+}
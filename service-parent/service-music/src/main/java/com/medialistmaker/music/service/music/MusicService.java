@@ -1,16 +1,21 @@
 package com.medialistmaker.music.service.music;
 
 import com.medialistmaker.music.domain.Music;
+import com.medialistmaker.music.dto.MusicAddDTO;
+import com.medialistmaker.music.dto.MusicBatchDTO;
 import com.medialistmaker.music.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.music.exception.notfoundexception.CustomNotFoundException;
 import com.medialistmaker.music.exception.servicenotavailableexception.ServiceNotAvailableException;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface MusicService {
 
     List<Music> browseByIds(List<Long> musicIds);
 
+    Stream<Music> streamByIds(List<Long> musicIds);
+
     List<Music> browseByType(Integer type);
 
     Music readById(Long musicId) throws CustomNotFoundException;
@@ -19,5 +24,7 @@ public interface MusicService {
 
     Music addByApiCode(Integer type, String apiCode) throws CustomBadRequestException, ServiceNotAvailableException;
 
+    MusicBatchDTO addByApiCodes(List<MusicAddDTO> musicAddDTOs) throws ServiceNotAvailableException;
+
     Music deleteById(Long id) throws CustomNotFoundException;
 }
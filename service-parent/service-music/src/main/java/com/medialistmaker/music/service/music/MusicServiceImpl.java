@@ -1,9 +1,14 @@
 package com.medialistmaker.music.service.music;
 
+import com.medialistmaker.music.configuration.ExecutorConfiguration;
 import com.medialistmaker.music.connector.deezer.DeezerConnectorElement;
 import com.medialistmaker.music.connector.deezer.album.DeezerAlbumConnectorProxy;
 import com.medialistmaker.music.connector.deezer.song.DeezerSongConnectorProxy;
 import com.medialistmaker.music.domain.Music;
+import com.medialistmaker.music.dto.MusicAddDTO;
+import com.medialistmaker.music.dto.MusicBatchDTO;
+import com.medialistmaker.music.dto.MusicBatchErrorDTO;
+import com.medialistmaker.music.dto.MusicDTO;
 import com.medialistmaker.music.dto.externalapi.deezerapi.MusicElementDTO;
 import com.medialistmaker.music.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.music.exception.notfoundexception.CustomNotFoundException;
@@ -11,13 +16,19 @@ import com.medialistmaker.music.exception.servicenotavailableexception.ServiceNo
 import com.medialistmaker.music.exception.unsupportedtypeexception.UnsupportedTypeException;
 import com.medialistmaker.music.repository.MusicRepository;
 import com.medialistmaker.music.utils.CustomEntityValidator;
+import com.medialistmaker.music.utils.SortingUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -26,6 +37,8 @@ import static java.util.Objects.nonNull;
 @Slf4j
 public class MusicServiceImpl implements MusicService {
 
+    private static final Integer BROWSE_CHUNK_SIZE = 500;
+
     private final MusicRepository musicRepository;
 
     private final ModelMapper modelMapper;
@@ -36,18 +49,26 @@ public class MusicServiceImpl implements MusicService {
 
     private final CustomEntityValidator<Music> musicEntityValidator;
 
+    private final SortingUtils sortingUtils;
+
+    private final ExecutorService deezerExecutor;
+
     public MusicServiceImpl(
             MusicRepository musicRepository,
             ModelMapper modelMapper,
             DeezerAlbumConnectorProxy deezerAlbumConnectorProxy,
             DeezerSongConnectorProxy deezerSongConnectorProxy,
-            CustomEntityValidator<Music> musicEntityValidator
+            CustomEntityValidator<Music> musicEntityValidator,
+            SortingUtils sortingUtils,
+            @Qualifier(ExecutorConfiguration.DEEZER_EXECUTOR) ExecutorService deezerExecutor
     ) {
         this.musicRepository = musicRepository;
         this.modelMapper = modelMapper;
         this.deezerAlbumConnectorProxy = deezerAlbumConnectorProxy;
         this.deezerSongConnectorProxy = deezerSongConnectorProxy;
         this.musicEntityValidator = musicEntityValidator;
+        this.sortingUtils = sortingUtils;
+        this.deezerExecutor = deezerExecutor;
     }
 
     @Override
@@ -55,9 +76,23 @@ public class MusicServiceImpl implements MusicService {
 
         List<Music> musicList = this.musicRepository.getByIds(musicIds);
 
-        musicList.sort(Comparator.comparingInt(music -> musicIds.indexOf(music.getId())));
+        return this.sortingUtils.sortByIdOrder(musicList, musicIds, Music::getId);
+    }
+
+    @Override
+    public Stream<Music> streamByIds(List<Long> musicIds) {
+
+        List<Long> distinctMusicIds = new ArrayList<>(new LinkedHashSet<>(musicIds));
 
-        return musicList;
+        int chunkCount = (distinctMusicIds.size() + BROWSE_CHUNK_SIZE - 1) / BROWSE_CHUNK_SIZE;
+
+        return IntStream
+                .range(0, chunkCount)
+                .mapToObj(chunk -> distinctMusicIds.subList(
+                        chunk * BROWSE_CHUNK_SIZE,
+                        Math.min((chunk + 1) * BROWSE_CHUNK_SIZE, distinctMusicIds.size())
+                ))
+                .flatMap(chunkMusicIds -> this.browseByIds(chunkMusicIds).stream());
     }
 
     @Override
@@ -115,12 +150,126 @@ public class MusicServiceImpl implements MusicService {
             throw new CustomBadRequestException("Music not exists");
         }
 
+        return this.add(this.toMusic(musicElementDTO, type));
+    }
+
+    @Override
+    public MusicBatchDTO addByApiCodes(List<MusicAddDTO> musicAddDTOs) throws ServiceNotAvailableException {
+
+        List<MusicAddDTO> distinctMusicAddDTOs = new ArrayList<>(new LinkedHashSet<>(musicAddDTOs));
+
+        Map<String, Music> musicsByKey = new HashMap<>();
+
+        this.musicRepository
+                .getByApiCodeIn(distinctMusicAddDTOs.stream().map(MusicAddDTO::getApiCode).toList())
+                .forEach(music -> musicsByKey.put(this.getMusicKey(music.getType(), music.getApiCode()), music));
+
+        List<MusicBatchErrorDTO> errors = new ArrayList<>();
+        Map<MusicAddDTO, Future<MusicElementDTO>> fetchedMusics = new LinkedHashMap<>();
+
+        for (MusicAddDTO musicAddDTO : distinctMusicAddDTOs) {
+
+            if (isNull(musicAddDTO.getType()) || isNull(musicAddDTO.getApiCode())) {
+                errors.add(this.createBatchError(musicAddDTO, "Type and api code are mandatory", new ArrayList<>()));
+                continue;
+            }
+
+            if (musicsByKey.containsKey(this.getMusicKey(musicAddDTO.getType(), musicAddDTO.getApiCode()))) {
+                continue;
+            }
+
+            try {
+                DeezerConnectorElement connector = this.getConnectorByType(musicAddDTO.getType());
+                fetchedMusics.put(
+                        musicAddDTO,
+                        this.deezerExecutor.submit(() -> connector.getByApiCode(musicAddDTO.getApiCode()))
+                );
+            } catch (UnsupportedTypeException e) {
+                errors.add(this.createBatchError(musicAddDTO, e.getMessage(), new ArrayList<>()));
+            }
+        }
+
+        List<Music> musicsToAdd = new ArrayList<>();
+
+        for (Map.Entry<MusicAddDTO, Future<MusicElementDTO>> fetchedMusic : fetchedMusics.entrySet()) {
+
+            MusicAddDTO musicAddDTO = fetchedMusic.getKey();
+
+            try {
+                MusicElementDTO musicElementDTO = fetchedMusic.getValue().get();
+
+                if (isNull(musicElementDTO)) {
+                    errors.add(this.createBatchError(musicAddDTO, "Music not exists", new ArrayList<>()));
+                    continue;
+                }
+
+                Music music = this.toMusic(musicElementDTO, musicAddDTO.getType());
+                List<String> musicErrors = this.musicEntityValidator.validateEntity(music);
+
+                if (Boolean.FALSE.equals(musicErrors.isEmpty())) {
+                    errors.add(this.createBatchError(musicAddDTO, "Bad request", musicErrors));
+                    continue;
+                }
+
+                musicsToAdd.add(music);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fetchedMusics.values().forEach(future -> future.cancel(true));
+                throw new ServiceNotAvailableException("Service not available");
+            } catch (ExecutionException e) {
+                log.error("Error on fetching music with api code {}", musicAddDTO.getApiCode(), e.getCause());
+                errors.add(this.createBatchError(musicAddDTO, e.getCause().getMessage(), new ArrayList<>()));
+            }
+        }
+
+        List<Music> addedMusics;
+
+        try {
+            addedMusics = this.musicRepository.saveAll(musicsToAdd);
+        } catch (DataIntegrityViolationException e) {
+            log.info("Some musics were added concurrently, adding them one by one");
+            addedMusics = musicsToAdd.stream().map(this::addIfAbsent).toList();
+        }
+
+        addedMusics.forEach(music -> musicsByKey.put(this.getMusicKey(music.getType(), music.getApiCode()), music));
+
+        return MusicBatchDTO
+                .builder()
+                .musics(distinctMusicAddDTOs
+                        .stream()
+                        .map(musicAddDTO -> musicsByKey.get(this.getMusicKey(musicAddDTO.getType(), musicAddDTO.getApiCode())))
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .map(music -> this.modelMapper.map(music, MusicDTO.class))
+                        .toList())
+                .errors(errors)
+                .build();
+    }
+
+    private Music toMusic(MusicElementDTO musicElementDTO, Integer type) {
+
         Music music = this.modelMapper.map(musicElementDTO, Music.class);
         music.setApiCode(musicElementDTO.getApiCode());
         music.setId(null);
         music.setType(type);
 
-        return this.add(music);
+        return music;
+    }
+
+    private String getMusicKey(Integer type, String apiCode) {
+        return type + ":" + apiCode;
+    }
+
+    private MusicBatchErrorDTO createBatchError(MusicAddDTO musicAddDTO, String message, List<String> errorList) {
+
+        return MusicBatchErrorDTO
+                .builder()
+                .apiCode(musicAddDTO.getApiCode())
+                .type(musicAddDTO.getType())
+                .message(message)
+                .errorList(errorList)
+                .build();
     }
 
     private Music add(Music music) throws CustomBadRequestException  {
@@ -132,7 +281,18 @@ public class MusicServiceImpl implements MusicService {
             throw new CustomBadRequestException("Bad request", musicList);
         }
 
-        return this.musicRepository.save(music);
+        return this.addIfAbsent(music);
+    }
+
+    private Music addIfAbsent(Music music) {
+
+        Music insertedMusic = this.musicRepository.insertIfAbsent(music);
+
+        if (nonNull(insertedMusic)) {
+            return insertedMusic;
+        }
+
+        return this.musicRepository.getByApiCodeAndType(music.getApiCode(), music.getType());
     }
 
     @Override
@@ -0,0 +1,10 @@
+package com.medialistmaker.music.service.tracklist;
+
+import com.medialistmaker.music.dto.externalapi.deezerapi.TrackListDTO;
+import com.medialistmaker.music.exception.badrequestexception.CustomBadRequestException;
+import com.medialistmaker.music.exception.servicenotavailableexception.ServiceNotAvailableException;
+
+public interface TrackListService {
+
+    TrackListDTO getByAlbumApiCode(String albumApiCode) throws CustomBadRequestException, ServiceNotAvailableException;
+}
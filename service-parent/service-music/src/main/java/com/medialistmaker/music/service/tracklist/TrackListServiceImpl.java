@@ -0,0 +1,71 @@
+package com.medialistmaker.music.service.tracklist;
+
+import com.medialistmaker.music.configuration.CacheConfiguration;
+import com.medialistmaker.music.connector.deezer.album.DeezerAlbumConnectorProxy;
+import com.medialistmaker.music.dto.externalapi.deezerapi.SongElementDTO;
+import com.medialistmaker.music.dto.externalapi.deezerapi.TrackListDTO;
+import com.medialistmaker.music.exception.badrequestexception.CustomBadRequestException;
+import com.medialistmaker.music.exception.servicenotavailableexception.ServiceNotAvailableException;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class TrackListServiceImpl implements TrackListService {
+
+    private static final Double MAX_DEEZER_RANK = 1000000D;
+
+    private final DeezerAlbumConnectorProxy deezerAlbumConnectorProxy;
+
+    public TrackListServiceImpl(
+            DeezerAlbumConnectorProxy deezerAlbumConnectorProxy
+    ) {
+        this.deezerAlbumConnectorProxy = deezerAlbumConnectorProxy;
+    }
+
+    @Override
+    @Cacheable(value = CacheConfiguration.DEEZER_TRACKLIST_CACHE, sync = true)
+    public TrackListDTO getByAlbumApiCode(String albumApiCode)
+            throws CustomBadRequestException, ServiceNotAvailableException {
+
+        List<SongElementDTO> deezerSongList = this.deezerAlbumConnectorProxy
+                .getTrackListByAlbumApiCode(albumApiCode)
+                .getSongList();
+
+        List<SongElementDTO> songList = new ArrayList<>(deezerSongList.size());
+        long totalDurationInMilli = 0;
+        long totalRank = 0;
+
+        for (SongElementDTO deezerSong : deezerSongList) {
+            SongElementDTO song = this.copyWithDurationInMilli(deezerSong);
+            totalDurationInMilli += song.getDuration();
+            totalRank += song.getRank();
+            songList.add(song);
+        }
+
+        long averageRank = songList.isEmpty() ? 0 : totalRank / songList.size();
+
+        TrackListDTO trackListDTO = new TrackListDTO();
+        trackListDTO.setSongList(songList);
+        trackListDTO.setTotalDurationInEpochMilli(totalDurationInMilli);
+        trackListDTO.setAlbumPopularityRate((averageRank / MAX_DEEZER_RANK) * 100);
+
+        return trackListDTO;
+    }
+
+    private SongElementDTO copyWithDurationInMilli(SongElementDTO songElementDTO) {
+
+        SongElementDTO song = new SongElementDTO();
+        song.setApiCode(songElementDTO.getApiCode());
+        song.setTitle(songElementDTO.getTitle());
+        song.setDuration(songElementDTO.getDuration() * 1000);
+        song.setRank(songElementDTO.getRank());
+        song.setTrackNumber(songElementDTO.getTrackNumber());
+        song.setPreview(songElementDTO.getPreview());
+        song.setArtist(songElementDTO.getArtist());
+
+        return song;
+    }
+}
@@ -0,0 +1,44 @@
+package com.medialistmaker.music.utils;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@Component
+public class SortingUtils {
+
+    public <T> List<T> sortByIdOrder(List<T> elements, List<Long> ids, Function<T, Long> idGetter) {
+
+        //Each id keeps its first position, so duplicated ids do not change the order and missing ids are skipped
+        Map<Long, Integer> positionsById = new HashMap<>();
+
+        int position = 0;
+
+        for (Long id : ids) {
+            positionsById.putIfAbsent(id, position);
+            position++;
+        }
+
+        List<T> sortedElements = new ArrayList<>(Collections.nCopies(position, null));
+        List<T> unrequestedElements = new ArrayList<>();
+
+        for (T element : elements) {
+            Integer elementPosition = positionsById.get(idGetter.apply(element));
+
+            if (isNull(elementPosition) || nonNull(sortedElements.get(elementPosition))) {
+                unrequestedElements.add(element);
+            } else {
+                sortedElements.set(elementPosition, element);
+            }
+        }
+
+        sortedElements.removeIf(Objects::isNull);
+        sortedElements.addAll(unrequestedElements);
+
+        return sortedElements;
+    }
+}
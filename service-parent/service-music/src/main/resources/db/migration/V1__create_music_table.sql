@@ -0,0 +1,13 @@
+CREATE SEQUENCE IF NOT EXISTS music_id_sequence START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS music
+(
+    id          BIGINT  NOT NULL,
+    title       VARCHAR(255),
+    artist_name VARCHAR(255),
+    released_at INTEGER NOT NULL,
+    picture_url VARCHAR(255),
+    api_code    VARCHAR(255),
+    type        INTEGER NOT NULL,
+    CONSTRAINT music_pkey PRIMARY KEY (id)
+);
@@ -0,0 +1,10 @@
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT api_code, type FROM music GROUP BY api_code, type HAVING COUNT(*) > 1) THEN
+            RAISE EXCEPTION 'music contains duplicated api codes, merge them and remap music_list_item.music_id in service-list before migrating';
+        END IF;
+    END
+$$;
+
+CREATE UNIQUE INDEX music_api_code_type_key ON music (api_code, type);
@@ -0,0 +1,113 @@
+package com.medialistmaker.music.connector.deezer;
+
+import com.medialistmaker.music.configuration.CacheConfiguration;
+import com.medialistmaker.music.connector.deezer.album.DeezerAlbumConnector;
+import com.medialistmaker.music.connector.deezer.album.DeezerAlbumConnectorProxy;
+import com.medialistmaker.music.connector.deezer.search.DeezerSearchConnector;
+import com.medialistmaker.music.connector.deezer.search.DeezerSearchConnectorProxy;
+import com.medialistmaker.music.dto.externalapi.deezerapi.AlbumElementDTO;
+import com.medialistmaker.music.dto.externalapi.deezerapi.search.list.AlbumSearchListDTO;
+import com.medialistmaker.music.dto.externalapi.deezerapi.search.list.SongSearchListDTO;
+import com.medialistmaker.music.exception.badrequestexception.CustomBadRequestException;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+
+@SpringJUnitConfig({CacheConfiguration.class, DeezerAlbumConnectorProxy.class, DeezerSearchConnectorProxy.class})
+class DeezerConnectorProxyCacheTest {
+
+    @Autowired
+    DeezerAlbumConnectorProxy deezerAlbumConnectorProxy;
+
+    @Autowired
+    DeezerSearchConnectorProxy deezerSearchConnectorProxy;
+
+    @MockBean
+    DeezerAlbumConnector deezerAlbumConnector;
+
+    @MockBean
+    DeezerSearchConnector deezerSearchConnector;
+
+    @Test
+    void givenConcurrentRequestsForSameApiCodeWhenGetByApiCodeShouldCallDeezerOnce() throws Exception {
+
+        AlbumElementDTO album = new AlbumElementDTO();
+        album.setApiCode("1");
+
+        Mockito.when(this.deezerAlbumConnector.getByApiCode("1")).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return album;
+        });
+
+        int requestCount = 50;
+        CountDownLatch startSignal = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(requestCount);
+        List<Future<AlbumElementDTO>> results = new ArrayList<>();
+
+        for (int i = 0; i < requestCount; i++) {
+            results.add(executorService.submit(() -> {
+                startSignal.await();
+                return this.deezerAlbumConnectorProxy.getByApiCode("1");
+            }));
+        }
+
+        startSignal.countDown();
+
+        for (Future<AlbumElementDTO> result : results) {
+            assertEquals(album, result.get());
+        }
+        executorService.shutdown();
+
+        Mockito.verify(this.deezerAlbumConnector, Mockito.times(1)).getByApiCode("1");
+    }
+
+    @Test
+    void givenApiErrorWhenGetByApiCodeShouldThrowBadRequestExceptionAndNotCacheIt() throws Exception {
+
+        AlbumElementDTO album = new AlbumElementDTO();
+        album.setApiCode("2");
+
+        Mockito
+                .when(this.deezerAlbumConnector.getByApiCode("2"))
+                .thenThrow(new CustomBadRequestException("Bad request", new ArrayList<>()))
+                .thenReturn(album);
+
+        assertThrows(CustomBadRequestException.class, () -> this.deezerAlbumConnectorProxy.getByApiCode("2"));
+        assertEquals(album, this.deezerAlbumConnectorProxy.getByApiCode("2"));
+    }
+
+    @Test
+    void givenSameQueryWhenSearchAlbumsAndSongsShouldCacheEachSearchSeparately() throws Exception {
+
+        Mockito
+                .when(this.deezerSearchConnector.getAlbumByQuery(anyString(), Mockito.any()))
+                .thenReturn(new AlbumSearchListDTO());
+
+        Mockito
+                .when(this.deezerSearchConnector.getSongByQuery(anyString()))
+                .thenReturn(new SongSearchListDTO());
+
+        this.deezerSearchConnectorProxy.getAlbumByQuery("query", 0);
+        this.deezerSearchConnectorProxy.getAlbumByQuery("query", 0);
+        this.deezerSearchConnectorProxy.getAlbumByQuery("query", 25);
+        SongSearchListDTO testGetSongByQuery = this.deezerSearchConnectorProxy.getSongByQuery("query");
+
+        Mockito.verify(this.deezerSearchConnector, Mockito.times(1)).getAlbumByQuery("query", 0);
+        Mockito.verify(this.deezerSearchConnector, Mockito.times(1)).getAlbumByQuery("query", 25);
+        Mockito.verify(this.deezerSearchConnector, Mockito.times(1)).getSongByQuery("query");
+        assertEquals(SongSearchListDTO.class, testGetSongByQuery.getClass());
+    }
+}
@@ -5,6 +5,9 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.medialistmaker.music.constant.MusicTypeConstant;
 import com.medialistmaker.music.domain.Music;
 import com.medialistmaker.music.dto.MusicAddDTO;
+import com.medialistmaker.music.dto.MusicBatchDTO;
+import com.medialistmaker.music.dto.MusicBatchErrorDTO;
+import com.medialistmaker.music.dto.MusicDTO;
 import com.medialistmaker.music.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.music.exception.notfoundexception.CustomNotFoundException;
 import com.medialistmaker.music.exception.servicenotavailableexception.ServiceNotAvailableException;
@@ -18,15 +21,19 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(MusicController.class)
@@ -41,6 +48,43 @@ class MusicControllerTest {
     @SpyBean
     ModelMapper modelMapper;
 
+    @Test
+    void givenIdListWhenStreamByIdsShouldStreamRelatedMusicDTOListAndReturn200() throws Exception {
+
+        Music firstMusic = Music
+                .builder()
+                .id(1L)
+                .title("First music")
+                .build();
+
+        Music secondMusic = Music
+                .builder()
+                .id(2L)
+                .title("Second music")
+                .build();
+
+        Mockito.when(this.musicService.streamByIds(List.of(1L, 2L))).thenReturn(Stream.of(firstMusic, secondMusic));
+
+        MvcResult asyncResult = this.mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .post("/api/musics/browse")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[1,2]")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mockMvc
+                .perform(asyncDispatch(asyncResult))
+                .andDo(print())
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$", hasSize(2)),
+                        jsonPath("$[0].id", equalTo(1)),
+                        jsonPath("$[1].title", equalTo("Second music"))
+                );
+    }
+
     @Test
     void givenIdListWhenBrowseByIdsShouldReturnRelatedMusicDTOListAndReturn200() throws Exception {
 
@@ -363,4 +407,33 @@ class MusicControllerTest {
                 );
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenMusicAddListWhenAddByApiCodesShouldReturnSavedMusicsAndErrorsAndReturn201() throws Exception {
+
+        MusicAddDTO musicAddDTO = new MusicAddDTO();
+        musicAddDTO.setApiCode("0001");
+        musicAddDTO.setType(MusicTypeConstant.TYPE_ALBUM);
+
+        MusicBatchDTO musicBatchDTO = MusicBatchDTO
+                .builder()
+                .musics(List.of(MusicDTO.builder().id(1L).apiCode("0001").type(MusicTypeConstant.TYPE_ALBUM).build()))
+                .errors(List.of(MusicBatchErrorDTO.builder().apiCode("0002").message("Music not exists").build()))
+                .build();
+
+        Mockito.when(this.musicService.addByApiCodes(anyList())).thenReturn(musicBatchDTO);
+
+        this.mockMvc.perform(
+                        MockMvcRequestBuilders
+                                .post("/api/musics/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(new ObjectMapper().writeValueAsString(List.of(musicAddDTO)))
+                )
+                .andDo(print())
+                .andExpectAll(
+                        status().isCreated(),
+                        jsonPath("$.musics", hasSize(1)),
+                        jsonPath("$.errors[0].apiCode", equalTo("0002"))
+                );
+    }
+}
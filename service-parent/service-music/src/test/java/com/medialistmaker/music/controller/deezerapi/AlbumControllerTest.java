@@ -13,8 +13,8 @@ import com.medialistmaker.music.dto.externalapi.deezerapi.search.list.AlbumSearc
 import com.medialistmaker.music.exception.badrequestexception.CustomBadRequestException;
 import com.medialistmaker.music.exception.notfoundexception.CustomNotFoundException;
 import com.medialistmaker.music.service.music.MusicServiceImpl;
+import com.medialistmaker.music.service.tracklist.TrackListService;
 import com.medialistmaker.music.utils.DeezerParameterFormatter;
-import com.medialistmaker.music.utils.MathUtils;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -45,7 +45,7 @@ class AlbumControllerTest {
     ListConnectorProxy listConnectorProxy;
 
     @MockBean
-    MathUtils mathUtils;
+    TrackListService trackListService;
 
     @MockBean
     DeezerParameterFormatter deezerFormatter;
@@ -243,11 +243,9 @@ class AlbumControllerTest {
         trackListDTO.setSongList(List.of(firstElement, secondElement, thirdElement));
 
         Mockito
-                .when(this.albumConnectorProxy.getTrackListByAlbumApiCode(anyString()))
+                .when(this.trackListService.getByAlbumApiCode(anyString()))
                 .thenReturn(trackListDTO);
 
-        Mockito.when(this.mathUtils.calculateAverageOfList(any())).thenReturn(40);
-
         this.mockMvc.perform(
                         MockMvcRequestBuilders
                                 .get(
@@ -265,7 +263,7 @@ class AlbumControllerTest {
     void givenApiCodeWhenGetTrackListByApiCodeAndApiErrorShouldThrowBadRequestExceptionAndReturn400() throws Exception {
 
         Mockito
-                .when(this.albumConnectorProxy.getTrackListByAlbumApiCode(anyString()))
+                .when(this.trackListService.getByAlbumApiCode(anyString()))
                 .thenThrow(new CustomBadRequestException("Bad request", new ArrayList<>()));
 
         this.mockMvc.perform(
@@ -1,7 +1,7 @@
 package com.medialistmaker.music.controller.deezerapi;
 
 import com.medialistmaker.music.connector.deezer.search.DeezerSearchConnectorProxy;
-import com.medialistmaker.music.connector.deezer.song.DeezerSongConnector;
+import com.medialistmaker.music.connector.deezer.song.DeezerSongConnectorProxy;
 import com.medialistmaker.music.dto.externalapi.deezerapi.ArtistElementDTO;
 import com.medialistmaker.music.dto.externalapi.deezerapi.SongElementDTO;
 import com.medialistmaker.music.dto.externalapi.deezerapi.search.item.SongSearchElementDTO;
@@ -31,7 +31,7 @@ class SongControllerTest {
     DeezerSearchConnectorProxy searchConnectorProxy;
 
     @MockBean
-    DeezerSongConnector songConnector;
+    DeezerSongConnectorProxy songConnectorProxy;
 
     @Autowired
     MockMvc mockMvc;
@@ -112,7 +112,7 @@ class SongControllerTest {
         song.setArtist(artist);
 
         Mockito
-                .when(this.songConnector.getByApiCode(anyString()))
+                .when(this.songConnectorProxy.getByApiCode(anyString()))
                 .thenReturn(song);
 
         this.mockMvc.perform(
@@ -132,7 +132,7 @@ class SongControllerTest {
     void givenApiCodeWhenGetByApiCodeAndApiErrorShouldThrowBadRequestExceptionAndReturn400() throws Exception {
 
         Mockito
-                .when(this.songConnector.getByApiCode(anyString()))
+                .when(this.songConnectorProxy.getByApiCode(anyString()))
                 .thenThrow(new CustomBadRequestException("Bad request", new ArrayList<>()));
 
         this.mockMvc.perform(
@@ -120,4 +120,86 @@ class MusicRepositoryTest {
         assertNotNull(testGetByApiCode);
         assertEquals(firstMusic.getId(), testGetByApiCode.getId());
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenNewApiCodeAndTypeWhenInsertIfAbsentShouldInsertAndReturnMusic() {
+
+        Music music = Music
+                .builder()
+                .title("First music")
+                .artistName("Artist 1")
+                .type(MusicTypeConstant.TYPE_ALBUM)
+                .apiCode("MUSIC1")
+                .pictureUrl("http://test.jpg")
+                .releasedAt(2000)
+                .build();
+
+        Music testInsertIfAbsent = this.musicRepository.insertIfAbsent(music);
+
+        assertNotNull(testInsertIfAbsent);
+        assertNotNull(testInsertIfAbsent.getId());
+        assertEquals(testInsertIfAbsent, this.musicRepository.getByApiCodeAndType("MUSIC1", MusicTypeConstant.TYPE_ALBUM));
+    }
+
+    @Test
+    void givenExistingApiCodeAndTypeWhenInsertIfAbsentShouldNotInsertAndReturnNull() {
+
+        Music album = Music
+                .builder()
+                .title("First music")
+                .artistName("Artist 1")
+                .type(MusicTypeConstant.TYPE_ALBUM)
+                .apiCode("MUSIC1")
+                .pictureUrl("http://test.jpg")
+                .releasedAt(2000)
+                .build();
+
+        this.musicRepository.saveAndFlush(album);
+
+        Music sameAlbum = Music
+                .builder()
+                .title("First music again")
+                .artistName("Artist 1")
+                .type(MusicTypeConstant.TYPE_ALBUM)
+                .apiCode("MUSIC1")
+                .pictureUrl("http://test.jpg")
+                .releasedAt(2000)
+                .build();
+
+        Music songWithSameApiCode = Music
+                .builder()
+                .title("First song")
+                .artistName("Artist 1")
+                .type(MusicTypeConstant.TYPE_SONG)
+                .apiCode("MUSIC1")
+                .pictureUrl("http://test.jpg")
+                .releasedAt(2000)
+                .build();
+
+        assertNull(this.musicRepository.insertIfAbsent(sameAlbum));
+        assertNotNull(this.musicRepository.insertIfAbsent(songWithSameApiCode));
+    }
+
+    @Test
+    void givenSeveralMusicsWhenInsertIfAbsentAndSaveShouldShareOnePooledIdRange() {
+
+        Music firstMusic = this.musicRepository.insertIfAbsent(this.createMusic("MUSIC1"));
+        Music secondMusic = this.musicRepository.insertIfAbsent(this.createMusic("MUSIC2"));
+        Music thirdMusic = this.musicRepository.saveAndFlush(this.createMusic("MUSIC3"));
+
+        assertEquals(firstMusic.getId() + 1, secondMusic.getId());
+        assertEquals(secondMusic.getId() + 1, thirdMusic.getId());
+    }
+
+    private Music createMusic(String apiCode) {
+        return Music
+                .builder()
+                .title("Music")
+                .artistName("Artist")
+                .type(MusicTypeConstant.TYPE_ALBUM)
+                .apiCode(apiCode)
+                .pictureUrl("http://test.jpg")
+                .releasedAt(2000)
+                .build();
+    }
+}
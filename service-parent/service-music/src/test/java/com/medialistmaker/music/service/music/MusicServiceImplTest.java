@@ -4,6 +4,8 @@ import com.medialistmaker.music.connector.deezer.album.DeezerAlbumConnectorProxy
 import com.medialistmaker.music.connector.deezer.song.DeezerSongConnectorProxy;
 import com.medialistmaker.music.constant.MusicTypeConstant;
 import com.medialistmaker.music.domain.Music;
+import com.medialistmaker.music.dto.MusicAddDTO;
+import com.medialistmaker.music.dto.MusicBatchDTO;
 import com.medialistmaker.music.dto.externalapi.deezerapi.AlbumElementDTO;
 import com.medialistmaker.music.dto.externalapi.deezerapi.ArtistElementDTO;
 import com.medialistmaker.music.dto.externalapi.deezerapi.SongElementDTO;
@@ -12,6 +14,7 @@ import com.medialistmaker.music.exception.notfoundexception.CustomNotFoundExcept
 import com.medialistmaker.music.exception.servicenotavailableexception.ServiceNotAvailableException;
 import com.medialistmaker.music.repository.MusicRepository;
 import com.medialistmaker.music.utils.CustomEntityValidator;
+import com.medialistmaker.music.utils.SortingUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -24,6 +27,11 @@ import org.modelmapper.ModelMapper;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -46,9 +54,44 @@ class MusicServiceImplTest {
     @Spy
     ModelMapper modelMapper;
 
+    @Spy
+    SortingUtils sortingUtils;
+
+    @Spy
+    ExecutorService deezerExecutor = Executors.newFixedThreadPool(2);
+
     @InjectMocks
     MusicServiceImpl musicService;
 
+    @Test
+    void givenLargeIdListWhenStreamByIdsShouldQueryByChunksAndReturnDistinctMusicsInRequestedOrder() {
+
+        List<Long> musicIds = new ArrayList<>(LongStream.rangeClosed(1, 1200).boxed().toList());
+        musicIds.add(1L);
+
+        Mockito.when(this.musicRepository.getByIds(anyList())).thenAnswer(invocation -> {
+            List<Long> chunkMusicIds = invocation.getArgument(0);
+            return chunkMusicIds.stream().map(id -> Music.builder().id(id).build()).toList();
+        });
+
+        List<Music> testStreamByIds = this.musicService.streamByIds(musicIds).toList();
+
+        Mockito.verify(this.musicRepository).getByIds(LongStream.rangeClosed(1, 500).boxed().toList());
+        Mockito.verify(this.musicRepository).getByIds(LongStream.rangeClosed(501, 1000).boxed().toList());
+        Mockito.verify(this.musicRepository).getByIds(LongStream.rangeClosed(1001, 1200).boxed().toList());
+        assertEquals(1200, testStreamByIds.size());
+        assertEquals(1L, testStreamByIds.get(0).getId());
+        assertEquals(1200L, testStreamByIds.get(1199).getId());
+    }
+
+    @Test
+    void givenIdListWhenStreamByIdsShouldNotQueryBeforeConsumption() {
+
+        this.musicService.streamByIds(List.of(1L, 2L));
+
+        Mockito.verify(this.musicRepository, Mockito.never()).getByIds(anyList());
+    }
+
     @Test
     void givenIdListWhenBrowseByIdsShouldReturnRelatedMusicList() {
 
@@ -210,7 +253,7 @@ class MusicServiceImplTest {
         Mockito.when(this.musicRepository.getByApiCodeAndType(anyString(), anyInt())).thenReturn(null);
         Mockito.when(this.albumConnectorProxy.getByApiCode(anyString())).thenReturn(albumElementDTO);
         Mockito.when(this.musicEntityValidator.validateEntity(any())).thenReturn(new ArrayList<>());
-        Mockito.when(this.musicRepository.save(music)).thenReturn(music);
+        Mockito.when(this.musicRepository.insertIfAbsent(music)).thenReturn(music);
 
         Music testAddByApiCode = this.musicService.addByApiCode(1, "test");
 
@@ -219,7 +262,7 @@ class MusicServiceImplTest {
         assertEquals(MusicTypeConstant.TYPE_ALBUM, testAddByApiCode.getType());
         Mockito.verify(this.musicRepository).getByApiCodeAndType(anyString(), anyInt());
         Mockito.verify(this.albumConnectorProxy).getByApiCode(anyString());
-        Mockito.verify(this.musicRepository).save(music);
+        Mockito.verify(this.musicRepository).insertIfAbsent(music);
     }
 
     @Test
@@ -246,7 +289,7 @@ class MusicServiceImplTest {
         Mockito.when(this.musicRepository.getByApiCodeAndType(anyString(), anyInt())).thenReturn(null);
         Mockito.when(this.songConnectorProxy.getByApiCode(anyString())).thenReturn(songElementDTO);
         Mockito.when(this.musicEntityValidator.validateEntity(any())).thenReturn(new ArrayList<>());
-        Mockito.when(this.musicRepository.save(music)).thenReturn(music);
+        Mockito.when(this.musicRepository.insertIfAbsent(music)).thenReturn(music);
 
         Music testAddByApiCode = this.musicService.addByApiCode(2, "test");
 
@@ -255,7 +298,7 @@ class MusicServiceImplTest {
         assertEquals(MusicTypeConstant.TYPE_SONG, testAddByApiCode.getType());
         Mockito.verify(this.musicRepository).getByApiCodeAndType(anyString(), anyInt());
         Mockito.verify(this.songConnectorProxy).getByApiCode(anyString());
-        Mockito.verify(this.musicRepository).save(music);
+        Mockito.verify(this.musicRepository).insertIfAbsent(music);
     }
 
     @Test
@@ -345,4 +388,112 @@ class MusicServiceImplTest {
         Mockito.verify(this.musicRepository).findById(anyLong());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenMixedMusicsWhenAddByApiCodesShouldSaveMissingMusicsAtOnceAndReportErrorsPerItem() throws Exception {
+
+        Music existingAlbum = Music
+                .builder()
+                .id(1L)
+                .title("Album")
+                .type(MusicTypeConstant.TYPE_ALBUM)
+                .apiCode("0001")
+                .build();
+
+        ArtistElementDTO artistElementDTO = new ArtistElementDTO();
+        artistElementDTO.setApiCode("0002");
+        artistElementDTO.setName("Artist");
+
+        SongElementDTO songElementDTO = new SongElementDTO();
+        songElementDTO.setApiCode("0001");
+        songElementDTO.setTitle("Song");
+        songElementDTO.setArtist(artistElementDTO);
+
+        Mockito.when(this.musicRepository.getByApiCodeIn(List.of("0001", "0001", "0003", "0004"))).thenReturn(List.of(existingAlbum));
+        Mockito.when(this.songConnectorProxy.getByApiCode("0001")).thenReturn(songElementDTO);
+        Mockito.when(this.albumConnectorProxy.getByApiCode("0003")).thenThrow(new CustomBadRequestException("Music not exists"));
+        Mockito.when(this.musicEntityValidator.validateEntity(any())).thenReturn(new ArrayList<>());
+        Mockito.when(this.musicRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        MusicBatchDTO testAddByApiCodes = this.musicService.addByApiCodes(List.of(
+                this.createMusicAddDTO(MusicTypeConstant.TYPE_ALBUM, "0001"),
+                this.createMusicAddDTO(MusicTypeConstant.TYPE_SONG, "0001"),
+                this.createMusicAddDTO(MusicTypeConstant.TYPE_ALBUM, "0003"),
+                this.createMusicAddDTO(3, "0004")
+        ));
+
+        Mockito.verify(this.albumConnectorProxy, Mockito.never()).getByApiCode("0001");
+        Mockito.verify(this.musicRepository).saveAll(argThat(musics -> ((List<Music>) musics).size() == 1));
+        Mockito.verify(this.musicRepository, Mockito.never()).save(any());
+        assertEquals(2, testAddByApiCodes.getMusics().size());
+        assertEquals(existingAlbum.getId(), testAddByApiCodes.getMusics().get(0).getId());
+        assertEquals(MusicTypeConstant.TYPE_SONG, testAddByApiCodes.getMusics().get(1).getType());
+        assertEquals(2, testAddByApiCodes.getErrors().size());
+        assertEquals("0004", testAddByApiCodes.getErrors().get(0).getApiCode());
+        assertEquals("0003", testAddByApiCodes.getErrors().get(1).getApiCode());
+        assertEquals("Music not exists", testAddByApiCodes.getErrors().get(1).getMessage());
+    }
+
+    @Test
+    void givenMusicsWhenAddByApiCodesShouldFetchMissingMusicsConcurrently() throws Exception {
+
+        CountDownLatch bothFetchesStarted = new CountDownLatch(2);
+
+        Mockito.when(this.musicRepository.getByApiCodeIn(anyList())).thenReturn(new ArrayList<>());
+        Mockito.when(this.albumConnectorProxy.getByApiCode(anyString())).thenAnswer(invocation -> {
+            bothFetchesStarted.countDown();
+
+            if (Boolean.FALSE.equals(bothFetchesStarted.await(5, TimeUnit.SECONDS))) {
+                return null;
+            }
+
+            AlbumElementDTO albumElementDTO = new AlbumElementDTO();
+            albumElementDTO.setApiCode(invocation.getArgument(0));
+            return albumElementDTO;
+        });
+        Mockito.when(this.musicEntityValidator.validateEntity(any())).thenReturn(new ArrayList<>());
+        Mockito.when(this.musicRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        MusicBatchDTO testAddByApiCodes = this.musicService.addByApiCodes(List.of(
+                this.createMusicAddDTO(MusicTypeConstant.TYPE_ALBUM, "0001"),
+                this.createMusicAddDTO(MusicTypeConstant.TYPE_ALBUM, "0002")
+        ));
+
+        assertEquals(2, testAddByApiCodes.getMusics().size());
+        assertTrue(testAddByApiCodes.getErrors().isEmpty());
+    }
+
+    private MusicAddDTO createMusicAddDTO(Integer type, String apiCode) {
+
+        MusicAddDTO musicAddDTO = new MusicAddDTO();
+        musicAddDTO.setType(type);
+        musicAddDTO.setApiCode(apiCode);
+
+        return musicAddDTO;
+    }
+
+    @Test
+    void givenApiCodeAndTypeAddedConcurrentlyWhenAddByApiCodeShouldReturnStoredMusic() throws Exception {
+
+        AlbumElementDTO albumElementDTO = new AlbumElementDTO();
+        albumElementDTO.setApiCode("0001");
+
+        Music storedMusic = Music
+                .builder()
+                .id(1L)
+                .type(MusicTypeConstant.TYPE_ALBUM)
+                .apiCode("0001")
+                .build();
+
+        Mockito.when(this.musicRepository.getByApiCodeAndType("0001", MusicTypeConstant.TYPE_ALBUM)).thenReturn(null, storedMusic);
+        Mockito.when(this.albumConnectorProxy.getByApiCode("0001")).thenReturn(albumElementDTO);
+        Mockito.when(this.musicEntityValidator.validateEntity(any())).thenReturn(new ArrayList<>());
+        Mockito.when(this.musicRepository.insertIfAbsent(any())).thenReturn(null);
+
+        Music testAddByApiCode = this.musicService.addByApiCode(MusicTypeConstant.TYPE_ALBUM, "0001");
+
+        Mockito.verify(this.musicRepository).insertIfAbsent(any());
+        Mockito.verify(this.musicRepository, Mockito.times(2)).getByApiCodeAndType("0001", MusicTypeConstant.TYPE_ALBUM);
+        assertEquals(storedMusic, testAddByApiCode);
+    }
+}
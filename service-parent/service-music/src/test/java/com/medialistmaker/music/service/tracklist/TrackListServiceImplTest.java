@@ -0,0 +1,91 @@
+package com.medialistmaker.music.service.tracklist;
+
+import com.medialistmaker.music.connector.deezer.album.DeezerAlbumConnectorProxy;
+import com.medialistmaker.music.dto.externalapi.deezerapi.SongElementDTO;
+import com.medialistmaker.music.dto.externalapi.deezerapi.TrackListDTO;
+import com.medialistmaker.music.exception.badrequestexception.CustomBadRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+
+@ExtendWith(MockitoExtension.class)
+class TrackListServiceImplTest {
+
+    @Mock
+    DeezerAlbumConnectorProxy albumConnectorProxy;
+
+    @InjectMocks
+    TrackListServiceImpl trackListService;
+
+    @Test
+    void givenAlbumApiCodeWhenGetByAlbumApiCodeShouldReturnTrackListWithStatsInMilliseconds() throws Exception {
+
+        SongElementDTO firstElement = new SongElementDTO();
+        firstElement.setApiCode("1");
+        firstElement.setDuration(180);
+        firstElement.setRank(995000);
+
+        SongElementDTO secondElement = new SongElementDTO();
+        secondElement.setApiCode("2");
+        secondElement.setDuration(200);
+        secondElement.setRank(994000);
+
+        SongElementDTO thirdElement = new SongElementDTO();
+        thirdElement.setApiCode("3");
+        thirdElement.setDuration(220);
+        thirdElement.setRank(997000);
+
+        TrackListDTO deezerTrackList = new TrackListDTO();
+        deezerTrackList.setSongList(List.of(firstElement, secondElement, thirdElement));
+
+        Mockito
+                .when(this.albumConnectorProxy.getTrackListByAlbumApiCode(anyString()))
+                .thenReturn(deezerTrackList);
+
+        TrackListDTO testGetByAlbumApiCode = this.trackListService.getByAlbumApiCode("XXX");
+
+        assertEquals(3, testGetByAlbumApiCode.getSongList().size());
+        assertEquals(180000, testGetByAlbumApiCode.getSongList().get(0).getDuration());
+        assertEquals("3", testGetByAlbumApiCode.getSongList().get(2).getApiCode());
+        assertEquals(600000L, testGetByAlbumApiCode.getTotalDurationInEpochMilli());
+        assertEquals(99.5333, testGetByAlbumApiCode.getAlbumPopularityRate(), 0.0001);
+        assertEquals(180, firstElement.getDuration());
+        assertNull(deezerTrackList.getTotalDurationInEpochMilli());
+    }
+
+    @Test
+    void givenAlbumWithoutSongWhenGetByAlbumApiCodeShouldReturnEmptyTrackListWithZeroStats() throws Exception {
+
+        TrackListDTO deezerTrackList = new TrackListDTO();
+        deezerTrackList.setSongList(new ArrayList<>());
+
+        Mockito
+                .when(this.albumConnectorProxy.getTrackListByAlbumApiCode(anyString()))
+                .thenReturn(deezerTrackList);
+
+        TrackListDTO testGetByAlbumApiCode = this.trackListService.getByAlbumApiCode("XXX");
+
+        assertTrue(testGetByAlbumApiCode.getSongList().isEmpty());
+        assertEquals(0L, testGetByAlbumApiCode.getTotalDurationInEpochMilli());
+        assertEquals(0D, testGetByAlbumApiCode.getAlbumPopularityRate());
+    }
+
+    @Test
+    void givenAlbumApiCodeWhenGetByAlbumApiCodeAndApiErrorShouldThrowBadRequestException() throws Exception {
+
+        Mockito
+                .when(this.albumConnectorProxy.getTrackListByAlbumApiCode(anyString()))
+                .thenThrow(new CustomBadRequestException("Bad request", new ArrayList<>()));
+
+        assertThrows(CustomBadRequestException.class, () -> this.trackListService.getByAlbumApiCode("XXX"));
+    }
+}
@@ -0,0 +1,56 @@
+package com.medialistmaker.music.utils;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortingUtilsBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int idCount;
+
+    private final SortingUtils sortingUtils = new SortingUtils();
+
+    private List<Long> ids;
+
+    private List<Long> elements;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SortingUtilsBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup
+    public void setUp() {
+        this.ids = new ArrayList<>(LongStream.rangeClosed(1, this.idCount).boxed().toList());
+        Collections.shuffle(this.ids, new Random(42));
+        this.elements = LongStream.rangeClosed(1, this.idCount).boxed().toList();
+    }
+
+    @Benchmark
+    public List<Long> sortWithIndexOf() {
+        List<Long> sortedElements = new ArrayList<>(this.elements);
+        sortedElements.sort(Comparator.comparingInt(id -> this.ids.indexOf(id)));
+        return sortedElements;
+    }
+
+    @Benchmark
+    public List<Long> sortByIdOrder() {
+        return this.sortingUtils.sortByIdOrder(this.elements, this.ids, Function.identity());
+    }
+}
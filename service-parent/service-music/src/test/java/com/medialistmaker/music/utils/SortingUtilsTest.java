@@ -0,0 +1,59 @@
+package com.medialistmaker.music.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SortingUtilsTest {
+
+    SortingUtils sortingUtils;
+
+    @BeforeEach
+    void beforeAllTests() {
+        this.sortingUtils = new SortingUtils();
+    }
+
+    @Test
+    void givenElementsAndIdsWhenSortByIdOrderShouldReturnElementsInIdsOrder() {
+
+        List<Long> testSortByIdOrder = this.sortingUtils.sortByIdOrder(
+                List.of(1L, 2L, 3L), List.of(3L, 1L, 2L), Function.identity()
+        );
+
+        assertEquals(List.of(3L, 1L, 2L), testSortByIdOrder);
+    }
+
+    @Test
+    void givenDuplicatedIdsWhenSortByIdOrderShouldKeepFirstPositionOfEachId() {
+
+        List<Long> testSortByIdOrder = this.sortingUtils.sortByIdOrder(
+                List.of(1L, 2L), List.of(2L, 1L, 2L), Function.identity()
+        );
+
+        assertEquals(List.of(2L, 1L), testSortByIdOrder);
+    }
+
+    @Test
+    void givenMissingElementsWhenSortByIdOrderShouldSkipMissingIds() {
+
+        List<Long> testSortByIdOrder = this.sortingUtils.sortByIdOrder(
+                List.of(3L, 1L), List.of(1L, 2L, 3L), Function.identity()
+        );
+
+        assertEquals(List.of(1L, 3L), testSortByIdOrder);
+    }
+
+    @Test
+    void givenUnrequestedElementsWhenSortByIdOrderShouldReturnThemLast() {
+
+        List<Long> testSortByIdOrder = this.sortingUtils.sortByIdOrder(
+                List.of(4L, 2L, 1L), List.of(2L, 1L), Function.identity()
+        );
+
+        assertEquals(List.of(2L, 1L, 4L), testSortByIdOrder);
+    }
+}